@@ -0,0 +1,69 @@
+package bench;
+
+import bot.BotPlayer;
+import model.Card;
+import model.Player;
+import model.events.GameEventBus;
+import util.PrincipalityGenerator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Benchmark boards from {@link PrincipalityGenerator}; the same width and seed
+ * always give the same boards, so numbers compare across runs.
+ */
+final class BoardFixtures {
+
+    // Half the settlements are cities and half the expansion slots are filled
+    static final double DENSITY = 0.5;
+
+    private static PrincipalityGenerator generator;
+
+    private BoardFixtures() {
+    }
+
+    /**
+     * Two bots sharing one event bus, each with a generated board. Bots answer
+     * the prompts some boards raise (e.g. Marketplace during production).
+     */
+    static List<Player> game(int cols, long seed) {
+        return generator().generateGame(cols, DENSITY, seed, BotPlayer::new);
+    }
+
+    /**
+     * Give every player a generated board (replacing whatever they had).
+     */
+    static List<Player> fill(List<Player> players, int cols, long seed) {
+        GameEventBus bus = new GameEventBus();
+        Random rnd = new Random(seed);
+        for (Player p : players)
+            p.setEventBus(bus);
+        for (int i = 0; i < players.size(); i++)
+            generator().generate(players.get(i), players.get((i + 1) % players.size()), cols, DENSITY, rnd);
+        return players;
+    }
+
+    /**
+     * Set every region on the board to the same stock level.
+     */
+    static void restock(Player p, int level) {
+        for (List<Card> row : p.principality)
+            for (Card c : row)
+                if (c != null && "Region".equalsIgnoreCase(c.type))
+                    c.regionProduction = level;
+    }
+
+    private static synchronized PrincipalityGenerator generator() {
+        if (generator == null) {
+            try {
+                generator = PrincipalityGenerator.fromCards("cards.json");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return generator;
+    }
+}
@@ -0,0 +1,79 @@
+package bench;
+
+import bot.BotPlayer;
+import controller.GameEngine;
+import controller.ReplenishManager;
+import model.CardCatalogue;
+import model.DeckBuilder;
+import model.Era;
+import model.GameDecks;
+import model.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * One full headless turn (dice, production, events, action, replenish,
+ * exchange, win check) between two bots, reported per turn.
+ *
+ * Each invocation plays a fresh game of {@link #TURNS} turns, built in the
+ * per-invocation setup (own decks, generated boards) outside the measured
+ * region. A single turn is far too short for Level.Invocation setup, whose
+ * timing overhead would distort it; a batch of turns keeps that overhead to a
+ * small share of each invocation. A win does not end the batch, so every
+ * invocation times the same number of turns.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BotTurnBenchmark {
+
+    // Turns per game: boards stay near the fixture size
+    static final int TURNS = 60;
+
+    @Param({ "5", "51", "501" })
+    public int cols;
+
+    private DeckBuilder builder;
+    private GameEngine engine;
+    private List<Player> players;
+    private long seed;
+
+    @Setup(Level.Trial)
+    public void loadCards() throws IOException {
+        builder = CardCatalogue.get("cards.json").deckBuilder(Era.INTRO);
+    }
+
+    @Setup(Level.Invocation)
+    public void newGame() {
+        GameDecks decks = builder.build(new Random(seed));
+        players = new ArrayList<>();
+        players.add(new BotPlayer());
+        players.add(new BotPlayer());
+        BoardFixtures.fill(players, cols, seed);
+        ReplenishManager replenish = new ReplenishManager();
+        for (Player p : players) {
+            p.setDecks(decks);
+            replenish.replenish(p);
+        }
+        engine = new GameEngine(new Random(seed++));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(TURNS)
+    public void playTurns(Blackhole bh) {
+        int current = 0;
+        for (int turn = 0; turn < TURNS; turn++) {
+            bh.consume(engine.playTurn(players, current));
+            current = 1 - current;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package bench;
+
+import controller.events.BrigandEvent;
+import model.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Brigand attack on full boards (every player over the 7-resource limit).
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BrigandBenchmark {
+
+    @Param({ "5", "51", "501" })
+    public int cols;
+
+    private final BrigandEvent brigand = new BrigandEvent();
+    private List<Player> players;
+
+    @Setup
+    public void setUp() {
+        players = BoardFixtures.game(cols, 42);
+    }
+
+    @Benchmark
+    public List<Player> handleEvent() {
+        for (Player p : players)
+            BoardFixtures.restock(p, 3);
+        brigand.handleEvent(players, players.get(0), players.get(1));
+        return players;
+    }
+}
@@ -0,0 +1,75 @@
+package bench;
+
+import model.Card;
+import model.CardCatalogue;
+import model.CardDefinition;
+import model.Era;
+import model.GameDecks;
+import org.openjdk.jmh.annotations.*;
+import util.CardLoader;
+import util.CardSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.Vector;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Card loading: cold parse of cards.json, snapshot read, the per-game
+ * loadCards call that instantiates from the cached catalogue, and building
+ * the per-game piles of an era from the cached deck builder.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CardLoaderBenchmark {
+
+    private Path snapshot;
+    private final Random random = new Random(42);
+
+    @Setup
+    public void setUp() throws IOException {
+        snapshot = Files.createTempFile("cards", ".bin");
+        CardSnapshot.write(CardCatalogue.get("cards.json"), "cards.json", snapshot);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(snapshot);
+    }
+
+    @Benchmark
+    public List<CardDefinition> parseJson() throws IOException {
+        return CardLoader.readDefinitions("cards.json");
+    }
+
+    @Benchmark
+    public CardCatalogue readSnapshot() throws IOException {
+        // Includes hashing cards.json to check the snapshot is current
+        return CardSnapshot.readIfCurrent(snapshot, "cards.json");
+    }
+
+    @Benchmark
+    public Vector<Card> loadBasic() throws IOException {
+        return CardLoader.loadCards("cards.json", "basic");
+    }
+
+    @Param({ "INTRO", "DARKNESS", "ENLIGHTENMENT" })
+    public Era era;
+
+    @Benchmark
+    public GameDecks buildEraDecks() throws IOException {
+        return CardCatalogue.get("cards.json").deckBuilder(era).build(random);
+    }
+
+    @Benchmark
+    public Vector<Card> loadAll() throws IOException {
+        return CardLoader.loadCards("cards.json", null);
+    }
+}
@@ -0,0 +1,27 @@
+package bench;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import util.CostParser;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost strings as they appear in cards.json (including separators and "any").
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CostParserBenchmark {
+
+    private final String[] costs = { "LW", "BGLW", "OOG", "A A", "L,B;W", "" };
+
+    @Benchmark
+    public void parseCost(Blackhole bh) {
+        for (String cost : costs)
+            bh.consume(CostParser.parseCost(cost));
+    }
+}
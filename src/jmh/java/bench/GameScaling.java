@@ -0,0 +1,345 @@
+package bench;
+
+import bot.BotGames;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import controller.GameEngine;
+import model.CardCatalogue;
+import model.DeckBuilder;
+import model.Era;
+import model.Player;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end scaling run: the same batch of seeded headless bot games played
+ * on 1, 2, 4, ... N threads. Reports games/sec, speedup, p50/p99 turn latency,
+ * GC time and allocation per game, and writes them as JSON so two commits can
+ * be compared; shared state between games (static piles, locked collections)
+ * shows up as efficiency falling with the thread count.
+ *
+ * Not a JMH benchmark: it needs per-turn samples and whole-run GC figures.
+ * Run with the {@code scaling} execution of the jmh profile:
+ *
+ * <pre>
+ * mvn -P jmh test-compile exec:exec@scaling
+ * mvn -P jmh test-compile exec:exec@scaling -Dscaling.args="--games 4000 --baseline old.json --fail"
+ * </pre>
+ *
+ * Options: {@code --games} per thread count (2000), {@code --threads} highest
+ * thread count (available processors), {@code --warmup} games (500),
+ * {@code --out} (target/scaling.json), {@code --baseline} earlier result to
+ * compare with, {@code --tolerance} allowed slowdown in percent (10),
+ * {@code --fail} exit with status 1 on a regression.
+ */
+public class GameScaling {
+
+    public static final int MAX_TURNS = 200;
+
+    /** One thread count. */
+    static final class Level {
+        int threads;
+        int games;
+        long turns;
+        double seconds;
+        double gamesPerSec;
+        double speedup;
+        double efficiency;
+        double turnP50Micros;
+        double turnP99Micros;
+        double turnMaxMicros;
+        long gcMillis;
+        long gcCount;
+        double allocatedKBPerGame;
+    }
+
+    /** The whole run, as written to JSON. */
+    static final class Run {
+        String label;
+        String timestamp;
+        String javaVersion;
+        int cpus;
+        int gamesPerLevel;
+        int maxTurns;
+        List<Level> levels = new ArrayList<>();
+    }
+
+    // Per-worker turn samples (nanoseconds), grown as needed
+    private static final class Samples {
+        long[] values = new long[4096];
+        int size;
+
+        void add(long v) {
+            if (size == values.length)
+                values = Arrays.copyOf(values, size * 2);
+            values[size++] = v;
+        }
+    }
+
+    private final DeckBuilder builder;
+
+    GameScaling(DeckBuilder builder) {
+        this.builder = builder;
+    }
+
+    /**
+     * Play {@code games} games (seeds 0 .. games - 1) on {@code threads} threads.
+     */
+    Level measure(int threads, int games) throws InterruptedException {
+        AtomicInteger next = new AtomicInteger();
+        Samples[] samples = new Samples[threads];
+        long[] allocated = new long[threads];
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            samples[id] = new Samples();
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    long before = threadAllocatedBytes();
+                    for (int g = next.getAndIncrement(); g < games; g = next.getAndIncrement())
+                        play(g, samples[id]);
+                    allocated[id] = threadAllocatedBytes() - before;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }, "scaling-" + t);
+            worker.start();
+        }
+
+        long gcTime = gcMillis(), gcCount = gcCount();
+        long t0 = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - t0;
+
+        Level level = new Level();
+        level.threads = threads;
+        level.games = games;
+        level.seconds = elapsed / 1e9;
+        level.gamesPerSec = games / level.seconds;
+        level.gcMillis = gcMillis() - gcTime;
+        level.gcCount = gcCount() - gcCount;
+
+        Samples all = new Samples();
+        long bytes = 0;
+        for (int t = 0; t < threads; t++) {
+            for (int i = 0; i < samples[t].size; i++)
+                all.add(samples[t].values[i]);
+            bytes += allocated[t];
+        }
+        long[] turns = Arrays.copyOf(all.values, all.size);
+        Arrays.sort(turns);
+        level.turns = turns.length;
+        level.turnP50Micros = percentile(turns, 0.50) / 1e3;
+        level.turnP99Micros = percentile(turns, 0.99) / 1e3;
+        level.turnMaxMicros = turns.length == 0 ? 0 : turns[turns.length - 1] / 1e3;
+        level.allocatedKBPerGame = bytes / 1024.0 / games;
+        return level;
+    }
+
+    private void play(long seed, Samples samples) {
+        Random rng = new Random(seed);
+        List<Player> players = BotGames.newGame(builder, rng);
+
+        GameEngine engine = new GameEngine(rng);
+        int current = rng.nextBoolean() ? 0 : 1;
+        for (int turn = 0; turn < MAX_TURNS; turn++) {
+            long t0 = System.nanoTime();
+            boolean won = engine.playTurn(players, current);
+            samples.add(System.nanoTime() - t0);
+            if (won)
+                return;
+            current = (current + 1) % players.size();
+        }
+    }
+
+    private static long percentile(long[] sorted, double q) {
+        if (sorted.length == 0)
+            return 0;
+        int i = (int) Math.ceil(q * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(sorted.length - 1, i))];
+    }
+
+    private static long gcMillis() {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            sum += Math.max(0, gc.getCollectionTime());
+        return sum;
+    }
+
+    private static long gcCount() {
+        long sum = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans())
+            sum += Math.max(0, gc.getCollectionCount());
+        return sum;
+    }
+
+    private static long threadAllocatedBytes() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+            com.sun.management.ThreadMXBean bean =
+                    (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+            if (bean.isThreadAllocatedMemorySupported())
+                return bean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return 0;
+    }
+
+    /**
+     * 1, 2, 4, ... up to and including {@code max}.
+     */
+    static List<Integer> threadCounts(int max) {
+        List<Integer> counts = new ArrayList<>();
+        for (int t = 1; t < max; t *= 2)
+            counts.add(t);
+        counts.add(max);
+        return counts;
+    }
+
+    // ---------- Reports ----------
+
+    static String table(Run run) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%7s %10s %8s %6s %9s %9s %9s %8s %6s %10s%n", "threads", "games/s",
+                "speedup", "eff", "p50 us", "p99 us", "max us", "gc ms", "gcs", "KB/game"));
+        for (Level l : run.levels)
+            sb.append(String.format(Locale.ROOT, "%7d %10.1f %8.2f %5.0f%% %9.1f %9.1f %9.1f %8d %6d %10.1f%n",
+                    l.threads, l.gamesPerSec, l.speedup, 100 * l.efficiency, l.turnP50Micros, l.turnP99Micros,
+                    l.turnMaxMicros, l.gcMillis, l.gcCount, l.allocatedKBPerGame));
+        return sb.toString();
+    }
+
+    /**
+     * Compare with a baseline run, thread count by thread count. Throughput or
+     * efficiency lower, or p99 higher, by more than {@code tolerance} percent
+     * is a regression.
+     *
+     * @return The regressions found (empty if none)
+     */
+    static List<String> compare(Run baseline, Run current, double tolerance, StringBuilder report) {
+        List<String> regressions = new ArrayList<>();
+        report.append(String.format(Locale.ROOT, "vs %s (%s)%n", baseline.label, baseline.timestamp));
+        report.append(String.format(Locale.ROOT, "%7s %12s %12s %12s%n", "threads", "games/s", "efficiency",
+                "p99"));
+        double limit = tolerance / 100;
+        for (Level now : current.levels) {
+            Level then = null;
+            for (Level l : baseline.levels)
+                if (l.threads == now.threads)
+                    then = l;
+            if (then == null)
+                continue;
+            double throughput = change(now.gamesPerSec, then.gamesPerSec);
+            double efficiency = change(now.efficiency, then.efficiency);
+            double p99 = change(now.turnP99Micros, then.turnP99Micros);
+            report.append(String.format(Locale.ROOT, "%7d %+11.1f%% %+11.1f%% %+11.1f%%%n", now.threads,
+                    100 * throughput, 100 * efficiency, 100 * p99));
+            if (throughput < -limit)
+                regressions.add(String.format(Locale.ROOT, "%d threads: games/s %.1f -> %.1f", now.threads,
+                        then.gamesPerSec, now.gamesPerSec));
+            if (efficiency < -limit)
+                regressions.add(String.format(Locale.ROOT, "%d threads: efficiency %.0f%% -> %.0f%%", now.threads,
+                        100 * then.efficiency, 100 * now.efficiency));
+            if (p99 > limit)
+                regressions.add(String.format(Locale.ROOT, "%d threads: p99 turn %.1f us -> %.1f us", now.threads,
+                        then.turnP99Micros, now.turnP99Micros));
+        }
+        return regressions;
+    }
+
+    private static double change(double now, double then) {
+        return then == 0 ? 0 : now / then - 1;
+    }
+
+    private static String gitRevision() {
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "--short", "HEAD").redirectErrorStream(true).start();
+            String out = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            return git.waitFor() == 0 && !out.isEmpty() ? out : "unknown";
+        } catch (IOException e) {
+            return "unknown";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "unknown";
+        }
+    }
+
+    private static String option(String[] args, String name, String def) {
+        for (int i = 0; i < args.length; i++)
+            if (args[i].equals(name))
+                return i + 1 < args.length ? args[i + 1] : "";
+        return def;
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        int games = Integer.parseInt(option(args, "--games", "2000"));
+        int maxThreads = Integer.parseInt(option(args, "--threads",
+                Integer.toString(Runtime.getRuntime().availableProcessors())));
+        int warmup = Integer.parseInt(option(args, "--warmup", "500"));
+        Path out = Paths.get(option(args, "--out", "target/scaling.json"));
+        String baselinePath = option(args, "--baseline", null);
+        double tolerance = Double.parseDouble(option(args, "--tolerance", "10"));
+        boolean fail = Arrays.asList(args).contains("--fail");
+
+        GameScaling scaling = new GameScaling(CardCatalogue.get("cards.json").deckBuilder(Era.INTRO));
+        scaling.measure(Math.max(1, maxThreads), warmup); // JIT warm-up, not reported
+
+        Run run = new Run();
+        run.label = option(args, "--label", gitRevision());
+        run.timestamp = Instant.now().toString();
+        run.javaVersion = System.getProperty("java.version");
+        run.cpus = Runtime.getRuntime().availableProcessors();
+        run.gamesPerLevel = games;
+        run.maxTurns = MAX_TURNS;
+        for (int threads : threadCounts(Math.max(1, maxThreads))) {
+            System.gc(); // start every level from a clean heap
+            Level level = scaling.measure(threads, games);
+            Level single = run.levels.isEmpty() ? level : run.levels.get(0);
+            level.speedup = level.gamesPerSec / single.gamesPerSec;
+            level.efficiency = level.speedup / threads;
+            run.levels.add(level);
+        }
+        System.out.print(table(run));
+
+        Gson gson = new GsonBuilder().setPrettyPrinting().create();
+        if (out.getParent() != null)
+            Files.createDirectories(out.getParent());
+        try (Writer w = Files.newBufferedWriter(out, StandardCharsets.UTF_8)) {
+            gson.toJson(run, w);
+        }
+        System.out.println("results: " + out);
+
+        if (baselinePath != null) {
+            Run baseline;
+            try (Reader r = Files.newBufferedReader(Paths.get(baselinePath), StandardCharsets.UTF_8)) {
+                baseline = gson.fromJson(r, Run.class);
+            }
+            StringBuilder report = new StringBuilder();
+            List<String> regressions = compare(baseline, run, tolerance, report);
+            System.out.print(report);
+            for (String r : regressions)
+                System.out.println("REGRESSION " + r);
+            if (fail && !regressions.isEmpty())
+                System.exit(1);
+        }
+    }
+}
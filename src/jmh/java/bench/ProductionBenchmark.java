@@ -0,0 +1,45 @@
+package bench;
+
+import controller.ProductionManager;
+import model.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * One production roll for both players. Stock is reset before each roll so
+ * the benchmark measures real gains rather than the saturated 3/3 path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductionBenchmark {
+
+    @Param({ "5", "51", "501" })
+    public int cols;
+
+    private final ProductionManager production = new ProductionManager();
+    private List<Player> players;
+    private Function<Player, Player> opponentOf;
+    private int face;
+
+    @Setup
+    public void setUp() {
+        players = BoardFixtures.game(cols, 42);
+        opponentOf = p -> p == players.get(0) ? players.get(1) : players.get(0);
+    }
+
+    @Benchmark
+    public List<Player> applyProduction() {
+        for (Player p : players)
+            BoardFixtures.restock(p, 0);
+        face = face % 6 + 1;
+        production.applyProduction(face, players, opponentOf);
+        return players;
+    }
+}
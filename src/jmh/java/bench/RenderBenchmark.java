@@ -0,0 +1,47 @@
+package bench;
+
+import model.Card;
+import model.Player;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Board rendering: unchanged board (cached grid) and a board where one
+ * region's stock changes between renders.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RenderBenchmark {
+
+    @Param({ "5", "51", "501" })
+    public int cols;
+
+    private Player player;
+    private Player opponent;
+    private Card region;
+
+    @Setup
+    public void setUp() {
+        List<Player> players = BoardFixtures.game(cols, 42);
+        player = players.get(0);
+        opponent = players.get(1);
+        region = player.getCard(1, 0);
+    }
+
+    @Benchmark
+    public String unchangedBoard() {
+        return player.printPrincipality(opponent);
+    }
+
+    @Benchmark
+    public String afterStockChange() {
+        region.regionProduction = (region.regionProduction + 1) % 4;
+        return player.printPrincipality(opponent);
+    }
+}
@@ -0,0 +1,52 @@
+package bench;
+
+import model.Player;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resource accounting on the board: counting, removing and restoring stock.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResourceBenchmark {
+
+    @Param({ "5", "51", "501" })
+    public int cols;
+
+    private Player player;
+
+    @Setup
+    public void setUp() {
+        player = BoardFixtures.game(cols, 42).get(0);
+        BoardFixtures.restock(player, 2);
+    }
+
+    @Benchmark
+    public void getResourceCount(Blackhole bh) {
+        bh.consume(player.getResourceCount("Brick"));
+        bh.consume(player.getResourceCount("Gold"));
+        bh.consume(player.getResourceCount("Any"));
+    }
+
+    @Benchmark
+    public boolean removeThenSet() {
+        int before = player.getResourceCount("Lumber");
+        boolean ok = player.removeResource("Lumber", 2);
+        player.setResourceCount("Lumber", before);
+        return ok;
+    }
+
+    @Benchmark
+    public int setResourceCount() {
+        player.setResourceCount("Ore", 1);
+        player.setResourceCount("Ore", 3);
+        return player.getResourceCount("Ore");
+    }
+}
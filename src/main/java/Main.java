@@ -1,9 +1,16 @@
 import model.*;
 import controller.*;
+import snapshot.GameSnapshot;
+import snapshot.Snapshotter;
+import util.ConsoleInput;
 
+import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.net.Socket;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.util.*;
 
 /**
@@ -13,21 +20,6 @@ import java.util.*;
  */
 public class Main {
 
-    private final ProductionManager productionManager = new ProductionManager();
-    private final ReplenishManager replenishManager = new ReplenishManager();
-    private final ExchangeManager exchangeManager = new ExchangeManager();
-    private final EventResolver eventResolver = new EventResolver();
-    private final ActionManager actionManager = new ActionManager();
-    private final Random rng = new Random();
-
-    // Event die faces
-    private static final int EV_BRIGAND = EventType.BRIGAND;
-    private static final int EV_TRADE = EventType.TRADE;
-    private static final int EV_CELEB = EventType.CELEBRATION;
-    private static final int EV_PLENTY = EventType.PLENTIFUL_HARVEST;
-    private static final int EV_EVENT_A = EventType.EVENT_A;
-    private static final int EV_EVENT_B = EventType.EVENT_B;
-
     /**
      * Application entry point.
      * Supports three modes:
@@ -35,22 +27,49 @@ public class Main {
      * - online: Connect to remote game as client
      * - default: Start local game waiting for network opponent
      *
-     * @param args Command line arguments [bot|online]
+     * With "--snapshot file" a local game keeps that file up to date after
+     * every turn; if the file already exists (the last run crashed), the game
+     * resumes from it instead of starting over. The file is removed when the
+     * game ends.
+     *
+     * @param args Command line arguments [bot|online] [--snapshot file]
      */
     public static void main(String[] args) {
         Main main = new Main();
         try {
-            if ((args.length == 0 || (args.length > 0 && args[0].equalsIgnoreCase("bot")))) {
+            List<String> rest = new ArrayList<>(Arrays.asList(args));
+            Path snapshot = null;
+            int at = rest.indexOf("--snapshot");
+            if (at >= 0 && at + 1 < rest.size()) {
+                snapshot = Paths.get(rest.remove(at + 1));
+                rest.remove(at);
+            }
+            if ((rest.isEmpty() || rest.get(0).equalsIgnoreCase("bot"))) {
                 Card.loadBasicCards("cards.json");
                 Server server = new Server();
-                server.start(args.length == 0 ? false : true); // with bot
-                main.runGameLoop(server.getPlayers());
+                boolean withBot = !rest.isEmpty();
+                if (snapshot != null && Files.exists(snapshot)) {
+                    server.seat(withBot);
+                    GameSnapshot.Restored restored = GameSnapshot.read(snapshot, server.getPlayers());
+                    System.out.println("Resuming the game saved in " + snapshot + " at turn " + restored.turn);
+                    main.runGameLoop(restored.players, new GameEngine(restored.engineRandom), restored.current,
+                            restored.turn, snapshot);
+                } else {
+                    server.start(withBot);
+                    if (snapshot == null) {
+                        main.runGameLoop(server.getPlayers());
+                    } else {
+                        GameEngine engine = new GameEngine();
+                        int current = engine.getRandom().nextBoolean() ? 0 : 1; // random start
+                        main.runGameLoop(server.getPlayers(), engine, current, 0, snapshot);
+                    }
+                }
                 return;
-            } else if (args.length > 0 && args[0].equalsIgnoreCase("online")) {
+            } else if (rest.get(0).equalsIgnoreCase("online")) {
                 main.runClient();
                 return; // run client mode
             } else {
-                System.out.println("Usage: java Main [optional: bot|online]");
+                System.out.println("Usage: java Main [optional: bot|online] [--snapshot file]");
                 return;
             }
         } catch (Exception e) {
@@ -60,118 +79,32 @@ public class Main {
     }
 
     /**
-     * Main gameplay loop.
-     * Handles turn progression, dice rolling, events, actions, and win conditions.
+     * Main gameplay loop; delegates to the GameEngine.
      *
      * @param players List of players in the game
      */
     public void runGameLoop(List<Player> players) {
-        int current = Math.random() < 0.5 ? 0 : 1; // random start
-        // print the players principality and hand
-        for (int i = 0; i < players.size(); i++) {
-            Player currentPlayer = players.get(i);
-            Player opponentPlayer = players.get((i + 1) % players.size());
-            currentPlayer.sendMessage("Opponent's starting board:");
-            currentPlayer.sendMessage(
-                    "\t\t" + opponentPlayer.printPrincipality(currentPlayer).replace("\n", "\n\t\t"));
-            currentPlayer.sendMessage("Your starting board:");
-            currentPlayer.sendMessage(currentPlayer.printPrincipality(opponentPlayer));
-            currentPlayer.sendMessage("Your starting hand:");
-            currentPlayer.sendMessage(currentPlayer.printHand());
-        }
-        while (true) {
-            Player active = players.get(current);
-            Player other = players.get((current + 1) % players.size());
-
-            // -------- Part 1: Roll Dice --------
-            int eventFace = rollEventDie(active, players);
-            int prodFace = rollProductionDie(active, players);
-
-            if (eventFace == EV_BRIGAND) { // Brigand first, then production
-                eventResolver.resolveEvent(eventFace, players, active, other);
-                productionManager.applyProduction(prodFace, players, p -> opponentOf(p, players));
-            } else { // production first, then event
-                productionManager.applyProduction(prodFace, players, p -> opponentOf(p, players));
-                eventResolver.resolveEvent(eventFace, players, active, other);
-            }
-
-            // print the players principality and hand
-            for (int i = 0; i < players.size(); i++) {
-                Player currentPlayer = players.get(i);
-                Player opponentPlayer = players.get((i + 1) % players.size());
-                currentPlayer.sendMessage("Opponent's board:");
-                currentPlayer.sendMessage(
-                        "\t\t" + opponentPlayer.printPrincipality(currentPlayer).replace("\n", "\n\t\t"));
-                currentPlayer.sendMessage("Your board:");
-                currentPlayer.sendMessage(currentPlayer.printPrincipality(opponentPlayer));
-                currentPlayer.sendMessage("Your hand:");
-                currentPlayer.sendMessage(currentPlayer.printHand());
-            }
-
-            // -------- Part 2: Action Phase (very small) --------
-            actionManager.actionPhase(active, other, s -> broadcast(s, players));
-
-            // -------- Part 3: Replenish Hand --------
-            replenishManager.replenish(active);
-
-            // -------- Part 4: Exchange (simplified) --------
-            exchangeManager.exchangePhase(active, s -> broadcast(s, players));
-
-            // -------- Part 5: Scoring & Win Check --------
-            if (checkWinEndOfTurn(active, other, players))
-                break;
-
-            current = (current + 1) % players.size();
-        }
+        new GameEngine().runGameLoop(players);
     }
 
-    private boolean checkWinEndOfTurn(Player active, Player other, List<Player> players) {
-        int score = active.currentScoreAgainst(other);
-        if (score >= 7) {
-            broadcast("winner: Player " + players.indexOf(active)
-                    + " wins with " + score + " VP (incl. advantage tokens)!", players);
-            return true;
-        }
-        return false;
-    }
-
-    // ---------- Dice ----------
-    private int rollEventDie(Player active, List<Player> players) {
-        // Brigitta lets the player fix production die, not event die — but we keep the
-        // hook simple
-        int face = 1 + rng.nextInt(6);
-        broadcast("[EventDie] -> " + face, players);
-        return face;
-    }
-
-    private int rollProductionDie(Player active, List<Player> players) {
-        int face = 1 + rng.nextInt(6);
-        if (active.flags.contains("BRIGITTA")) {
-            active.sendMessage("PROMPT: Brigitta active -  choose production die [1-6]:");
-            try {
-                int forced = Integer.parseInt(active.receiveMessage().trim());
-                if (forced >= 1 && forced <= 6)
-                    face = forced;
-            } catch (Exception ignored) {
-            }
-            active.flags.remove("BRIGITTA");
-        }
-        broadcast("[ProductionDie] -> " + face, players);
-        return face;
-    }
-
-    // ---------- Helper Methods ----------
-    private Player opponentOf(Player p, List<Player> players) {
-        return (p == players.get(0)) ? players.get(1) : players.get(0);
-    }
-
-    private void broadcast(String s, List<Player> players) {
-        // send to each player
-        for (Player p : players) {
-            if (p != null) {
-                p.sendMessage(s);
-            }
+    /**
+     * Gameplay loop that writes a snapshot after every turn, so a crashed game
+     * can be resumed from the file; the file is deleted once the game is won.
+     *
+     * @param players List of players in the game
+     * @param engine Engine to play with (its dice source is part of the snapshot)
+     * @param current Index of the player whose turn is next
+     * @param turn Turns already played
+     * @param snapshot Snapshot file
+     * @throws IOException if a snapshot could not be written
+     */
+    public void runGameLoop(List<Player> players, GameEngine engine, int current, int turn, Path snapshot)
+            throws IOException {
+        try (Snapshotter snapshotter = new Snapshotter(snapshot, engine)) {
+            snapshotter.attach(players, turn);
+            engine.resumeGameLoop(players, current);
         }
+        Files.deleteIfExists(snapshot);
     }
 
     /**
@@ -196,7 +129,6 @@ public class Main {
         outToServer.flush(); // send stream header immediately
         ObjectInputStream inFromServer = new ObjectInputStream(socket.getInputStream());
 
-        Scanner console = new Scanner(System.in);
         try {
             while (true) {
                 Object obj = inFromServer.readObject();
@@ -215,7 +147,7 @@ public class Main {
                 if (msg.startsWith("PROMPT:")) {
                     System.out.print("> ");
                     System.out.flush();
-                    String answer = console.nextLine();
+                    String answer = ConsoleInput.nextLine();
                     outToServer.writeObject(answer);
                     outToServer.flush(); // push it now
                     outToServer.reset(); // avoid OOS caching of repeated String instances
@@ -227,7 +159,6 @@ public class Main {
             }
         } finally {
             try {
-                console.close();
                 inFromServer.close();
                 outToServer.close();
                 socket.close();
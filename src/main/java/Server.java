@@ -1,5 +1,7 @@
 import model.*;
+import model.events.GameEventBus;
 import network.OnlinePlayer;
+import bot.BotPlayer;
 import controller.*;
 
 import java.io.ObjectInputStream;
@@ -32,13 +34,23 @@ public class Server {
      * @throws Exception if server setup or connection fails
      */
     public void start(boolean withBot) throws Exception {
+        seat(withBot);
+        setUp();
+    }
+
+    /**
+     * Creates the seats (and waits for the remote player in network mode)
+     * without laying out any board, e.g. to restore a snapshot into them.
+     *
+     * @param withBot true to create a bot opponent, false to wait for network connection
+     * @throws Exception if server setup or connection fails
+     */
+    public void seat(boolean withBot) throws Exception {
         // 1) local console player
         players.add(new Player());
         // 2) bot player
         if (withBot) {
-            Player bot = new Player();
-            bot.isBot = true;
-            players.add(bot);
+            players.add(new BotPlayer());
         }
         // 3) networked players
         else {
@@ -54,6 +66,16 @@ public class Server {
             System.out.println("Connected Online Player ");
             op.sendMessage("WELCOME Online Player ");
         }
+        // One event bus per game so subscribers see both principalities
+        GameEventBus events = new GameEventBus();
+        for (Player p : players)
+            p.setEventBus(events);
+    }
+
+    /**
+     * Lays out the starting principalities and deals the opening hands.
+     */
+    public void setUp() {
         initManager.initPrincipality(players);
         // Initial replenish (3 cards each)
         for (int i = 0; i < players.size(); i++) {
@@ -0,0 +1,105 @@
+package analytics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Per-card counters for a batch of games. Each simulation thread owns one
+ * (no locking on the hot path); batches are combined with {@link #merge}.
+ *
+ * "Drawn", "played" and "held" are counted once per player-game (a card drawn
+ * twice in one game counts once), together with how many of those players won.
+ * Total draws and plays are counted separately.
+ */
+public final class CardAccumulator {
+
+    // Counter fields per card
+    public static final int DRAWS = 0; // cards drawn into a hand (every copy)
+    public static final int DRAWN = 1; // player-games in which the card was drawn
+    public static final int DRAWN_WINS = 2;
+    public static final int PLAYS = 3; // cards played from a hand (every copy)
+    public static final int PLAYED = 4; // player-games in which the card was played
+    public static final int PLAYED_WINS = 5;
+    public static final int HELD = 6; // player-games ending with the card still in hand
+    public static final int HELD_WINS = 7;
+    static final int FIELDS = 8;
+
+    private final List<String> names;
+    private final Map<String, Integer> ids;
+    final long[] counts;
+    long games, playerGames, playerWins;
+
+    /**
+     * @param names Card names to track, id = position
+     */
+    public CardAccumulator(List<String> names) {
+        this.names = Collections.unmodifiableList(new ArrayList<>(names));
+        Map<String, Integer> m = new HashMap<>();
+        for (int i = 0; i < names.size(); i++)
+            m.putIfAbsent(names.get(i), i);
+        this.ids = m;
+        this.counts = new long[names.size() * FIELDS];
+    }
+
+    /**
+     * Fresh accumulator for the same cards (shares the read-only name index).
+     */
+    public CardAccumulator(CardAccumulator template) {
+        this.names = template.names;
+        this.ids = template.ids;
+        this.counts = new long[names.size() * FIELDS];
+    }
+
+    public List<String> names() {
+        return names;
+    }
+
+    /**
+     * Card id, or -1 for a card that is not tracked.
+     */
+    public int id(String name) {
+        Integer id = name == null ? null : ids.get(name);
+        return id == null ? -1 : id;
+    }
+
+    void add(int id, int field, long n) {
+        counts[id * FIELDS + field] += n;
+    }
+
+    public long get(String name, int field) {
+        int id = id(name);
+        return id < 0 ? 0 : counts[id * FIELDS + field];
+    }
+
+    public long get(int id, int field) {
+        return counts[id * FIELDS + field];
+    }
+
+    public long games() {
+        return games;
+    }
+
+    public long playerGames() {
+        return playerGames;
+    }
+
+    public long playerWins() {
+        return playerWins;
+    }
+
+    /**
+     * Add another accumulator's counts to this one (same card list).
+     */
+    public void merge(CardAccumulator other) {
+        if (other.names != names && !other.names.equals(names))
+            throw new IllegalArgumentException("Accumulators track different cards");
+        for (int i = 0; i < counts.length; i++)
+            counts[i] += other.counts[i];
+        games += other.games;
+        playerGames += other.playerGames;
+        playerWins += other.playerWins;
+    }
+}
@@ -0,0 +1,196 @@
+package analytics;
+
+import bot.BotGames;
+import controller.GameEngine;
+import journal.GameJournal;
+import journal.JournalFile;
+import model.CardCatalogue;
+import model.CardDefinition;
+import model.DeckBuilder;
+import model.Era;
+import model.Player;
+import results.ResultCollector;
+import results.ResultStore;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Runs headless bot games on several threads and reports, per card, how often
+ * it was drawn, played or left in hand and how that relates to winning.
+ *
+ * Every worker has its own {@link CardAccumulator} and {@link CardUsageTracker};
+ * the accumulators are merged once all games are done, so the workers share
+ * nothing but the read-only card index. With {@code --results dir} every game
+ * is also appended to a {@link ResultStore} (one {@link ResultCollector} per
+ * worker, one shared store) for {@code results.ResultQuery}. With
+ * {@code --journal file} every game is journaled from setup into one shared
+ * {@link JournalFile}, for {@code journal.GameReplay}; the printed games/s of
+ * runs with and without it give the cost of journaling.
+ *
+ * <pre>java analytics.CardAnalytics [games] [threads] [era] [--results dir] [--journal file]</pre>
+ */
+public class CardAnalytics {
+
+    public static final int MAX_TURNS = 200;
+
+    /**
+     * Every card name of the catalogue, in catalogue order.
+     */
+    public static List<String> cardNames(CardCatalogue catalogue) {
+        Set<String> names = new LinkedHashSet<>();
+        for (CardDefinition d : catalogue.definitions())
+            if (d.name != null)
+                names.add(d.name);
+        return new ArrayList<>(names);
+    }
+
+    /**
+     * Simulate {@code games} games; game {@code i} uses seed {@code seed + i},
+     * so the totals do not depend on the thread count.
+     */
+    public static CardAccumulator simulate(CardCatalogue catalogue, Era era, int games, int threads, long seed)
+            throws InterruptedException {
+        return simulate(catalogue, era, games, threads, seed, null, null);
+    }
+
+    /**
+     * As {@link #simulate(CardCatalogue, Era, int, int, long)}, also recording
+     * every game into {@code results} and journaling it (game id = its seed)
+     * into {@code journal}; either may be null.
+     */
+    public static CardAccumulator simulate(CardCatalogue catalogue, Era era, int games, int threads, long seed,
+            ResultStore results, JournalFile journal) throws InterruptedException {
+        DeckBuilder builder = catalogue.deckBuilder(era);
+        CardAccumulator total = new CardAccumulator(cardNames(catalogue));
+        int workers = Math.max(1, Math.min(threads, games));
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        try {
+            List<Future<CardAccumulator>> parts = new ArrayList<>();
+            for (int w = 0; w < workers; w++) {
+                int first = w;
+                parts.add(pool.submit(() -> {
+                    CardAccumulator acc = new CardAccumulator(total);
+                    CardUsageTracker tracker = new CardUsageTracker(acc);
+                    ResultCollector collector = results == null ? null : new ResultCollector(results);
+                    for (int g = first; g < games; g += workers)
+                        play(builder, seed + g, tracker, collector, journal);
+                    return acc;
+                }));
+            }
+            for (Future<CardAccumulator> part : parts)
+                total.merge(part.get());
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Simulation failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return total;
+    }
+
+    private static void play(DeckBuilder builder, long seed, CardUsageTracker tracker, ResultCollector collector,
+            JournalFile journalFile) {
+        // Separate deck and dice seeds, so a journaled game can be replayed from them
+        Random seeds = new Random(seed);
+        long deckSeed = seeds.nextLong();
+        long engineSeed = seeds.nextLong();
+        GameJournal journal = journalFile == null ? null : new GameJournal(journalFile, seed);
+        List<Player> players = BotGames.newGame(builder, deckSeed, journal, tracker::attach);
+        if (collector != null)
+            collector.attach(players); // after setup: starting cards are not "placed"
+        GameEngine engine = new GameEngine(engineSeed);
+        engine.setJournal(journal);
+        int winner = engine.runHeadless(players, MAX_TURNS);
+        tracker.finish(winner);
+        if (collector != null) {
+            try {
+                collector.finish(winner);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * One line per card seen in at least {@code minGames} player-games, by
+     * impact (win rate when played minus the overall win rate).
+     */
+    public static String report(CardAccumulator acc, long minGames) {
+        double base = acc.playerGames() == 0 ? 0 : (double) acc.playerWins() / acc.playerGames();
+        List<Integer> ids = new ArrayList<>();
+        for (int id = 0; id < acc.names().size(); id++)
+            if (acc.get(id, CardAccumulator.DRAWN) >= minGames)
+                ids.add(id);
+        ids.sort(Comparator.comparingDouble((Integer id) -> -impact(acc, id, base)));
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%d games, overall win rate %.1f%%%n", acc.games(), 100 * base));
+        sb.append(String.format(Locale.ROOT, "%-28s %8s %8s %8s %7s %7s %7s %8s%n", "card", "drawn", "played",
+                "held", "win|D", "win|P", "win|H", "impact"));
+        for (int id : ids) {
+            sb.append(String.format(Locale.ROOT, "%-28s %8d %8d %8d %7s %7s %7s %+7.1f%n", acc.names().get(id),
+                    acc.get(id, CardAccumulator.DRAWN), acc.get(id, CardAccumulator.PLAYED),
+                    acc.get(id, CardAccumulator.HELD),
+                    rate(acc, id, CardAccumulator.DRAWN), rate(acc, id, CardAccumulator.PLAYED),
+                    rate(acc, id, CardAccumulator.HELD), 100 * impact(acc, id, base)));
+        }
+        return sb.toString();
+    }
+
+    private static double impact(CardAccumulator acc, int id, double base) {
+        long played = acc.get(id, CardAccumulator.PLAYED);
+        return played == 0 ? 0 : (double) acc.get(id, CardAccumulator.PLAYED_WINS) / played - base;
+    }
+
+    private static String rate(CardAccumulator acc, int id, int field) {
+        long n = acc.get(id, field);
+        return n == 0 ? "-" : String.format(Locale.ROOT, "%.1f%%", 100.0 * acc.get(id, field + 1) / n);
+    }
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        List<String> rest = new ArrayList<>(List.of(args));
+        String resultsDir = option(rest, "--results");
+        String journalPath = option(rest, "--journal");
+        int games = rest.size() > 0 ? Integer.parseInt(rest.get(0)) : 1000;
+        int threads = rest.size() > 1 ? Integer.parseInt(rest.get(1)) : Runtime.getRuntime().availableProcessors();
+        Era era = rest.size() > 2 ? Era.valueOf(rest.get(2).toUpperCase(Locale.ROOT)) : Era.INTRO;
+        CardCatalogue catalogue = CardCatalogue.get("cards.json");
+        ResultStore results = resultsDir == null ? null : ResultStore.create(Paths.get(resultsDir), catalogue);
+        JournalFile journal = journalPath == null ? null : JournalFile.create(Paths.get(journalPath));
+        CardAccumulator acc;
+        long start = System.nanoTime();
+        try {
+            acc = simulate(catalogue, era, games, threads, 1, results, journal);
+        } finally {
+            if (journal != null)
+                journal.close();
+            if (results != null)
+                results.close();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.print(report(acc, Math.max(1, games / 100)));
+        System.out.printf(Locale.ROOT, "%d games in %.2f s (%.0f games/s)%n", games, seconds, games / seconds);
+    }
+
+    // Remove "name value" from the arguments and return the value (null if absent)
+    private static String option(List<String> args, String name) {
+        int at = args.indexOf(name);
+        if (at < 0 || at + 1 >= args.size())
+            return null;
+        String value = args.remove(at + 1);
+        args.remove(at);
+        return value;
+    }
+}
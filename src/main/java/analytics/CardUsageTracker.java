@@ -0,0 +1,115 @@
+package analytics;
+
+import model.Card;
+import model.Player;
+import model.events.GameEventBus;
+import model.events.IGameEventListener;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Follows one game at a time on its event bus, noting which cards each player
+ * drew and played, and adds the outcome to a {@link CardAccumulator} when the
+ * game ends. Reusable for the next game; not thread-safe (one per thread).
+ */
+public class CardUsageTracker implements IGameEventListener {
+
+    private final CardAccumulator acc;
+    private final int words;
+    private long[][] drawn = new long[0][];
+    private long[][] played = new long[0][];
+    private final long[] held;
+    private List<Player> players = List.of();
+    private GameEventBus bus;
+
+    public CardUsageTracker(CardAccumulator acc) {
+        this.acc = acc;
+        this.words = (acc.names().size() + 63) >>> 6;
+        this.held = new long[words];
+    }
+
+    /**
+     * Start following a game. Attach before the opening replenish to count the
+     * starting hands as draws.
+     */
+    public void attach(List<Player> players) {
+        detach();
+        this.players = List.copyOf(players);
+        if (drawn.length != players.size()) {
+            drawn = new long[players.size()][words];
+            played = new long[players.size()][words];
+        } else {
+            for (int p = 0; p < players.size(); p++) {
+                Arrays.fill(drawn[p], 0);
+                Arrays.fill(played[p], 0);
+            }
+        }
+        bus = players.get(0).getEventBus();
+        bus.subscribe(this);
+    }
+
+    public void detach() {
+        if (bus != null)
+            bus.unsubscribe(this);
+        bus = null;
+    }
+
+    /**
+     * Game over: add this game to the accumulator.
+     *
+     * @param winner Index of the winner, or -1
+     */
+    public void finish(int winner) {
+        detach();
+        acc.games++;
+        for (int p = 0; p < players.size(); p++) {
+            boolean won = p == winner;
+            acc.playerGames++;
+            if (won)
+                acc.playerWins++;
+            count(drawn[p], CardAccumulator.DRAWN, won);
+            count(played[p], CardAccumulator.PLAYED, won);
+            Arrays.fill(held, 0);
+            for (Card c : players.get(p).hand) {
+                int id = c == null ? -1 : acc.id(c.name);
+                if (id >= 0)
+                    held[id >>> 6] |= 1L << id;
+            }
+            count(held, CardAccumulator.HELD, won);
+        }
+    }
+
+    // field = games counter; field + 1 = wins counter
+    private void count(long[] set, int field, boolean won) {
+        for (int w = 0; w < set.length; w++) {
+            long bits = set[w];
+            while (bits != 0) {
+                int id = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                acc.add(id, field, 1);
+                if (won)
+                    acc.add(id, field + 1, 1);
+            }
+        }
+    }
+
+    @Override
+    public void onCardDrawn(Player player, Card card) {
+        mark(drawn, player, card, CardAccumulator.DRAWS);
+    }
+
+    @Override
+    public void onCardPlayed(Player player, Card card) {
+        mark(played, player, card, CardAccumulator.PLAYS);
+    }
+
+    private void mark(long[][] sets, Player player, Card card, int totalField) {
+        int id = acc.id(card.name);
+        int p = players.indexOf(player);
+        if (id < 0 || p < 0)
+            return;
+        sets[p][id >>> 6] |= 1L << id;
+        acc.add(id, totalField, 1);
+    }
+}
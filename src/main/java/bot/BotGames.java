@@ -0,0 +1,99 @@
+package bot;
+
+import controller.InitializationManager;
+import controller.ReplenishManager;
+import journal.GameJournal;
+import model.DeckBuilder;
+import model.GameDecks;
+import model.Player;
+import model.events.GameEventBus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+/**
+ * Sets up headless two-player games the way the console game does: one deck
+ * set and one event bus shared by both seats, starting principalities, then
+ * the opening hands. Used by simulations, benchmarks, replays and tests.
+ */
+public final class BotGames {
+
+    public static final int PLAYERS = 2;
+
+    private BotGames() {
+    }
+
+    /**
+     * Two bots ready for the first turn.
+     *
+     * @param rng Shuffles the decks (the engine takes its own random source)
+     */
+    public static List<Player> newGame(DeckBuilder builder, Random rng) {
+        return newGame(builder, rng, i -> new BotPlayer(), null);
+    }
+
+    /**
+     * Two bots ready for the first turn.
+     *
+     * @param beforeSetup Called with the seats before the principalities are
+     *        laid out (attach listeners here to see the setup), or null
+     */
+    public static List<Player> newGame(DeckBuilder builder, Random rng, Consumer<List<Player>> beforeSetup) {
+        return newGame(builder, rng, i -> new BotPlayer(), beforeSetup);
+    }
+
+    /**
+     * Two bots ready for the first turn, journaled from the start so the game
+     * can be replayed: the journal is attached before the principalities are
+     * laid out and the deck seed is recorded. Play the game with
+     * {@code new GameEngine(engineSeed)} and {@code setJournal(journal)} so the
+     * engine seed is recorded as well.
+     *
+     * @param journal Journal of this game, or null to play unrecorded
+     */
+    public static List<Player> newGame(DeckBuilder builder, long deckSeed, GameJournal journal) {
+        return newGame(builder, deckSeed, journal, null);
+    }
+
+    /**
+     * As {@link #newGame(DeckBuilder, long, GameJournal)}, also calling
+     * {@code beforeSetup} (may be null) once the journal is attached.
+     */
+    public static List<Player> newGame(DeckBuilder builder, long deckSeed, GameJournal journal,
+            Consumer<List<Player>> beforeSetup) {
+        return newGame(builder, new Random(deckSeed), players -> {
+            if (journal != null) {
+                journal.attach(players);
+                journal.seed(GameJournal.SEED_DECKS, deckSeed);
+            }
+            if (beforeSetup != null)
+                beforeSetup.accept(players);
+        });
+    }
+
+    /**
+     * Two seats made by {@code seat} (given the seat index), ready for the first turn.
+     */
+    public static List<Player> newGame(DeckBuilder builder, Random rng, IntFunction<? extends Player> seat,
+            Consumer<List<Player>> beforeSetup) {
+        GameDecks decks = builder.build(rng);
+        GameEventBus bus = new GameEventBus();
+        List<Player> players = new ArrayList<>(PLAYERS);
+        for (int i = 0; i < PLAYERS; i++) {
+            Player p = seat.apply(i);
+            p.setDecks(decks);
+            p.setEventBus(bus);
+            players.add(p);
+        }
+        if (beforeSetup != null)
+            beforeSetup.accept(players);
+        new InitializationManager().initPrincipality(players);
+        ReplenishManager replenish = new ReplenishManager();
+        for (Player p : players)
+            replenish.replenish(p);
+        return players;
+    }
+}
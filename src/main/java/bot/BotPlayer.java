@@ -0,0 +1,232 @@
+package bot;
+
+import model.Card;
+import model.GameDecks;
+import model.Player;
+import model.ProductionProfile;
+import model.ResourceType;
+import util.CostParser;
+import util.PlacementValidator;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Greedy bot that reads the last prompt it was sent and answers it with a
+ * legal choice, so headless games (tests, benchmarks, simulations) always
+ * make progress instead of looping on "Unknown command".
+ *
+ * Action phase priority: City, Settlement, playable hand card, Road, END.
+ */
+public class BotPlayer extends Player {
+
+    // Upper bound on commands per action phase (failed commands are not retried)
+    private static final int MAX_COMMANDS_PER_PHASE = 6;
+
+    private String lastPrompt = "";
+    private String pendingCoords = null;
+    private int commandsThisPhase = 0;
+    private final Set<String> tried = new HashSet<>();
+
+    public BotPlayer() {
+        isBot = true;
+    }
+
+    @Override
+    public void sendMessage(Object m) {
+        if (m instanceof String && ((String) m).startsWith("PROMPT:"))
+            lastPrompt = ((String) m).substring("PROMPT:".length()).trim();
+    }
+
+    @Override
+    public String receiveMessage() {
+        String a = answer(lastPrompt);
+        getEventBus().promptAnswered(this, a);
+        return a;
+    }
+
+    /**
+     * Answer one prompt (without the "PROMPT:" prefix).
+     */
+    String answer(String prompt) {
+        String p = prompt.toLowerCase(Locale.ROOT);
+        if (p.startsWith("make your choice"))
+            return nextCommand();
+        if (p.startsWith("enter placement coordinates")) {
+            String rc = pendingCoords == null ? "" : pendingCoords;
+            pendingCoords = null;
+            return rc;
+        }
+        if (p.contains("[brick|grain|lumber|wool|ore|gold]"))
+            return p.contains("discard") ? richestResource() : neediestResource();
+        if (p.startsWith("marketplace") || p.startsWith("choose resource"))
+            return neediestResource();
+        if (p.startsWith("brigitta"))
+            return String.valueOf(bestProductionFace());
+        if (p.startsWith("exchange a card"))
+            return "N";
+        if (p.startsWith("place first region"))
+            return "T";
+        if (p.startsWith("choose random draw"))
+            return "R";
+        if (p.startsWith("traveling merchant"))
+            return "0";
+        if (p.startsWith("feud - choose"))
+            return "0";
+        if (p.startsWith("opponent hand"))
+            return "0 1";
+        if (p.startsWith("feud - select") || p.startsWith("relocation"))
+            return "";
+        return "1";
+    }
+
+    // ---------- Action phase ----------
+
+    private String nextCommand() {
+        if (commandsThisPhase >= MAX_COMMANDS_PER_PHASE)
+            return endPhase();
+        commandsThisPhase++;
+
+        GameDecks decks = getDecks();
+        String cmd = planCenterCard("City", decks.cities);
+        if (cmd == null && decks.regions.size() >= 2)
+            cmd = planCenterCard("Settlement", decks.settlements);
+        if (cmd == null)
+            cmd = planHandCard();
+        if (cmd == null)
+            cmd = planCenterCard("Road", decks.roads);
+        return cmd == null ? endPhase() : cmd;
+    }
+
+    private String endPhase() {
+        commandsThisPhase = 0;
+        tried.clear();
+        pendingCoords = null;
+        return "END";
+    }
+
+    private String planCenterCard(String name, java.util.List<Card> pile) {
+        if (pile.isEmpty() || !canAfford(pile.get(0).cost))
+            return null;
+        for (int c = 0; c < cols(); c++) {
+            if (!centerSlotFits(name, c) || !tried.add(name + "@" + c))
+                continue;
+            pendingCoords = "2 " + c;
+            return "PLAY " + name;
+        }
+        return null;
+    }
+
+    private boolean centerSlotFits(String name, int c) {
+        Card here = getCard(2, c);
+        Card left = getCard(2, c - 1);
+        Card right = getCard(2, c + 1);
+        switch (name) {
+            case "City":
+                return PlacementValidator.nameMatches(here, "Settlement");
+            case "Settlement":
+                return here == null && (isRoad(left) || isRoad(right))
+                        && !PlacementValidator.isSettlementOrCity(left)
+                        && !PlacementValidator.isSettlementOrCity(right);
+            default: // Road: only next to a settlement so a later settlement can follow
+                return here == null && !isRoad(left) && !isRoad(right)
+                        && (PlacementValidator.isSettlementOrCity(left)
+                                || PlacementValidator.isSettlementOrCity(right));
+        }
+    }
+
+    private String planHandCard() {
+        for (int i = 0; i < hand.size(); i++) {
+            Card card = hand.get(i);
+            if (card == null || !canAfford(card.cost) || !tried.add("hand:" + card.name))
+                continue;
+            boolean isAction = card.type != null && card.type.toLowerCase(Locale.ROOT).contains("action");
+            if (isAction) {
+                if (PlacementValidator.nameMatches(card, "Relocation"))
+                    continue; // needs coordinates the bot does not plan
+                return "PLAY " + i;
+            }
+            if (card.placement == null || !card.placement.equalsIgnoreCase("Settlement/city"))
+                continue;
+            if ("1x".equalsIgnoreCase(card.oneOf == null ? "" : card.oneOf.trim()) && hasInPrincipality(card.name))
+                continue;
+            String rc = expansionSlot();
+            if (rc != null) {
+                pendingCoords = rc;
+                return "PLAY " + i;
+            }
+        }
+        return null;
+    }
+
+    private String expansionSlot() {
+        int[] rows = { 1, 3, 0, 4 }; // inner ring first
+        for (int r : rows)
+            for (int c = 0; c < cols(); c++)
+                if (getCard(r, c) == null && PlacementValidator.isAboveOrBelowSettlementOrCity(this, r, c))
+                    return r + " " + c;
+        return null;
+    }
+
+    private boolean canAfford(String cost) {
+        for (Map.Entry<String, Integer> e : CostParser.parseCost(cost).entrySet())
+            if (getResourceCount(e.getKey()) < e.getValue())
+                return false;
+        return true;
+    }
+
+    private int cols() {
+        return principality.isEmpty() ? 0 : principality.get(0).size();
+    }
+
+    private static boolean isRoad(Card c) {
+        return PlacementValidator.nameMatches(c, "Road");
+    }
+
+    // ---------- Resource choices ----------
+
+    // Resource with the most free storage; falls back to Brick when all are full
+    private String neediestResource() {
+        ProductionProfile profile = getProductionProfile();
+        String best = ResourceType.RESOURCES[0];
+        int bestFree = 0;
+        for (int res = 0; res < ResourceType.COUNT; res++) {
+            int free = profile.capacity(res) - getResourceCount(ResourceType.RESOURCES[res]);
+            if (free > bestFree) {
+                bestFree = free;
+                best = ResourceType.RESOURCES[res];
+            }
+        }
+        return best;
+    }
+
+    private String richestResource() {
+        String best = ResourceType.RESOURCES[0];
+        int bestCount = -1;
+        for (String res : ResourceType.RESOURCES) {
+            int n = getResourceCount(res);
+            if (n > bestCount) {
+                bestCount = n;
+                best = res;
+            }
+        }
+        return best;
+    }
+
+    private int bestProductionFace() {
+        ProductionProfile profile = getProductionProfile();
+        int best = 1, bestYield = -1;
+        for (int face = 1; face <= ProductionProfile.FACES; face++) {
+            int sum = 0;
+            for (int res = 0; res < ResourceType.COUNT; res++)
+                sum += profile.yield(face, res);
+            if (sum > bestYield) {
+                bestYield = sum;
+                best = face;
+            }
+        }
+        return best;
+    }
+}
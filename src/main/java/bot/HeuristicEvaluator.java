@@ -0,0 +1,181 @@
+package bot;
+
+import bot.interfaces.IEvaluator;
+import model.Ability;
+import model.Card;
+import model.Player;
+import model.ProductionProfile;
+import model.ResourceType;
+import util.CostParser;
+import util.PlacementValidator;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Linear heuristic evaluator for bot players.
+ * A position is reduced to a small feature vector (score, production, hand,
+ * storage) and scored as a weighted sum. Feature extraction and scoring work on
+ * primitive arrays only, so bots can score many successor states without
+ * allocating. Instances keep a scratch buffer and are NOT thread-safe; use one
+ * evaluator per simulation thread.
+ */
+public class HeuristicEvaluator implements IEvaluator {
+
+    // Feature layout (one row of FEATURE_COUNT doubles per position)
+    public static final int F_SCORE = 0; // VP incl. advantage tokens
+    public static final int F_OPP_SCORE = 1; // opponent VP incl. advantage tokens
+    public static final int F_PRODUCTION = 2; // expected resources gained per production roll
+    public static final int F_HAND = 3; // hand quality (points on cards + affordable now)
+    public static final int F_HEADROOM = 4; // free storage slots on regions (3-cap)
+    public static final int F_EXPOSURE = 5; // stored resources above the Brigand limit of 7
+    public static final int FEATURE_COUNT = 6;
+
+    public static final double[] DEFAULT_WEIGHTS = { 10.0, -8.0, 3.0, 1.0, 0.25, -0.5 };
+
+    private static final int STORE_CAP = 3;
+    private static final int BRIGAND_LIMIT = 7;
+
+    private final double[] weights;
+    private final double[] scratch = new double[FEATURE_COUNT];
+    private final int[] stock = new int[ResourceType.COUNT];
+    private final int[] need = new int[ResourceType.COUNT];
+
+    public HeuristicEvaluator() {
+        this(DEFAULT_WEIGHTS);
+    }
+
+    /**
+     * @param weights One weight per feature, indexed by the F_* constants
+     */
+    public HeuristicEvaluator(double[] weights) {
+        if (weights == null || weights.length != FEATURE_COUNT) {
+            throw new IllegalArgumentException("Expected " + FEATURE_COUNT + " weights");
+        }
+        this.weights = weights.clone();
+    }
+
+    @Override
+    public double evaluate(Player self, Player opponent) {
+        extractFeatures(self, opponent, scratch, 0);
+        return score(scratch, 0);
+    }
+
+    /**
+     * Score one feature row.
+     * @param features Feature buffer
+     * @param offset Index of the first feature of the row
+     * @return Weighted sum of the row
+     */
+    public double score(double[] features, int offset) {
+        double s = 0;
+        for (int i = 0; i < FEATURE_COUNT; i++) {
+            s += weights[i] * features[offset + i];
+        }
+        return s;
+    }
+
+    /**
+     * Score {@code count} consecutive feature rows in one pass.
+     * @param features Rows laid out back to back, FEATURE_COUNT doubles each
+     * @param count Number of rows to score
+     * @param out Receives one score per row (must hold at least {@code count})
+     * @return Index of the best scoring row, or -1 if {@code count} is 0
+     */
+    public int scoreBatch(double[] features, int count, double[] out) {
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (int row = 0, off = 0; row < count; row++, off += FEATURE_COUNT) {
+            double s = 0;
+            for (int i = 0; i < FEATURE_COUNT; i++) {
+                s += weights[i] * features[off + i];
+            }
+            out[row] = s;
+            if (s > bestScore) {
+                bestScore = s;
+                best = row;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Write the feature row of a position into {@code out} starting at {@code offset}.
+     * Bots call this once per candidate successor state and then score the whole
+     * buffer with {@link #scoreBatch}.
+     */
+    public void extractFeatures(Player self, Player opponent, double[] out, int offset) {
+        out[offset + F_SCORE] = self.currentScoreAgainst(opponent);
+        out[offset + F_OPP_SCORE] = opponent == null ? 0 : opponent.currentScoreAgainst(self);
+
+        // One pass over the board: stock per resource and headroom
+        Arrays.fill(stock, 0);
+        int headroom = 0;
+        int stored = 0;
+        List<List<Card>> grid = self.principality;
+        for (int r = 0; r < grid.size(); r++) {
+            List<Card> row = grid.get(r);
+            for (int c = 0; c < row.size(); c++) {
+                Card card = row.get(c);
+                if (!PlacementValidator.isRegionCard(card))
+                    continue;
+                int have = Math.max(0, Math.min(STORE_CAP, card.regionProduction));
+                int res = ResourceType.indexOfRegion(card.name);
+                if (res >= 0)
+                    stock[res] += have;
+                stored += have;
+                headroom += STORE_CAP - have;
+            }
+        }
+
+        // Production comes from the precomputed profile instead of re-simulating
+        ProductionProfile profile = self.getProductionProfile();
+        double production = profile.expectedGain();
+        if (opponent != null && self.abilities.has(Ability.MARKETPLACE))
+            production += profile.expectedMarketplaceBonus(opponent.getProductionProfile());
+        out[offset + F_PRODUCTION] = production;
+        out[offset + F_HAND] = handQuality(self);
+        out[offset + F_HEADROOM] = headroom;
+        out[offset + F_EXPOSURE] = Math.max(0, stored - BRIGAND_LIMIT);
+    }
+
+    // Points printed on each card, plus one for every card payable from current stock
+    private double handQuality(Player p) {
+        double q = 0;
+        List<Card> hand = p.hand;
+        for (int i = 0; i < hand.size(); i++) {
+            Card c = hand.get(i);
+            if (c == null)
+                continue;
+            q += points(c.victoryPoints) + points(c.CP) + points(c.SP) + points(c.FP) + points(c.PP);
+            if (canAfford(c.cost))
+                q += 1;
+        }
+        return q;
+    }
+
+    private boolean canAfford(String cost) {
+        if (cost == null)
+            return true;
+        Arrays.fill(need, 0);
+        for (int i = 0; i < cost.length(); i++) {
+            int res = CostParser.letterToIndex(cost.charAt(i));
+            if (res >= 0 && ++need[res] > stock[res])
+                return false;
+        }
+        return true;
+    }
+
+    // Card point fields are small numbers stored as strings; parse without allocating
+    private static int points(String s) {
+        if (s == null)
+            return 0;
+        int v = 0;
+        for (int i = 0; i < s.length(); i++) {
+            char ch = s.charAt(i);
+            if (ch >= '0' && ch <= '9')
+                v = v * 10 + (ch - '0');
+        }
+        return v;
+    }
+}
@@ -0,0 +1,18 @@
+package bot.interfaces;
+
+import model.Player;
+
+/**
+ * Interface for bot position evaluators.
+ * Lets greedy and rollout bots swap heuristics without changing search code.
+ */
+public interface IEvaluator {
+
+    /**
+     * Score the position from the point of view of one player.
+     * @param self The player whose position is being scored
+     * @param opponent The opponent player
+     * @return A score where higher is better for {@code self}
+     */
+    double evaluate(Player self, Player opponent);
+}
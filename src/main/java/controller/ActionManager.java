@@ -10,6 +10,9 @@ import java.util.*;
  * Handles all action commands including TRADE3, TRADE2, LTS (Large Trade Ship), and PLAY.
  */
 public class ActionManager implements IGameManager {
+
+    // Scratch counts for payCost/refundCost, indexed like ResourceType.RESOURCES
+    private final int[] costCounts = new int[ResourceType.COUNT];
     
     @Override
     public String getPhaseName() {
@@ -24,6 +27,7 @@ public class ActionManager implements IGameManager {
      */
     public void actionPhase(Player active, Player other, java.util.function.Consumer<String> broadcast) {
         boolean done = false;
+        GameDecks decks = active.getDecks();
         active.sendMessage("Opponent's board:");
         active.sendMessage("\t\t" + other.printPrincipality(active).replace("\n", "\n\t\t"));
         while (!done) {
@@ -42,16 +46,16 @@ public class ActionManager implements IGameManager {
 
             // Add Center card options that are actually available
             ArrayList<String> buildBits = new ArrayList<>();
-            if (!Card.roads.isEmpty()) {
-                String cost = Card.roads.get(0).cost == null ? "-" : Card.roads.get(0).cost;
+            if (!decks.roads.isEmpty()) {
+                String cost = decks.roads.get(0).cost == null ? "-" : decks.roads.get(0).cost;
                 buildBits.add("ROAD(" + cost + ")");
             }
-            if (!Card.settlements.isEmpty()) {
-                String cost = Card.settlements.get(0).cost == null ? "-" : Card.settlements.get(0).cost;
+            if (!decks.settlements.isEmpty()) {
+                String cost = decks.settlements.get(0).cost == null ? "-" : decks.settlements.get(0).cost;
                 buildBits.add("SETTLEMENT(" + cost + ")");
             }
-            if (!Card.cities.isEmpty()) {
-                String cost = Card.cities.get(0).cost == null ? "-" : Card.cities.get(0).cost;
+            if (!decks.cities.isEmpty()) {
+                String cost = decks.cities.get(0).cost == null ? "-" : decks.cities.get(0).cost;
                 buildBits.add("CITY(" + cost + ")");
             }
             play += String.join(", ", buildBits);
@@ -77,12 +81,12 @@ public class ActionManager implements IGameManager {
                 } else
                     active.sendMessage("Usage: TRADE3 <get> <give> ([Brick|Grain|Lumber|Wool|Ore|Gold])");
             } else if (up.startsWith("TRADE2")) {
-                // Requires a flag 2FOR1_<RES>
+                // Requires a 2:1 trade ship ability for <Res>
                 String[] parts = cmd.trim().split("\\s+");
                 if (parts.length >= 3) {
                     String get = parts[1];
                     String from = parts[2].toUpperCase();
-                    if (active.flags.contains("2FOR1_" + from)) {
+                    if (active.abilities.hasTwoForOne(ResourceType.indexOf(from))) {
                         if (active.getResourceCount(from) >= 2) {
                             active.removeResource(from, 2);
                             active.gainResource(get);
@@ -119,13 +123,13 @@ public class ActionManager implements IGameManager {
                 // ---------- 1) Center cards from piles: Road / Settlement / City ----------
                 if (spec.equalsIgnoreCase("Road") || spec.equalsIgnoreCase("Settlement")
                         || spec.equalsIgnoreCase("City")) {
-                    Vector<Card> pile = null;
+                    Pile pile = null;
                     if (spec.equalsIgnoreCase("Road"))
-                        pile = Card.roads;
+                        pile = decks.roads;
                     else if (spec.equalsIgnoreCase("Settlement"))
-                        pile = Card.settlements;
+                        pile = decks.settlements;
                     else if (spec.equalsIgnoreCase("City"))
-                        pile = Card.cities;
+                        pile = decks.cities;
 
                     if (pile == null || pile.isEmpty()) {
                         active.sendMessage("No " + spec + " cards left in the pile.");
@@ -133,7 +137,7 @@ public class ActionManager implements IGameManager {
                     }
 
                     // Peek (do not remove yet)
-                    Card proto = pile.firstElement();
+                    Card proto = pile.peek();
 
                     // Check & pay cost first (do NOT mutate piles yet)
                     if (!payCost(active, proto.cost)) {
@@ -162,7 +166,7 @@ public class ActionManager implements IGameManager {
                     }
 
                     // Success → remove from pile now
-                    pile.remove(0);
+                    pile.drawTop();
                     broadcast.accept("Built " + spec + " at (" + row + "," + col + ")");
                     continue;
                 }
@@ -194,6 +198,7 @@ public class ActionManager implements IGameManager {
                     }
                     // Success → remove the specific instance from hand
                     active.hand.remove(c);
+                    active.getEventBus().cardPlayed(active, c);
                     broadcast.accept("Current player played action " + c.name);
                 } else {
                     // Non-action: needs placement
@@ -218,6 +223,7 @@ public class ActionManager implements IGameManager {
 
                     // Success → remove the specific instance from hand
                     active.hand.remove(c);
+                    active.getEventBus().cardPlayed(active, c);
                     broadcast.accept("Current player played " + c.name + " at (" + row + "," + col + ")");
                 }
             } else if (up.startsWith("END")) {
@@ -255,16 +261,18 @@ public class ActionManager implements IGameManager {
         return null;
     }
 
-    private boolean payCost(Player p, String cost) {
+    boolean payCost(Player p, String cost) {
         if (cost == null || cost.isBlank())
             return true;
-        Map<String, Integer> need = CostParser.parseCost(cost);
-        for (var e : need.entrySet()) {
-            if (p.getResourceCount(e.getKey()) < e.getValue())
+        int[] need = costCounts;
+        CostParser.countCost(cost, need);
+        for (int r = 0; r < need.length; r++) {
+            if (need[r] > 0 && p.getResourceCount(ResourceType.RESOURCES[r]) < need[r])
                 return false;
         }
-        for (var e : need.entrySet()) {
-            p.removeResource(e.getKey(), e.getValue());
+        for (int r = 0; r < need.length; r++) {
+            if (need[r] > 0)
+                p.removeResource(ResourceType.RESOURCES[r], need[r]);
         }
         return true;
     }
@@ -272,28 +280,21 @@ public class ActionManager implements IGameManager {
     private void refundCost(Player p, String cost) {
         if (cost == null || cost.isBlank())
             return;
-        Map<String, Integer> need = CostParser.parseCost(cost);
-        for (var e : need.entrySet())
-            p.setResourceCount(e.getKey(), p.getResourceCount(e.getKey()) + e.getValue());
+        int[] need = costCounts;
+        CostParser.countCost(cost, need);
+        for (int r = 0; r < need.length; r++) {
+            if (need[r] > 0)
+                p.setResourceCount(ResourceType.RESOURCES[r], p.getResourceCount(ResourceType.RESOURCES[r]) + need[r]);
+        }
     }
 
     // Large Trade Ship trade: side L/R relative to a placed LTS@row,col
     private boolean applyLTS(Player p, String side, String twoFrom, String oneTo) {
-        // Find any LTS flag; for simplicity use the first one
-        int ltsRow = -1, ltsCol = -1;
-        for (String f : p.flags) {
-            if (f.startsWith("LTS@")) {
-                String[] rc = f.substring(4).split(",");
-                try {
-                    ltsRow = Integer.parseInt(rc[0]);
-                    ltsCol = Integer.parseInt(rc[1]);
-                } catch (Exception ignored) {
-                }
-                break;
-            }
-        }
-        if (ltsRow < 0)
+        // Find any Large Trade Ship; for simplicity use the first one
+        BoardPosition lts = p.abilities.firstLargeTradeShip();
+        if (lts == null)
             return false;
+        int ltsRow = lts.row, ltsCol = lts.col;
 
         // Regions on that side are at (ltsRow, ltsCol-1) and (ltsRow, ltsCol+1)
         int takeCol = side.startsWith("L") ? ltsCol - 1 : ltsCol + 1;
@@ -314,10 +315,13 @@ public class ActionManager implements IGameManager {
             return false;
 
         fromRegion.regionProduction -= 2;
+        p.notifyStored(fromRegion, -2);
         // Grant the "oneTo": if it matches toRegion's type, store there; else bank
         String toType = ResourceType.REGION_TO_RESOURCE.getOrDefault(toRegion.name, "");
         if (toType.equalsIgnoreCase(oneTo)) {
+            int before = toRegion.regionProduction;
             toRegion.regionProduction = Math.min(3, toRegion.regionProduction + 1);
+            p.notifyStored(toRegion, toRegion.regionProduction - before);
         } else {
             p.gainResource(oneTo);
         }
@@ -4,9 +4,7 @@ import controller.events.*;
 import controller.interfaces.IGameManager;
 import model.EventType;
 import model.Player;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 
 /**
  * EventResolver handles all game events based on event die rolls.
@@ -15,20 +13,8 @@ import java.util.Map;
  */
 public class EventResolver implements IGameManager {
     
-    private final Map<Integer, IEventHandler> eventHandlers;
-    
-    public EventResolver() {
-        eventHandlers = new HashMap<>();
-        eventHandlers.put(EventType.BRIGAND, new BrigandEvent());
-        eventHandlers.put(EventType.TRADE, new TradeEvent());
-        eventHandlers.put(EventType.CELEBRATION, new CelebrationEvent());
-        eventHandlers.put(EventType.PLENTIFUL_HARVEST, new PlentifulHarvestEvent());
-        
-        // Both EVENT_A and EVENT_B use the same handler
-        EventCardDrawEvent eventCardHandler = new EventCardDrawEvent();
-        eventHandlers.put(EventType.EVENT_A, eventCardHandler);
-        eventHandlers.put(EventType.EVENT_B, eventCardHandler);
-    }
+    // Handler per event die face (index = face), created on first roll of that face
+    private final IEventHandler[] eventHandlers = new IEventHandler[EventType.EVENT_B + 1];
     
     @Override
     public String getPhaseName() {
@@ -43,7 +29,7 @@ public class EventResolver implements IGameManager {
      * @param other The opponent player
      */
     public void resolveEvent(int eventFace, List<Player> players, Player active, Player other) {
-        IEventHandler handler = eventHandlers.get(eventFace);
+        IEventHandler handler = handlerFor(eventFace);
         
         if (handler != null) {
             handler.handleEvent(players, active, other);
@@ -52,6 +38,41 @@ public class EventResolver implements IGameManager {
         }
     }
     
+    private IEventHandler handlerFor(int face) {
+        if (face < 0 || face >= eventHandlers.length)
+            return null;
+        IEventHandler handler = eventHandlers[face];
+        if (handler == null) {
+            handler = createHandler(face);
+            if (face == EventType.EVENT_A || face == EventType.EVENT_B) {
+                // Both EVENT_A and EVENT_B use the same handler
+                eventHandlers[EventType.EVENT_A] = handler;
+                eventHandlers[EventType.EVENT_B] = handler;
+            } else {
+                eventHandlers[face] = handler;
+            }
+        }
+        return handler;
+    }
+    
+    private static IEventHandler createHandler(int face) {
+        switch (face) {
+            case EventType.BRIGAND:
+                return new BrigandEvent();
+            case EventType.TRADE:
+                return new TradeEvent();
+            case EventType.CELEBRATION:
+                return new CelebrationEvent();
+            case EventType.PLENTIFUL_HARVEST:
+                return new PlentifulHarvestEvent();
+            case EventType.EVENT_A:
+            case EventType.EVENT_B:
+                return new EventCardDrawEvent();
+            default:
+                return null;
+        }
+    }
+    
     private void broadcast(List<Player> players, String s) {
         for (Player p : players) {
             if (p != null) {
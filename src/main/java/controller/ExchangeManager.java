@@ -44,10 +44,10 @@ public class ExchangeManager implements IGameManager {
 
         p.sendMessage("PROMPT: Choose stack [1-4] to put it under:");
         int st = CostParser.parseInt(p.receiveMessage(), 1);
-        Vector<Card> stack = stackBy(st);
-        stack.add(chosen);
+        Pile stack = p.getDecks().drawStack(st);
+        stack.putBottom(chosen);
 
-        boolean hasParish = p.flags.contains("PARISH");
+        boolean hasParish = p.abilities.has(Ability.PARISH);
         int searchCost = hasParish ? 1 : 2;
 
         p.sendMessage("PROMPT: Choose Random draw (R) or Search (S, costs " + searchCost + " any)?");
@@ -72,11 +72,10 @@ public class ExchangeManager implements IGameManager {
                 p.sendMessage(" - " + c.name);
             p.sendMessage("PROMPT: Type exact name to take:");
             String take = p.receiveMessage();
-            for (int i = 0; i < stack.size(); i++) {
-                if (stack.get(i).name.equalsIgnoreCase(take)) {
-                    p.addToHand(stack.remove(i));
-                    return;
-                }
+            Card found = stack.removeByName(take);
+            if (found != null) {
+                p.addToHand(found);
+                return;
             }
             p.sendMessage("Not found; no card taken.");
         } else {
@@ -85,22 +84,8 @@ public class ExchangeManager implements IGameManager {
                 p.sendMessage("That stack is empty.");
                 return;
             }
-            p.addToHand(stack.remove(0));
-        }
-    }
-
-    private Vector<Card> stackBy(int n) {
-        switch (n) {
-            case 1:
-                return Card.drawStack1;
-            case 2:
-                return Card.drawStack2;
-            case 3:
-                return Card.drawStack3;
-            case 4:
-                return Card.drawStack4;
+            p.addToHand(stack.drawTop());
         }
-        return Card.drawStack1;
     }
 
     /**
@@ -0,0 +1,293 @@
+package controller;
+
+import journal.GameJournal;
+import model.*;
+import trace.PhaseTracer;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Runs the turn sequence of a game: dice, production/events, action, replenish,
+ * exchange and win check. Extracted from Main so the same loop drives console
+ * games, headless bot games and benchmarks.
+ */
+public class GameEngine {
+
+    public static final int WINNING_SCORE = 7;
+
+    private final ProductionManager productionManager = new ProductionManager();
+    private final ReplenishManager replenishManager = new ReplenishManager();
+    private final ExchangeManager exchangeManager = new ExchangeManager();
+    private final EventResolver eventResolver = new EventResolver();
+    private final ActionManager actionManager = new ActionManager();
+    private final Random rng;
+    private final Long seed; // null when the engine was handed a Random
+    private GameJournal journal;
+    private PhaseTracer tracer;
+    private int turnPhase, dicePhase, productionPhase, eventPhase, actionPhase, replenishPhase, exchangePhase,
+            winCheckPhase, turnEndPhase;
+
+    public GameEngine() {
+        this(new Random());
+    }
+
+    /**
+     * @param rng Source for the starting player and both dice (seed it for reproducible games)
+     */
+    public GameEngine(Random rng) {
+        this.rng = rng;
+        this.seed = null;
+    }
+
+    /**
+     * Seeded engine; the seed is written to the journal so the game can be replayed.
+     */
+    public GameEngine(long seed) {
+        this.rng = new Random(seed);
+        this.seed = seed;
+    }
+
+    /**
+     * Dice and starting-player source (its state is part of a game snapshot).
+     */
+    public Random getRandom() {
+        return rng;
+    }
+
+    /**
+     * Record the games run by this engine (null to stop recording).
+     */
+    public void setJournal(GameJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * Time every turn and its phases (null to stop tracing).
+     */
+    public void setTracer(PhaseTracer tracer) {
+        this.tracer = tracer;
+        if (tracer == null)
+            return;
+        turnPhase = tracer.phase("Turn");
+        dicePhase = tracer.phase("Dice");
+        productionPhase = tracer.phase(productionManager.getPhaseName());
+        eventPhase = tracer.phase(eventResolver.getPhaseName());
+        actionPhase = tracer.phase(actionManager.getPhaseName());
+        replenishPhase = tracer.phase(replenishManager.getPhaseName());
+        exchangePhase = tracer.phase(exchangeManager.getPhaseName());
+        winCheckPhase = tracer.phase("Win Check");
+        turnEndPhase = tracer.phase("Turn End");
+    }
+
+    /**
+     * Main gameplay loop.
+     * Handles turn progression, dice rolling, events, actions, and win conditions.
+     *
+     * @param players List of players in the game
+     */
+    public void runGameLoop(List<Player> players) {
+        int current = rng.nextBoolean() ? 0 : 1; // random start
+        resumeGameLoop(players, current);
+    }
+
+    /**
+     * Continue a game at a turn boundary, e.g. after restoring a snapshot.
+     *
+     * @param players List of players in the game
+     * @param current Index of the player whose turn is next
+     */
+    public void resumeGameLoop(List<Player> players, int current) {
+        startJournal(players);
+        // print the players principality and hand
+        showBoards(players, "Opponent's starting board:", "Your starting board:", "Your starting hand:");
+        while (!playTurn(players, current)) {
+            current = (current + 1) % players.size();
+        }
+        endJournal(current);
+    }
+
+    /**
+     * Play a game without any console output until someone wins or the turn limit is hit.
+     *
+     * @param players List of players in the game
+     * @param maxTurns Turn limit (guards against games that cannot finish)
+     * @return Index of the winner, or -1 if the limit was reached
+     */
+    public int runHeadless(List<Player> players, int maxTurns) {
+        int current = rng.nextBoolean() ? 0 : 1;
+        return runHeadless(players, maxTurns, current);
+    }
+
+    /**
+     * Headless game starting (or resuming) with the player at index {@code current}.
+     */
+    public int runHeadless(List<Player> players, int maxTurns, int current) {
+        startJournal(players);
+        for (int turn = 0; turn < maxTurns; turn++) {
+            if (playTurn(players, current)) {
+                endJournal(current);
+                return current;
+            }
+            current = (current + 1) % players.size();
+        }
+        endJournal(-1);
+        return -1;
+    }
+
+    /**
+     * Play one full turn for the player at index {@code current}.
+     *
+     * @return true if the active player won at the end of the turn
+     */
+    public boolean playTurn(List<Player> players, int current) {
+        Player active = players.get(current);
+        Player other = players.get((current + 1) % players.size());
+        begin(turnPhase);
+
+        // -------- Part 1: Roll Dice --------
+        begin(dicePhase);
+        int eventFace = rollEventDie(active, players);
+        int prodFace = rollProductionDie(active, players);
+        active.getEventBus().diceRolled(active, eventFace, prodFace);
+        end();
+
+        if (eventFace == EventType.BRIGAND) { // Brigand first, then production
+            resolveEvent(eventFace, players, active, other);
+            applyProduction(prodFace, players);
+        } else { // production first, then event
+            applyProduction(prodFace, players);
+            resolveEvent(eventFace, players, active, other);
+        }
+
+        // print the players principality and hand
+        showBoards(players, "Opponent's board:", "Your board:", "Your hand:");
+
+        // -------- Part 2: Action Phase (very small) --------
+        begin(actionPhase);
+        actionManager.actionPhase(active, other, s -> broadcast(s, players));
+        end();
+
+        // -------- Part 3: Replenish Hand --------
+        begin(replenishPhase);
+        replenishManager.replenish(active);
+        end();
+
+        // -------- Part 4: Exchange (simplified) --------
+        begin(exchangePhase);
+        exchangeManager.exchangePhase(active, s -> broadcast(s, players));
+        end();
+
+        // -------- Part 5: Scoring & Win Check --------
+        begin(winCheckPhase);
+        boolean won = checkWinEndOfTurn(active, other, players);
+        end();
+        begin(turnEndPhase);
+        active.getEventBus().turnEnded(active);
+        end();
+        end();
+        return won;
+    }
+
+    private void applyProduction(int prodFace, List<Player> players) {
+        begin(productionPhase);
+        productionManager.applyProduction(prodFace, players, p -> opponentOf(p, players));
+        end();
+    }
+
+    private void resolveEvent(int eventFace, List<Player> players, Player active, Player other) {
+        begin(eventPhase);
+        eventResolver.resolveEvent(eventFace, players, active, other);
+        end();
+    }
+
+    private void showBoards(List<Player> players, String opponentTitle, String ownTitle, String handTitle) {
+        for (int i = 0; i < players.size(); i++) {
+            Player currentPlayer = players.get(i);
+            if (currentPlayer.isBot)
+                continue; // bots never see console output; skip rendering
+            Player opponentPlayer = players.get((i + 1) % players.size());
+            currentPlayer.sendMessage(opponentTitle);
+            currentPlayer.sendMessage(
+                    "\t\t" + opponentPlayer.printPrincipality(currentPlayer).replace("\n", "\n\t\t"));
+            currentPlayer.sendMessage(ownTitle);
+            currentPlayer.sendMessage(currentPlayer.printPrincipality(opponentPlayer));
+            currentPlayer.sendMessage(handTitle);
+            currentPlayer.sendMessage(currentPlayer.printHand());
+        }
+    }
+
+    private boolean checkWinEndOfTurn(Player active, Player other, List<Player> players) {
+        int score = active.currentScoreAgainst(other);
+        if (score >= WINNING_SCORE) {
+            broadcast("winner: Player " + players.indexOf(active)
+                    + " wins with " + score + " VP (incl. advantage tokens)!", players);
+            return true;
+        }
+        return false;
+    }
+
+    // ---------- Dice ----------
+    private int rollEventDie(Player active, List<Player> players) {
+        // Brigitta lets the player fix production die, not event die — but we keep the
+        // hook simple
+        int face = 1 + rng.nextInt(6);
+        broadcast("[EventDie] -> " + face, players);
+        return face;
+    }
+
+    private int rollProductionDie(Player active, List<Player> players) {
+        int face = 1 + rng.nextInt(6);
+        if (active.abilities.has(Ability.BRIGITTA)) {
+            active.sendMessage("PROMPT: Brigitta active -  choose production die [1-6]:");
+            try {
+                int forced = Integer.parseInt(active.receiveMessage().trim());
+                if (forced >= 1 && forced <= 6)
+                    face = forced;
+            } catch (Exception ignored) {
+            }
+            active.abilities.remove(Ability.BRIGITTA);
+        }
+        broadcast("[ProductionDie] -> " + face, players);
+        return face;
+    }
+
+    // ---------- Tracing ----------
+    private void begin(int phase) {
+        if (tracer != null)
+            tracer.begin(phase);
+    }
+
+    private void end() {
+        if (tracer != null)
+            tracer.end();
+    }
+
+    // ---------- Journal ----------
+    private void startJournal(List<Player> players) {
+        if (journal == null)
+            return;
+        journal.attach(players);
+        if (seed != null)
+            journal.seed(GameJournal.SEED_ENGINE, seed);
+    }
+
+    private void endJournal(int winner) {
+        if (journal != null)
+            journal.end(winner);
+    }
+
+    // ---------- Helper Methods ----------
+    private Player opponentOf(Player p, List<Player> players) {
+        return (p == players.get(0)) ? players.get(1) : players.get(0);
+    }
+
+    private void broadcast(String s, List<Player> players) {
+        // send to each player
+        for (Player p : players) {
+            if (p != null) {
+                p.sendMessage(s);
+            }
+        }
+    }
+}
@@ -22,31 +22,16 @@ public class ProductionManager implements IGameManager {
      * @param opponentOf Function to get opponent of a player
      */
     public void applyProduction(int face, List<Player> players, java.util.function.Function<Player, Player> opponentOf) {
-        for (Player p : players) {
+        for (int i = 0; i < players.size(); i++) { // indexed: no iterator per roll
+            Player p = players.get(i);
             // Marketplace extra check: if opponent has more regions matching face, p gets
             // +1 of matching type
-            boolean hasMarketplace = p.flags.contains("MARKETPLACE");
-            int pMatches = countFaceRegions(p, face);
-            int oppMatches = countFaceRegions(opponentOf.apply(p), face);
+            boolean hasMarketplace = p.abilities.has(Ability.MARKETPLACE);
+            int pMatches = p.getProductionKernel().regionsOnFace(face);
+            int oppMatches = opponentOf.apply(p).getProductionKernel().regionsOnFace(face);
 
-            for (int r = 0; r < p.principality.size(); r++) {
-                List<Card> row = p.principality.get(r);
-                for (int c = 0; c < row.size(); c++) {
-                    Card card = row.get(c);
-                    if (card == null || !"Region".equalsIgnoreCase(card.type))
-                        continue;
-                    if (card.diceRoll != face)
-                        continue;
-
-                    // Base increase = 1
-                    int inc = 1;
-                    // Booster buildings adjacent (same row, at c-1 or c+1) add +1
-                    if (hasAdjacentBoosterForRegion(p, r, c))
-                        inc += 1;
-
-                    card.regionProduction = Math.min(3, card.regionProduction + inc);
-                }
-            }
+            // +1 per region on this face, +2 next to a matching booster building (3-cap)
+            p.getProductionKernel().produce(face);
 
             // Marketplace: if opponent has strictly more face-regions than p, p may gain +1
             // of one of those face resources
@@ -58,30 +43,4 @@ public class ProductionManager implements IGameManager {
             }
         }
     }
-
-    private boolean hasAdjacentBoosterForRegion(Player p, int rr, int cc) {
-        Card region = p.getCard(rr, cc);
-        if (region == null)
-            return false;
-        Card left = p.getCard(rr, cc - 1);
-        Card right = p.getCard(rr, cc + 1);
-        return isBoosting(left, region) || isBoosting(right, region);
-    }
-
-    private boolean isBoosting(Card maybeBuilding, Card region) {
-        if (maybeBuilding == null)
-            return false;
-        if (!"Building".equalsIgnoreCase(maybeBuilding.type))
-            return false;
-        return Card.buildingBoostsRegion(maybeBuilding.name, region.name);
-    }
-
-    private int countFaceRegions(Player p, int face) {
-        int n = 0;
-        for (List<Card> row : p.principality)
-            for (Card c : row)
-                if (c != null && "Region".equalsIgnoreCase(c.type) && c.diceRoll == face)
-                    n++;
-        return n;
-    }
 }
@@ -20,7 +20,7 @@ public class ReplenishManager implements IGameManager {
      * @param p The player to replenish
      */
     public void replenish(Player p) {
-        if (p.flags != null && p.flags.remove("NO_REPLENISH_ONCE")) {
+        if (p.abilities.remove(Ability.NO_REPLENISH_ONCE)) {
             p.sendMessage("You cannot replenish your hand this turn (Fraternal Feuds).");
             return;
         } else {
@@ -28,13 +28,13 @@ public class ReplenishManager implements IGameManager {
             while (p.handSize() < handTarget) {
                 p.sendMessage("PROMPT: Replenish - choose draw stack [1-4]:");
                 int which = CostParser.parseInt(p.receiveMessage(), 1);
-                Vector<Card> stack = stackBy(which);
+                Pile stack = p.getDecks().drawStack(which);
                 if (stack.isEmpty()) {
                     // advance circularly until any non-empty
                     int tries = 0;
                     do {
                         which = 1 + (which % 4);
-                        stack = stackBy(which);
+                        stack = p.getDecks().drawStack(which);
                         tries++;
                     } while (stack.isEmpty() && tries <= 4);
                     if (stack.isEmpty()) {
@@ -42,22 +42,8 @@ public class ReplenishManager implements IGameManager {
                         break;
                     }
                 }
-                p.addToHand(stack.remove(0));
+                p.addToHand(stack.drawTop());
             }
         }
     }
-
-    private Vector<Card> stackBy(int n) {
-        switch (n) {
-            case 1:
-                return Card.drawStack1;
-            case 2:
-                return Card.drawStack2;
-            case 3:
-                return Card.drawStack3;
-            case 4:
-                return Card.drawStack4;
-        }
-        return Card.drawStack1;
-    }
 }
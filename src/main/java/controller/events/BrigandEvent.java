@@ -2,24 +2,27 @@ package controller.events;
 
 import model.Card;
 import model.Player;
-import java.util.HashSet;
+import model.StorehouseZones;
+import java.util.Arrays;
 import java.util.List;
-import java.util.Set;
 
 /**
  * Handles the Brigand event.
  * Brigands attack players with more than 7 total resources, zeroing out Gold and Wool in affected regions.
  */
 public class BrigandEvent implements IEventHandler {
-    
+
+    private static final int SAFE_LIMIT = 7;
+
+    // Gold Field / Pasture slots seen during the pass (reused; one handler per game)
+    private Card[] exposed = new Card[16];
+
     @Override
     public void handleEvent(List<Player> players, Player active, Player other) {
         broadcast(players, "[Event] Brigand Attack");
         
         for (Player p : players) {
-            int total = countAllResources(p, true);
-            if (total > 7) {
-                zeroGoldAndWool(p, true);
+            if (raid(p)) {
                 p.sendMessage("Brigands! You lose all Gold & Wool in affected regions.");
             }
         }
@@ -30,72 +33,47 @@ public class BrigandEvent implements IEventHandler {
         return "Brigand";
     }
     
-    private int countAllResources(Player p, boolean excludeStorehouseAdj) {
+    /**
+     * One pass over the board: count stored resources outside Storehouse zones
+     * and remember the unprotected Gold Field and Pasture slots; if the count is
+     * over 7, zero those slots.
+     * @return true if the player was raided
+     */
+    private boolean raid(Player p) {
+        StorehouseZones zones = p.getStorehouseZones();
         int total = 0;
-        Set<String> excluded = excludeStorehouseAdj ? storehouseExcludedKeys(p) : Set.of();
+        int n = 0;
         for (int r = 0; r < p.principality.size(); r++) {
             List<Card> row = p.principality.get(r);
             if (row == null)
                 continue;
             for (int c = 0; c < row.size(); c++) {
                 Card card = row.get(c);
-                if (card == null)
-                    continue;
-                String key = r + ":" + c;
-                if (excluded.contains(key))
+                if (card == null || zones.isProtected(r, c))
                     continue;
                 // Count resources from all region types
                 if ("Region".equalsIgnoreCase(card.type)) {
                     total += Math.max(0, Math.min(3, card.regionProduction));
                 }
-            }
-        }
-        return total;
-    }
-    
-    private void zeroGoldAndWool(Player p, boolean excludeStorehouseAdj) {
-        Set<String> excluded = excludeStorehouseAdj ? storehouseExcludedKeys(p) : Set.of();
-        for (int r = 0; r < p.principality.size(); r++) {
-            List<Card> row = p.principality.get(r);
-            if (row == null)
-                continue;
-            for (int c = 0; c < row.size(); c++) {
-                Card card = row.get(c);
-                if (card == null)
-                    continue;
-                String key = r + ":" + c;
-                if (excluded.contains(key))
-                    continue;
-                // Zero out only Gold Field (produces Gold) and Pasture (produces Wool)
+                // Only Gold Field (produces Gold) and Pasture (produces Wool) are taken
                 if ("Gold Field".equalsIgnoreCase(card.name) || "Pasture".equalsIgnoreCase(card.name)) {
-                    card.regionProduction = 0;
+                    if (n == exposed.length)
+                        exposed = Arrays.copyOf(exposed, n * 2);
+                    exposed[n++] = card;
                 }
             }
         }
-    }
-    
-    private Set<String> storehouseExcludedKeys(Player p) {
-        Set<String> out = new HashSet<>();
-        for (int r = 0; r < p.principality.size(); r++) {
-            List<Card> row = p.principality.get(r);
-            for (int c = 0; c < row.size(); c++) {
-                Card x = row.get(c);
-                if (x != null && x.name != null && x.name.equalsIgnoreCase("Storehouse")) {
-                    boolean belowCenter = nmAt(p.getCard(r + 1, c), "Settlement", "City")
-                            || nmAt(p.getCard(r + 2, c), "City", "City");
-                    int regionRow = belowCenter ? r - 1 : r + 1;
-                    out.add(regionRow + ":" + (c - 1));
-                    out.add(regionRow + ":" + (c + 1));
-                }
+        boolean raided = total > SAFE_LIMIT;
+        for (int i = 0; i < n; i++) {
+            if (raided) {
+                Card card = exposed[i];
+                int before = card.regionProduction;
+                card.regionProduction = 0;
+                p.notifyStored(card, -before);
             }
+            exposed[i] = null;
         }
-        return out;
-    }
-    
-    private static boolean nmAt(Card c, String a, String b) {
-        if (c == null || c.name == null)
-            return false;
-        return c.name.equalsIgnoreCase(a) || c.name.equalsIgnoreCase(b);
+        return raided;
     }
     
     private void broadcast(List<Player> players, String s) {
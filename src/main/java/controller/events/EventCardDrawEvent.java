@@ -1,6 +1,7 @@
 package controller.events;
 
 import model.Card;
+import model.GameDecks;
 import model.Player;
 import java.util.List;
 
@@ -10,49 +11,63 @@ import java.util.List;
  */
 public class EventCardDrawEvent implements IEventHandler {
     
-    private final FeudEventCard feudEvent = new FeudEventCard();
-    private final FraternalFeudsEventCard fraternalFeudsEvent = new FraternalFeudsEventCard();
-    private final InventionEventCard inventionEvent = new InventionEventCard();
-    private final TradeShipsRaceEventCard tradeShipsRaceEvent = new TradeShipsRaceEventCard();
-    private final TravelingMerchantEventCard travelingMerchantEvent = new TravelingMerchantEventCard();
-    private final YearOfPlentyEventCard yearOfPlentyEvent = new YearOfPlentyEventCard();
+    // Created when the card is first drawn (many games never see some of them)
+    private FeudEventCard feudEvent;
+    private FraternalFeudsEventCard fraternalFeudsEvent;
+    private InventionEventCard inventionEvent;
+    private TradeShipsRaceEventCard tradeShipsRaceEvent;
+    private TravelingMerchantEventCard travelingMerchantEvent;
+    private YearOfPlentyEventCard yearOfPlentyEvent;
     
     @Override
     public void handleEvent(List<Player> players, Player active, Player other) {
         broadcast(players, "[Event] Draw Event Card");
         
-        if (Card.events.isEmpty()) {
+        GameDecks decks = active.getDecks();
+        if (decks.events.isEmpty()) {
             broadcast(players, "Event deck empty.");
             return;
         }
         
-        Card top = Card.events.remove(0);
+        Card top = decks.events.drawTop();
         broadcast(players, "EVENT: " + (top.cardText != null ? top.cardText : top.name));
         
         String nm = (top.name == null ? "" : top.name).toLowerCase();
         
         if (nm.equalsIgnoreCase("feud")) {
+            if (feudEvent == null)
+                feudEvent = new FeudEventCard();
             feudEvent.resolve(players, active, other);
-            Card.events.add(top); // Return card to bottom of pile
+            decks.events.add(top); // Return card to bottom of pile
         } else if (nm.equalsIgnoreCase("fraternal feuds")) {
+            if (fraternalFeudsEvent == null)
+                fraternalFeudsEvent = new FraternalFeudsEventCard();
             fraternalFeudsEvent.resolve(players, active, other);
-            Card.events.add(top); // Return card to bottom of pile
+            decks.events.add(top); // Return card to bottom of pile
         } else if (nm.equalsIgnoreCase("invention")) {
+            if (inventionEvent == null)
+                inventionEvent = new InventionEventCard();
             inventionEvent.resolve(players, active, other);
-            Card.events.add(top); // Return card to bottom of pile
+            decks.events.add(top); // Return card to bottom of pile
         } else if (nm.equalsIgnoreCase("trade ships race")) {
+            if (tradeShipsRaceEvent == null)
+                tradeShipsRaceEvent = new TradeShipsRaceEventCard();
             tradeShipsRaceEvent.resolve(players, active, other);
-            Card.events.add(top); // Return card to bottom of pile
+            decks.events.add(top); // Return card to bottom of pile
         } else if (nm.equalsIgnoreCase("traveling merchant")) {
+            if (travelingMerchantEvent == null)
+                travelingMerchantEvent = new TravelingMerchantEventCard();
             travelingMerchantEvent.resolve(players, active, other);
-            Card.events.add(top); // Return card to bottom of pile
+            decks.events.add(top); // Return card to bottom of pile
         } else if (nm.equalsIgnoreCase("year of plenty")) {
+            if (yearOfPlentyEvent == null)
+                yearOfPlentyEvent = new YearOfPlentyEventCard();
             yearOfPlentyEvent.resolve(players, active, other);
-            Card.events.add(top); // Return card to bottom of pile
+            decks.events.add(top); // Return card to bottom of pile
         } else if (nm.equalsIgnoreCase("yule")) {
             // Shuffle the event deck and immediately draw again
-            Card.events.add(top); // Return Yule card before shuffling
-            java.util.Collections.shuffle(Card.events);
+            decks.events.add(top); // Return Yule card before shuffling
+            decks.shuffle(decks.events);
             handleEvent(players, active, other); // recurse one more draw
         }
     }
@@ -1,5 +1,6 @@
 package controller.events;
 
+import model.AdvantageType;
 import model.Card;
 import model.Player;
 import java.util.ArrayList;
@@ -13,9 +14,7 @@ import java.util.List;
 public class FeudEventCard {
     
     public void resolve(List<Player> players, Player active, Player other) {
-        Player adv = hasStrengthAdvantage(players.get(0), players.get(1)) ? players.get(0)
-                : hasStrengthAdvantage(players.get(1), players.get(0)) ? players.get(1)
-                        : null;
+        Player adv = players.get(0).advantagesAgainst(players.get(1)).owner(AdvantageType.STRENGTH);
 
         if (adv == null) {
             broadcast(players, "Feud: no strength advantage; nothing happens.");
@@ -101,24 +100,20 @@ public class FeudEventCard {
         if (choice < 0 || choice >= picked.size())
             choice = 0;
         int rr = picked.get(choice)[0], cc = picked.get(choice)[1];
-        Card removed = opp.principality.get(rr).set(cc, null);
+        Card removed = opp.removeCard(rr, cc);
         broadcast(players, "Feud: removed " + (removed == null ? "unknown" : removed.name) + " from opponent at (" + rr + ","
                 + cc + ").");
-        returnBuildingToBottom(removed);
-    }
-    
-    private boolean hasStrengthAdvantage(Player a, Player b) {
-        return a.strengthPoints >= 3 && a.strengthPoints > b.strengthPoints;
+        returnBuildingToBottom(opp, removed);
     }
     
     private Card getSafe(Player p, int r, int c) {
         return p.getCard(r, c);
     }
     
-    private void returnBuildingToBottom(Card bld) {
+    private void returnBuildingToBottom(Player owner, Card bld) {
         if (bld == null)
             return;
-        Card.drawStack1.add(bld);
+        owner.getDecks().drawStack(1).putBottom(bld);
     }
     
     private void broadcast(List<Player> players, String s) {
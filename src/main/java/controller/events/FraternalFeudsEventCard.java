@@ -1,5 +1,7 @@
 package controller.events;
 
+import model.Ability;
+import model.AdvantageType;
 import model.Card;
 import model.Player;
 import java.util.ArrayList;
@@ -16,9 +18,7 @@ import java.util.Set;
 public class FraternalFeudsEventCard {
     
     public void resolve(List<Player> players, Player active, Player other) {
-        Player adv = hasStrengthAdvantage(players.get(0), players.get(1)) ? players.get(0)
-                : hasStrengthAdvantage(players.get(1), players.get(0)) ? players.get(1)
-                        : null;
+        Player adv = players.get(0).advantagesAgainst(players.get(1)).owner(AdvantageType.STRENGTH);
 
         if (adv == null) {
             broadcast(players, "Fraternal Feuds: no strength advantage; nothing happens.");
@@ -57,7 +57,7 @@ public class FraternalFeudsEventCard {
         Collections.sort(order, Collections.reverseOrder());
         for (int i : order) {
             Card rem = opp.hand.remove(i);
-            returnBuildingToBottom(rem);
+            returnBuildingToBottom(opp, rem);
             broadcast(players, "Fraternal Feuds: returned '" + rem.name + "' to bottom of a draw stack.");
         }
 
@@ -65,20 +65,14 @@ public class FraternalFeudsEventCard {
         broadcast(players, "Fraternal Feuds: opponent cannot replenish hand at the end of the next turn.");
     }
     
-    private boolean hasStrengthAdvantage(Player a, Player b) {
-        return a.strengthPoints >= 3 && a.strengthPoints > b.strengthPoints;
-    }
-    
-    private void returnBuildingToBottom(Card bld) {
+    private void returnBuildingToBottom(Player owner, Card bld) {
         if (bld == null)
             return;
-        Card.drawStack1.add(bld);
+        owner.getDecks().drawStack(1).putBottom(bld);
     }
     
     private void markSkipReplenishOnce(Player p) {
-        if (p.flags == null)
-            p.flags = new HashSet<>();
-        p.flags.add("NO_REPLENISH_ONCE");
+        p.abilities.add(Ability.NO_REPLENISH_ONCE);
     }
     
     private void broadcast(List<Player> players, String s) {
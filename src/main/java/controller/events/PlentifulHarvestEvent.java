@@ -1,5 +1,6 @@
 package controller.events;
 
+import model.Ability;
 import model.Card;
 import model.Player;
 import java.util.List;
@@ -19,7 +20,7 @@ public class PlentifulHarvestEvent implements IEventHandler {
             p.gainResource(res);
             
             // Toll Bridge: +2 Gold if you can store it (any gold field with <3)
-            if (p.flags.contains("TOLLB")) {
+            if (p.abilities.has(Ability.TOLL_BRIDGE)) {
                 int add = grantGoldIfSpace(p, 2);
                 if (add > 0)
                     p.sendMessage("Toll Bridge: +" + add + " Gold");
@@ -47,6 +48,7 @@ public class PlentifulHarvestEvent implements IEventHandler {
                     int add = Math.min(can, want - given);
                     if (add > 0) {
                         card.regionProduction += add;
+                        p.notifyStored(card, add);
                         given += add;
                     }
                 }
@@ -24,6 +24,7 @@ public class YearOfPlentyEventCard {
                     while (adj-- > 0) {
                         if (reg.regionProduction < 3) {
                             reg.regionProduction++;
+                            p.notifyStored(reg, 1);
                             added++;
                         }
                     }
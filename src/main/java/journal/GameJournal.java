@@ -0,0 +1,233 @@
+package journal;
+
+import model.AdvantageType;
+import model.Card;
+import model.Player;
+import model.events.GameEventBus;
+import model.events.IGameEventListener;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records one game as compact binary records: seeds, dice, every prompt
+ * answer and the state changes published on the game's event bus.
+ *
+ * Records go into a per-game byte buffer (no locking, no I/O) and are handed
+ * to the shared {@link JournalFile} as one block per turn, closed by a
+ * {@link StateHash} checkpoint that {@link GameReplay} checks against. Each
+ * record is a type byte followed by varints; card names are sent once as NAME
+ * records and then referred to by id. Not thread-safe: one journal per game.
+ */
+public class GameJournal implements IGameEventListener {
+
+    // Record types
+    public static final int SEED = 1; // stream u8, seed (8 bytes, big-endian)
+    public static final int DICE = 2; // player u8, event face u8, production face u8
+    public static final int ANSWER = 3; // player u8, length+1 varint (0 = null), UTF-8
+    public static final int NAME = 4; // id varint, length varint, UTF-8
+    public static final int PLACE = 5; // player u8, row varint, col varint, name id varint (0 = empty)
+    public static final int RESOURCE = 6; // player u8, resource u8, delta zigzag varint
+    public static final int ADVANTAGE = 7; // player u8, type ordinal << 1 | gained
+    public static final int END = 8; // winner zigzag varint (-1 = turn limit)
+    public static final int HASH = 9; // checkpoint varint, StateHash (8 bytes, big-endian)
+
+    // Seed streams
+    public static final int SEED_ENGINE = 0; // GameEngine dice and starting player
+    public static final int SEED_DECKS = 1; // DeckBuilder.build shuffles
+
+    private static final int UNKNOWN_PLAYER = 255;
+
+    private final JournalFile file;
+    private final long gameId;
+    private byte[] buf = new byte[1024];
+    private int pos;
+    private List<Player> players = List.of();
+    private GameEventBus bus;
+    private final Map<String, Integer> nameIds = new HashMap<>();
+    private int checkpoints;
+
+    public GameJournal(JournalFile file, long gameId) {
+        this.file = file;
+        this.gameId = gameId;
+    }
+
+    public long getGameId() {
+        return gameId;
+    }
+
+    /**
+     * Start recording the events of these players (their shared bus). Attach
+     * before game setup to also record the setup prompts; attaching again to
+     * the same players is a no-op.
+     */
+    public void attach(List<Player> players) {
+        if (bus != null && bus == players.get(0).getEventBus() && this.players.equals(players))
+            return;
+        detach();
+        this.players = List.copyOf(players);
+        bus = players.get(0).getEventBus();
+        bus.subscribe(this);
+    }
+
+    public void detach() {
+        if (bus != null)
+            bus.unsubscribe(this);
+        bus = null;
+    }
+
+    public void seed(int stream, long seed) {
+        ensure(10);
+        buf[pos++] = SEED;
+        buf[pos++] = (byte) stream;
+        putLong(seed);
+    }
+
+    /**
+     * Game over: record the result, hand over the last block and stop listening.
+     *
+     * @param winner Index of the winner, or -1
+     */
+    public void end(int winner) {
+        ensure(6);
+        buf[pos++] = END;
+        putVarint(zigzag(winner));
+        commit();
+        detach();
+    }
+
+    /**
+     * Hand the records buffered so far to the journal file (done at every turn end).
+     */
+    public void commit() {
+        if (pos == 0)
+            return;
+        try {
+            file.append(gameId, buf, pos);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Journal write failed for game " + gameId, e);
+        }
+        pos = 0;
+    }
+
+    // ---------- Bus events ----------
+
+    /**
+     * End of turn: record a state hash checkpoint and hand over the turn's block.
+     */
+    @Override
+    public void onTurnEnded(Player active) {
+        ensure(14);
+        buf[pos++] = HASH;
+        putVarint(checkpoints++);
+        putLong(StateHash.of(players));
+        commit();
+    }
+
+    @Override
+    public void onDiceRolled(Player active, int eventFace, int productionFace) {
+        ensure(4);
+        buf[pos++] = DICE;
+        buf[pos++] = (byte) indexOf(active);
+        buf[pos++] = (byte) eventFace;
+        buf[pos++] = (byte) productionFace;
+    }
+
+    @Override
+    public void onPromptAnswered(Player player, String answer) {
+        byte[] utf8 = answer == null ? null : answer.getBytes(StandardCharsets.UTF_8);
+        int len = utf8 == null ? 0 : utf8.length;
+        ensure(7 + len);
+        buf[pos++] = ANSWER;
+        buf[pos++] = (byte) indexOf(player);
+        putVarint(utf8 == null ? 0 : len + 1);
+        if (utf8 != null) {
+            System.arraycopy(utf8, 0, buf, pos, len);
+            pos += len;
+        }
+    }
+
+    @Override
+    public void onCardPlaced(Player player, Card card, int row, int col) {
+        int id = card == null || card.name == null ? 0 : nameId(card.name);
+        ensure(17);
+        buf[pos++] = PLACE;
+        buf[pos++] = (byte) indexOf(player);
+        putVarint(row);
+        putVarint(col);
+        putVarint(id);
+    }
+
+    @Override
+    public void onResourcesChanged(Player player, int resource, int delta) {
+        ensure(8);
+        buf[pos++] = RESOURCE;
+        buf[pos++] = (byte) indexOf(player);
+        buf[pos++] = (byte) resource;
+        putVarint(zigzag(delta));
+    }
+
+    @Override
+    public void onAdvantageChanged(Player player, AdvantageType type, boolean gained) {
+        ensure(3);
+        buf[pos++] = ADVANTAGE;
+        buf[pos++] = (byte) indexOf(player);
+        buf[pos++] = (byte) (type.ordinal() << 1 | (gained ? 1 : 0));
+    }
+
+    // ---------- Encoding ----------
+
+    private int nameId(String name) {
+        Integer id = nameIds.get(name);
+        if (id != null)
+            return id;
+        int newId = nameIds.size() + 1;
+        nameIds.put(name, newId);
+        byte[] utf8 = name.getBytes(StandardCharsets.UTF_8);
+        ensure(11 + utf8.length);
+        buf[pos++] = NAME;
+        putVarint(newId);
+        putVarint(utf8.length);
+        System.arraycopy(utf8, 0, buf, pos, utf8.length);
+        pos += utf8.length;
+        return newId;
+    }
+
+    private int indexOf(Player p) {
+        for (int i = 0; i < players.size(); i++)
+            if (players.get(i) == p)
+                return i;
+        return UNKNOWN_PLAYER;
+    }
+
+    private void ensure(int n) {
+        if (pos + n > buf.length)
+            buf = Arrays.copyOf(buf, Math.max(buf.length * 2, pos + n));
+    }
+
+    private void putVarint(int v) {
+        while ((v & ~0x7F) != 0) {
+            buf[pos++] = (byte) ((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        buf[pos++] = (byte) v;
+    }
+
+    private void putLong(long v) {
+        for (int shift = 56; shift >= 0; shift -= 8)
+            buf[pos++] = (byte) (v >>> shift);
+    }
+
+    static int zigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    static int unzigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
@@ -0,0 +1,175 @@
+package journal;
+
+import bot.BotGames;
+import controller.GameEngine;
+import model.CardCatalogue;
+import model.DeckBuilder;
+import model.Era;
+import model.Player;
+import model.events.GameEventBus;
+import model.events.IGameEventListener;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Re-runs a journaled game headlessly from its seeds and recorded answers.
+ *
+ * The decks are rebuilt from the SEED_DECKS seed, both players are
+ * {@link ReplayPlayer}s fed with their own ANSWER records, and the engine is
+ * seeded with SEED_ENGINE, so the game takes the same path as the original
+ * as long as the rules have not changed. After every turn the state hash is
+ * compared with the recorded checkpoint; the first mismatch is reported (or
+ * thrown in strict mode) so a bug can be reproduced at the turn it happened.
+ * With changed rules the replay simply re-scores the old game.
+ */
+public class GameReplay {
+
+    private static final int PLAYERS = BotGames.PLAYERS;
+
+    private final List<JournalRecord> records;
+    private final DeckBuilder builder;
+    private boolean strict;
+
+    /**
+     * @param records One game from {@link JournalReader#readAll}
+     * @param builder Deck builder for the era the game was played in
+     */
+    public GameReplay(List<JournalRecord> records, DeckBuilder builder) {
+        this.records = records;
+        this.builder = builder;
+    }
+
+    /**
+     * Throw on the first checkpoint mismatch instead of finishing the game.
+     */
+    public GameReplay strict(boolean strict) {
+        this.strict = strict;
+        return this;
+    }
+
+    /**
+     * Outcome of a replay.
+     */
+    public static final class Result {
+        public final int winner; // -1 = turn limit
+        public final int recordedWinner; // -1 = turn limit (or no END record)
+        public final int checkpoints; // turns checked against the journal
+        public final int divergedAt; // first mismatching checkpoint, -1 if none
+
+        Result(int winner, int recordedWinner, int checkpoints, int divergedAt) {
+            this.winner = winner;
+            this.recordedWinner = recordedWinner;
+            this.checkpoints = checkpoints;
+            this.divergedAt = divergedAt;
+        }
+
+        public boolean matches() {
+            return divergedAt < 0 && winner == recordedWinner;
+        }
+
+        @Override
+        public String toString() {
+            return (matches() ? "OK" : "DIVERGED" + (divergedAt >= 0 ? " at turn " + divergedAt : ""))
+                    + ": winner " + winner + " (recorded " + recordedWinner + "), "
+                    + checkpoints + " checkpoints";
+        }
+    }
+
+    /**
+     * Replay the whole game.
+     *
+     * @throws IllegalStateException if the journal has no seeds, a player needs
+     *         more answers than were recorded, or (strict) a checkpoint differs
+     */
+    public Result run() {
+        Long deckSeed = null, engineSeed = null;
+        int recordedWinner = -1;
+        List<List<String>> answers = new ArrayList<>();
+        List<Long> hashes = new ArrayList<>();
+        for (int i = 0; i < PLAYERS; i++)
+            answers.add(new ArrayList<>());
+        for (JournalRecord r : records) {
+            switch (r.type) {
+                case GameJournal.SEED:
+                    if (r.a == GameJournal.SEED_DECKS)
+                        deckSeed = r.value;
+                    else if (r.a == GameJournal.SEED_ENGINE)
+                        engineSeed = r.value;
+                    break;
+                case GameJournal.ANSWER:
+                    if (r.player >= 0 && r.player < PLAYERS)
+                        answers.get(r.player).add(r.text);
+                    break;
+                case GameJournal.HASH:
+                    hashes.add(r.value);
+                    break;
+                case GameJournal.END:
+                    recordedWinner = (int) r.value;
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (deckSeed == null || engineSeed == null)
+            throw new IllegalStateException("Journal has no " + (deckSeed == null ? "deck" : "engine")
+                    + " seed; attach the journal before building the game");
+
+        List<Player> players = BotGames.newGame(builder, new Random(deckSeed),
+                i -> new ReplayPlayer(answers.get(i)), null);
+        GameEventBus bus = players.get(0).getEventBus();
+        Checker checker = new Checker(players, hashes);
+        bus.subscribe(checker);
+        // The recorded game ended by a win or at its turn limit, one checkpoint per turn
+        int winner = new GameEngine(engineSeed).runHeadless(players, Math.max(1, hashes.size()));
+        bus.unsubscribe(checker);
+        return new Result(winner, recordedWinner, checker.checked, checker.divergedAt);
+    }
+
+    /**
+     * Compares the state after each turn with the recorded checkpoints.
+     */
+    private final class Checker implements IGameEventListener {
+        private final List<Player> players;
+        private final List<Long> hashes;
+        int checked;
+        int divergedAt = -1;
+
+        Checker(List<Player> players, List<Long> hashes) {
+            this.players = players;
+            this.hashes = hashes;
+        }
+
+        @Override
+        public void onTurnEnded(Player active) {
+            int turn = checked;
+            if (turn >= hashes.size() || divergedAt >= 0)
+                return;
+            checked++;
+            if (StateHash.of(players) != hashes.get(turn)) {
+                divergedAt = turn;
+                if (strict)
+                    throw new IllegalStateException("Replay diverged from the journal at turn " + turn);
+            }
+        }
+    }
+
+    /**
+     * Replay every game of a journal: {@code journal.GameReplay <file.jnl> [era]}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java journal.GameReplay <file.jnl> [era]");
+            return;
+        }
+        Era era = args.length > 1 ? Era.valueOf(args[1].toUpperCase(Locale.ROOT)) : Era.INTRO;
+        DeckBuilder builder = CardCatalogue.get("cards.json").deckBuilder(era);
+        for (Map.Entry<Long, List<JournalRecord>> game : JournalReader.readAll(Paths.get(args[0])).entrySet())
+            System.out.println("game " + game.getKey() + ": " + new GameReplay(game.getValue(), builder).run());
+    }
+}
@@ -0,0 +1,156 @@
+package journal;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Append-only journal file shared by any number of games.
+ *
+ * Games hand over finished blocks of records (one per turn, see
+ * {@link GameJournal#commit()}); blocks are copied into one direct buffer and
+ * written to the channel when it fills up. A background flusher writes the
+ * buffer out and forces the channel once per commit interval, outside the
+ * append lock, so appends never wait on an fsync and many games share each
+ * one (group commit). A crash loses the blocks appended during the last
+ * interval plus the force in progress, including during idle pauses. With an
+ * interval of 0 every append is forced before it returns.
+ *
+ * Layout: magic "RJNL", version, then blocks of (game id, length, records).
+ * Thread-safe.
+ */
+public class JournalFile implements Closeable {
+
+    static final int MAGIC = 0x524A4E4C; // "RJNL"
+    static final int VERSION = 1;
+    static final int BLOCK_HEADER = 12; // long game id + int length
+
+    public static final long DEFAULT_COMMIT_INTERVAL_MS = 1000;
+    private static final int BUFFER_SIZE = 256 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+    private final long commitIntervalMillis;
+    private final ScheduledExecutorService flusher;
+    private volatile IOException flushFailure;
+    private boolean closed;
+
+    private JournalFile(FileChannel channel, long commitIntervalMillis) {
+        this.channel = channel;
+        this.commitIntervalMillis = commitIntervalMillis;
+        if (commitIntervalMillis > 0) {
+            flusher = Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r, "journal-flush");
+                t.setDaemon(true);
+                return t;
+            });
+            flusher.scheduleWithFixedDelay(this::backgroundSync, commitIntervalMillis, commitIntervalMillis,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            flusher = null;
+        }
+    }
+
+    /**
+     * Create (or truncate) a journal file.
+     */
+    public static JournalFile create(Path file) throws IOException {
+        return create(file, DEFAULT_COMMIT_INTERVAL_MS);
+    }
+
+    /**
+     * @param commitIntervalMillis Longest time between forces to disk (0 forces every block)
+     */
+    public static JournalFile create(Path file, long commitIntervalMillis) throws IOException {
+        FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+        JournalFile j = new JournalFile(ch, commitIntervalMillis);
+        j.buffer.putInt(MAGIC).putInt(VERSION);
+        return j;
+    }
+
+    /**
+     * Append one block of records for a game.
+     *
+     * @throws IOException also when an earlier background force failed
+     */
+    public void append(long gameId, byte[] records, int length) throws IOException {
+        IOException failure = flushFailure;
+        if (failure != null)
+            throw new IOException("journal flush failed", failure);
+        synchronized (this) {
+            if (closed)
+                throw new IOException("journal closed");
+            if (buffer.remaining() < BLOCK_HEADER + length)
+                drain();
+            if (buffer.remaining() < BLOCK_HEADER + length) {
+                // Larger than the whole buffer: write it straight through
+                ByteBuffer big = ByteBuffer.allocate(BLOCK_HEADER + length);
+                big.putLong(gameId).putInt(length).put(records, 0, length).flip();
+                while (big.hasRemaining())
+                    channel.write(big);
+            } else {
+                buffer.putLong(gameId).putInt(length).put(records, 0, length);
+            }
+        }
+        if (commitIntervalMillis == 0)
+            flush();
+    }
+
+    /**
+     * Write buffered blocks and force them to disk. Only the write holds the
+     * lock; other games keep appending during the force.
+     */
+    public void flush() throws IOException {
+        synchronized (this) {
+            if (closed)
+                return;
+            drain();
+        }
+        channel.force(false);
+    }
+
+    private void backgroundSync() {
+        try {
+            flush();
+        } catch (IOException e) {
+            flushFailure = e;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (flusher != null) {
+            flusher.shutdown();
+            try {
+                flusher.awaitTermination(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            if (closed)
+                return;
+            try {
+                drain();
+                channel.force(false);
+            } finally {
+                closed = true;
+                channel.close();
+            }
+        }
+    }
+
+    private void drain() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+}
@@ -0,0 +1,146 @@
+package journal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decodes a {@link JournalFile} back into per-game record lists.
+ */
+public class JournalReader {
+
+    /**
+     * Every game in the file, in order of first appearance.
+     *
+     * @throws IOException if the file is not a journal or a block is cut short
+     */
+    public static Map<Long, List<JournalRecord>> readAll(Path file) throws IOException {
+        ByteBuffer in = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (in.remaining() < 8 || in.getInt() != JournalFile.MAGIC || in.getInt() != JournalFile.VERSION)
+            throw new IOException(file + ": not a game journal (or wrong version)");
+
+        Map<Long, List<JournalRecord>> games = new LinkedHashMap<>();
+        Map<Long, Map<Integer, String>> names = new HashMap<>();
+        try {
+            while (in.remaining() >= JournalFile.BLOCK_HEADER) {
+                long gameId = in.getLong();
+                int length = in.getInt();
+                ByteBuffer block = in.slice();
+                block.limit(length);
+                in.position(in.position() + length);
+                decode(block, games.computeIfAbsent(gameId, k -> new ArrayList<>()),
+                        names.computeIfAbsent(gameId, k -> new HashMap<>()));
+            }
+        } catch (RuntimeException e) { // BufferUnderflow / bad limit on a truncated file
+            throw new IOException(file + ": corrupt journal", e);
+        }
+        return games;
+    }
+
+    private static void decode(ByteBuffer in, List<JournalRecord> out, Map<Integer, String> names) {
+        while (in.hasRemaining()) {
+            int type = in.get();
+            switch (type) {
+                case GameJournal.SEED: {
+                    int stream = in.get() & 0xFF;
+                    out.add(new JournalRecord(type, -1, stream, 0, in.getLong(), null));
+                    break;
+                }
+                case GameJournal.DICE: {
+                    int player = player(in);
+                    int event = in.get();
+                    int production = in.get();
+                    out.add(new JournalRecord(type, player, event, production, 0, null));
+                    break;
+                }
+                case GameJournal.ANSWER: {
+                    int player = player(in);
+                    int len = varint(in);
+                    String text = len == 0 ? null : utf8(in, len - 1);
+                    out.add(new JournalRecord(type, player, 0, 0, 0, text));
+                    break;
+                }
+                case GameJournal.NAME: {
+                    int id = varint(in);
+                    names.put(id, utf8(in, varint(in)));
+                    break;
+                }
+                case GameJournal.PLACE: {
+                    int player = player(in);
+                    int row = varint(in);
+                    int col = varint(in);
+                    int id = varint(in);
+                    out.add(new JournalRecord(type, player, row, col, 0, id == 0 ? null : names.get(id)));
+                    break;
+                }
+                case GameJournal.RESOURCE: {
+                    int player = player(in);
+                    int resource = in.get();
+                    int delta = GameJournal.unzigzag(varint(in));
+                    out.add(new JournalRecord(type, player, resource, 0, delta, null));
+                    break;
+                }
+                case GameJournal.ADVANTAGE: {
+                    int player = player(in);
+                    int bits = in.get();
+                    out.add(new JournalRecord(type, player, bits >> 1, bits & 1, 0, null));
+                    break;
+                }
+                case GameJournal.HASH: {
+                    int checkpoint = varint(in);
+                    out.add(new JournalRecord(type, -1, checkpoint, 0, in.getLong(), null));
+                    break;
+                }
+                case GameJournal.END:
+                    out.add(new JournalRecord(type, -1, 0, 0, GameJournal.unzigzag(varint(in)), null));
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown record type " + type);
+            }
+        }
+    }
+
+    private static int player(ByteBuffer in) {
+        int p = in.get() & 0xFF;
+        return p == 255 ? -1 : p;
+    }
+
+    private static int varint(ByteBuffer in) {
+        int v = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = in.get();
+            v |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return v;
+        }
+    }
+
+    private static String utf8(ByteBuffer in, int len) {
+        byte[] b = new byte[len];
+        in.get(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Print a journal: {@code journal.JournalReader <file.jnl>}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.out.println("Usage: java journal.JournalReader <file.jnl>");
+            return;
+        }
+        for (Map.Entry<Long, List<JournalRecord>> game : readAll(Paths.get(args[0])).entrySet()) {
+            System.out.println("== game " + game.getKey() + " (" + game.getValue().size() + " records)");
+            for (JournalRecord r : game.getValue())
+                System.out.println(r);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package journal;
+
+import model.AdvantageType;
+
+/**
+ * One decoded journal record. Field use depends on the type:
+ * <ul>
+ * <li>SEED: a = stream, value = seed</li>
+ * <li>DICE: player, a = event face, b = production face</li>
+ * <li>ANSWER: player, text = answer (may be null)</li>
+ * <li>PLACE: player, a = row, b = col, text = card name (null = slot cleared)</li>
+ * <li>RESOURCE: player, a = resource index, value = delta</li>
+ * <li>ADVANTAGE: player, a = AdvantageType ordinal, b = 1 if gained</li>
+ * <li>HASH: a = checkpoint (turn) index, value = {@link StateHash}</li>
+ * <li>END: value = winner index (-1 = turn limit)</li>
+ * </ul>
+ */
+public final class JournalRecord {
+
+    public final int type;
+    public final int player; // -1 when the record has no player
+    public final int a, b;
+    public final long value;
+    public final String text;
+
+    JournalRecord(int type, int player, int a, int b, long value, String text) {
+        this.type = type;
+        this.player = player;
+        this.a = a;
+        this.b = b;
+        this.value = value;
+        this.text = text;
+    }
+
+    @Override
+    public String toString() {
+        switch (type) {
+            case GameJournal.SEED:
+                return "SEED stream=" + a + " " + value;
+            case GameJournal.DICE:
+                return "DICE p" + player + " event=" + a + " production=" + b;
+            case GameJournal.ANSWER:
+                return "ANSWER p" + player + " " + (text == null ? "<null>" : "\"" + text + "\"");
+            case GameJournal.PLACE:
+                return "PLACE p" + player + " (" + a + "," + b + ") " + (text == null ? "<empty>" : text);
+            case GameJournal.RESOURCE:
+                return "RESOURCE p" + player + " res=" + a + " " + (value > 0 ? "+" : "") + value;
+            case GameJournal.ADVANTAGE:
+                return "ADVANTAGE p" + player + " " + AdvantageType.values()[a] + (b == 1 ? " gained" : " lost");
+            case GameJournal.HASH:
+                return "HASH #" + a + " " + Long.toHexString(value);
+            case GameJournal.END:
+                return "END winner=" + value;
+            default:
+                return "UNKNOWN " + type;
+        }
+    }
+}
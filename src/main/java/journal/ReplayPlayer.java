@@ -0,0 +1,40 @@
+package journal;
+
+import model.Player;
+
+import java.util.List;
+
+/**
+ * Player whose prompt answers come from a journal instead of the console or
+ * a socket. Prints nothing, so a replay runs at full speed.
+ */
+public class ReplayPlayer extends Player {
+
+    private final List<String> answers;
+    private int next;
+
+    public ReplayPlayer(List<String> answers) {
+        this.answers = answers;
+        isBot = true; // no console output
+    }
+
+    @Override
+    public void sendMessage(Object m) {
+    }
+
+    @Override
+    public String receiveMessage() {
+        if (next >= answers.size())
+            throw new IllegalStateException("Replay ran out of recorded answers after " + next);
+        String a = answers.get(next++);
+        getEventBus().promptAnswered(this, a);
+        return a;
+    }
+
+    /**
+     * Recorded answers not consumed yet (0 after a faithful replay).
+     */
+    public int remainingAnswers() {
+        return answers.size() - next;
+    }
+}
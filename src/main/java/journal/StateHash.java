@@ -0,0 +1,58 @@
+package journal;
+
+import model.Card;
+import model.Player;
+
+import java.util.List;
+
+/**
+ * 64-bit fingerprint of the game state that matters for replay: points,
+ * every principality slot (card name and stored resources) and the hands.
+ * Two games with the same hash are treated as being in the same state.
+ */
+public final class StateHash {
+
+    private static final long OFFSET = 0xcbf29ce484222325L; // FNV-1a 64
+    private static final long PRIME = 0x100000001b3L;
+
+    private StateHash() {
+    }
+
+    public static long of(List<Player> players) {
+        long h = OFFSET;
+        for (Player p : players) {
+            h = mix(h, p.victoryPoints);
+            h = mix(h, p.progressPoints);
+            h = mix(h, p.skillPoints);
+            h = mix(h, p.commercePoints);
+            h = mix(h, p.strengthPoints);
+            h = mix(h, p.principality.size());
+            for (int r = 0; r < p.principality.size(); r++) {
+                List<Card> row = p.principality.get(r);
+                int cols = row == null ? 0 : row.size();
+                h = mix(h, cols);
+                for (int c = 0; c < cols; c++) {
+                    Card card = row.get(c);
+                    if (card == null) {
+                        h = mix(h, 0);
+                        continue;
+                    }
+                    h = mix(h, card.name == null ? 1 : card.name.hashCode());
+                    h = mix(h, card.regionProduction);
+                }
+            }
+            h = mix(h, p.hand.size());
+            for (Card card : p.hand)
+                h = mix(h, card == null || card.name == null ? 1 : card.name.hashCode());
+        }
+        return h;
+    }
+
+    private static long mix(long h, int v) {
+        for (int i = 0; i < 4; i++) {
+            h ^= (v >>> (i * 8)) & 0xFF;
+            h *= PRIME;
+        }
+        return h;
+    }
+}
@@ -0,0 +1,8 @@
+package log;
+
+/**
+ * Log levels, from most to least verbose. OFF disables logging.
+ */
+public enum Level {
+    TRACE, DEBUG, INFO, WARN, ERROR, OFF
+}
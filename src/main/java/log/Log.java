@@ -0,0 +1,116 @@
+package log;
+
+import log.interfaces.ILogSink;
+
+import java.io.PrintStream;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Logging facade: loggers by class, one global level and one asynchronous
+ * {@link RingBufferAppender} writing to standard error.
+ *
+ * The level comes from {@code -Drivals.log.level=DEBUG} (default INFO) and can
+ * be changed at run time. The appender thread is started on the first enabled
+ * event, so games that log nothing never create it.
+ */
+public final class Log {
+
+    public static final String LEVEL_PROPERTY = "rivals.log.level";
+    public static final int RING_SIZE = 8192;
+
+    static volatile int threshold = parseLevel(System.getProperty(LEVEL_PROPERTY), Level.INFO).ordinal();
+
+    private static final ConcurrentHashMap<String, Logger> LOGGERS = new ConcurrentHashMap<>();
+    private static volatile RingBufferAppender appender;
+    private static ILogSink sink = new PrintStreamSink(System.err);
+    private static boolean hooked;
+
+    private Log() {
+    }
+
+    public static Logger get(Class<?> type) {
+        return get(type.getName());
+    }
+
+    public static Logger get(String name) {
+        return LOGGERS.computeIfAbsent(name, Logger::new);
+    }
+
+    public static Level getLevel() {
+        return Level.values()[threshold];
+    }
+
+    public static void setLevel(Level level) {
+        threshold = level.ordinal();
+    }
+
+    /**
+     * Send log lines somewhere else (flushes and replaces the current appender).
+     */
+    public static synchronized void setSink(ILogSink newSink) {
+        if (appender != null) {
+            appender.close();
+            appender = null;
+        }
+        sink = newSink;
+    }
+
+    /**
+     * Wait until every queued line has been written.
+     */
+    public static void flush() {
+        RingBufferAppender a = appender;
+        if (a != null)
+            a.flush();
+    }
+
+    static RingBufferAppender appender() {
+        RingBufferAppender a = appender;
+        if (a == null) {
+            synchronized (Log.class) {
+                a = appender;
+                if (a == null) {
+                    a = new RingBufferAppender(RING_SIZE, sink);
+                    appender = a;
+                    if (!hooked) {
+                        Runtime.getRuntime().addShutdownHook(new Thread(Log::flush, "log-flush"));
+                        hooked = true;
+                    }
+                }
+            }
+        }
+        return a;
+    }
+
+    static Level parseLevel(String s, Level fallback) {
+        if (s == null)
+            return fallback;
+        try {
+            return Level.valueOf(s.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            return fallback;
+        }
+    }
+
+    /**
+     * Sink writing lines to a PrintStream (flushed when the appender goes idle).
+     */
+    public static final class PrintStreamSink implements ILogSink {
+        private final PrintStream out;
+
+        public PrintStreamSink(PrintStream out) {
+            this.out = out;
+        }
+
+        @Override
+        public void write(String line) {
+            out.println(line);
+        }
+
+        @Override
+        public void flush() {
+            out.flush();
+        }
+    }
+}
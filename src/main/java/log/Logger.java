@@ -0,0 +1,105 @@
+package log;
+
+import java.util.function.Supplier;
+
+/**
+ * Named logger. Messages are templates with "{}" placeholders and up to three
+ * arguments, or suppliers; a disabled call costs one volatile read and builds
+ * nothing. Templates are formatted on the appender thread; suppliers are
+ * called on the logging thread, so they see the state at the time of the call.
+ */
+public final class Logger {
+
+    private final String name;
+
+    Logger(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public boolean isEnabled(Level level) {
+        return level.ordinal() >= Log.threshold;
+    }
+
+    public boolean isDebugEnabled() {
+        return Level.DEBUG.ordinal() >= Log.threshold;
+    }
+
+    public void log(Level level, String template, Object a, Object b, Object c, int argc) {
+        if (level.ordinal() >= Log.threshold)
+            Log.appender().append(level, name, template, a, b, c, argc);
+    }
+
+    /**
+     * Call {@code message} now, on this thread, if the level is enabled.
+     */
+    public void log(Level level, Supplier<String> message) {
+        if (level.ordinal() >= Log.threshold)
+            Log.appender().append(level, name, "{}", message.get(), null, null, 1);
+    }
+
+    // ---------- Level shortcuts ----------
+
+    public void trace(String msg) {
+        log(Level.TRACE, msg, null, null, null, 0);
+    }
+
+    public void trace(Supplier<String> message) {
+        log(Level.TRACE, message);
+    }
+
+    public void debug(String msg) {
+        log(Level.DEBUG, msg, null, null, null, 0);
+    }
+
+    public void debug(String template, Object a) {
+        log(Level.DEBUG, template, a, null, null, 1);
+    }
+
+    public void debug(String template, Object a, Object b) {
+        log(Level.DEBUG, template, a, b, null, 2);
+    }
+
+    public void debug(String template, Object a, Object b, Object c) {
+        log(Level.DEBUG, template, a, b, c, 3);
+    }
+
+    public void debug(Supplier<String> message) {
+        log(Level.DEBUG, message);
+    }
+
+    public void info(String msg) {
+        log(Level.INFO, msg, null, null, null, 0);
+    }
+
+    public void info(String template, Object a) {
+        log(Level.INFO, template, a, null, null, 1);
+    }
+
+    public void info(String template, Object a, Object b) {
+        log(Level.INFO, template, a, b, null, 2);
+    }
+
+    public void warn(String msg) {
+        log(Level.WARN, msg, null, null, null, 0);
+    }
+
+    public void warn(String template, Object a) {
+        log(Level.WARN, template, a, null, null, 1);
+    }
+
+    public void warn(String template, Object a, Object b) {
+        log(Level.WARN, template, a, b, null, 2);
+    }
+
+    public void error(String template, Object a) {
+        log(Level.ERROR, template, a, null, null, 1);
+    }
+
+    public void error(String template, Object a, Object b) {
+        log(Level.ERROR, template, a, b, null, 2);
+    }
+}
@@ -0,0 +1,164 @@
+package log;
+
+import log.interfaces.ILogSink;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous appender: callers copy the event (level, logger, template and
+ * up to three arguments) into a preallocated ring slot and return; one daemon
+ * thread formats the slots and hands the lines to an {@link ILogSink}.
+ *
+ * Producers claim slots with a CAS on the head counter and never block: when
+ * the ring is full the event is dropped and counted. Formatting, string
+ * building and I/O all happen on the appender thread.
+ */
+public class RingBufferAppender {
+
+    private static final long IDLE_PARK_NANOS = 2_000_000; // 2 ms
+
+    private static final class Slot {
+        long time;
+        Level level;
+        String logger;
+        String template;
+        Object a, b, c;
+        int argc;
+    }
+
+    private final Slot[] slots;
+    private final int mask;
+    // published[i] = sequence + 1 once slot i holds that sequence's event
+    private final AtomicLongArray published;
+    private final AtomicLong head = new AtomicLong();
+    private volatile long tail;
+    private final AtomicLong dropped = new AtomicLong();
+    private final ILogSink sink;
+    private final Thread worker;
+    private volatile boolean running = true;
+
+    /**
+     * @param capacity Ring size (rounded up to a power of two)
+     * @param sink Destination of the formatted lines
+     */
+    public RingBufferAppender(int capacity, ILogSink sink) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.slots = new Slot[size];
+        for (int i = 0; i < size; i++)
+            slots[i] = new Slot();
+        this.mask = size - 1;
+        this.published = new AtomicLongArray(size);
+        this.sink = sink;
+        this.worker = new Thread(this::drainLoop, "log-appender");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    /**
+     * Queue one event; returns false if the ring was full and it was dropped.
+     */
+    boolean append(Level level, String logger, String template, Object a, Object b, Object c, int argc) {
+        long seq;
+        do {
+            seq = head.get();
+            if (seq - tail >= slots.length) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        } while (!head.compareAndSet(seq, seq + 1));
+        int i = (int) (seq & mask);
+        Slot s = slots[i];
+        s.time = System.currentTimeMillis();
+        s.level = level;
+        s.logger = logger;
+        s.template = template;
+        s.a = a;
+        s.b = b;
+        s.c = c;
+        s.argc = argc;
+        published.set(i, seq + 1);
+        return true;
+    }
+
+    /**
+     * Events dropped because the ring was full.
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Wait until everything queued so far has been written, then flush the sink.
+     */
+    public void flush() {
+        long target = head.get();
+        while (tail < target && worker.isAlive())
+            LockSupport.parkNanos(100_000);
+        synchronized (sink) {
+            sink.flush();
+        }
+    }
+
+    /**
+     * Write what is queued and stop the appender thread.
+     */
+    public void close() {
+        flush();
+        running = false;
+        LockSupport.unpark(worker);
+    }
+
+    private void drainLoop() {
+        StringBuilder sb = new StringBuilder(256);
+        boolean unflushed = false; // lines written since the last flush
+        while (running) {
+            long seq = tail;
+            int i = (int) (seq & mask);
+            if (published.get(i) != seq + 1) {
+                if (unflushed) {
+                    synchronized (sink) {
+                        sink.flush();
+                    }
+                    unflushed = false;
+                }
+                LockSupport.parkNanos(IDLE_PARK_NANOS);
+                continue;
+            }
+            Slot s = slots[i];
+            sb.setLength(0);
+            render(sb, s);
+            s.a = s.b = s.c = null; // do not keep arguments reachable
+            tail = seq + 1; // frees the slot for producers
+            synchronized (sink) {
+                sink.write(sb.toString());
+            }
+            unflushed = true;
+        }
+    }
+
+    private static void render(StringBuilder sb, Slot s) {
+        sb.append(Instant.ofEpochMilli(s.time)).append(' ').append(s.level).append(' ')
+                .append(s.logger).append(' ');
+        format(sb, s.template, s.argc, s.a, s.b, s.c);
+    }
+
+    /**
+     * Replace each "{}" in the template with the next argument.
+     */
+    static void format(StringBuilder sb, String template, int argc, Object a, Object b, Object c) {
+        int arg = 0;
+        int from = 0;
+        while (arg < argc) {
+            int at = template.indexOf("{}", from);
+            if (at < 0)
+                break;
+            sb.append(template, from, at).append(arg == 0 ? a : arg == 1 ? b : c);
+            from = at + 2;
+            arg++;
+        }
+        sb.append(template, from, template.length());
+    }
+}
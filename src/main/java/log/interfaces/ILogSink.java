@@ -0,0 +1,19 @@
+package log.interfaces;
+
+/**
+ * Destination for rendered log lines. Only the appender thread calls it.
+ */
+public interface ILogSink {
+
+    /**
+     * Write one rendered line (without a line separator).
+     * @param line The log line
+     */
+    void write(String line);
+
+    /**
+     * Push buffered lines out (called when the appender is idle or flushed).
+     */
+    default void flush() {
+    }
+}
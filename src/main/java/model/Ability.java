@@ -0,0 +1,34 @@
+package model;
+
+/**
+ * Boolean abilities a player can hold, stored as bits in {@link PlayerAbilities}.
+ * Replaces the old string flags ("MARKETPLACE", "2FOR1_ORE", ...).
+ */
+public enum Ability {
+    MARKETPLACE,
+    PARISH,
+    TOLL_BRIDGE,
+    BRIGITTA,
+    SCOUT_NEXT_SETTLEMENT,
+    NO_REPLENISH_ONCE,
+    // 2:1 trade ships, in ResourceType.RESOURCES order
+    TWO_FOR_ONE_BRICK,
+    TWO_FOR_ONE_GRAIN,
+    TWO_FOR_ONE_LUMBER,
+    TWO_FOR_ONE_WOOL,
+    TWO_FOR_ONE_ORE,
+    TWO_FOR_ONE_GOLD;
+
+    private static final Ability[] VALUES = values();
+
+    final long bit = 1L << ordinal();
+
+    /**
+     * The 2:1 trade ship ability for a resource index, or null if out of range.
+     */
+    public static Ability twoForOne(int resource) {
+        if (resource < 0 || resource >= ResourceType.COUNT)
+            return null;
+        return VALUES[TWO_FOR_ONE_BRICK.ordinal() + resource];
+    }
+}
@@ -0,0 +1,101 @@
+package model;
+
+/**
+ * Owners of the Trade and Strength advantage tokens between two players.
+ *
+ * A token belongs to the player with 3+ points (CP for Trade, FP for
+ * Strength) and strictly more than the opponent. Owners are cached and only
+ * recomputed when one of the four counts differs from the last seen value,
+ * so score reads (win check, evaluators, summaries) cost a few int compares.
+ * Ownership changes are published as AdvantageChanged events on the
+ * players' buses. Both players of a game share one tracker
+ * (see {@link Player#advantagesAgainst}).
+ */
+public class AdvantageTracker {
+
+    public static final int MIN_POINTS = 3;
+
+    private final Player a, b; // b may be null (no opponent: counts as 0 points)
+    private int cpA, cpB, fpA, fpB;
+    private Player trade, strength;
+
+    public AdvantageTracker(Player a, Player b) {
+        this.a = a;
+        this.b = b;
+        cpA = a.commercePoints;
+        fpA = a.strengthPoints;
+        cpB = b == null ? 0 : b.commercePoints;
+        fpB = b == null ? 0 : b.strengthPoints;
+        trade = leader(cpA, cpB);
+        strength = leader(fpA, fpB);
+    }
+
+    /**
+     * True if this tracker is for exactly these two players (in either order).
+     */
+    public boolean covers(Player p, Player opp) {
+        return (p == a && opp == b) || (p == b && opp == a);
+    }
+
+    /**
+     * Recompute owners if CP or FP changed since the last call, publishing
+     * one event per player whose token changed.
+     */
+    public void sync() {
+        int ca = a.commercePoints, fa = a.strengthPoints;
+        int cb = b == null ? 0 : b.commercePoints, fb = b == null ? 0 : b.strengthPoints;
+        if (ca == cpA && cb == cpB && fa == fpA && fb == fpB)
+            return;
+        cpA = ca;
+        cpB = cb;
+        fpA = fa;
+        fpB = fb;
+        Player newTrade = leader(ca, cb);
+        if (newTrade != trade) {
+            Player old = trade;
+            trade = newTrade;
+            publish(old, newTrade, AdvantageType.TRADE);
+        }
+        Player newStrength = leader(fa, fb);
+        if (newStrength != strength) {
+            Player old = strength;
+            strength = newStrength;
+            publish(old, newStrength, AdvantageType.STRENGTH);
+        }
+    }
+
+    /**
+     * Current owner of a token, or null if nobody qualifies.
+     */
+    public Player owner(AdvantageType type) {
+        sync();
+        return type == AdvantageType.TRADE ? trade : strength;
+    }
+
+    public boolean holds(Player p, AdvantageType type) {
+        return p != null && owner(type) == p;
+    }
+
+    /**
+     * Number of tokens (0-2) held by a player; each is worth 1 VP.
+     */
+    public int tokens(Player p) {
+        sync();
+        return (trade == p ? 1 : 0) + (strength == p ? 1 : 0);
+    }
+
+    private Player leader(int pointsA, int pointsB) {
+        if (pointsA >= MIN_POINTS && pointsA > pointsB)
+            return a;
+        if (b != null && pointsB >= MIN_POINTS && pointsB > pointsA)
+            return b;
+        return null;
+    }
+
+    private static void publish(Player lost, Player gained, AdvantageType type) {
+        if (lost != null)
+            lost.getEventBus().advantageChanged(lost, type, false);
+        if (gained != null)
+            gained.getEventBus().advantageChanged(gained, type, true);
+    }
+}
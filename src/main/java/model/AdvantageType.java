@@ -0,0 +1,9 @@
+package model;
+
+/**
+ * The two advantage tokens: Trade (commerce points) and Strength (strength points).
+ */
+public enum AdvantageType {
+    TRADE,
+    STRENGTH
+}
@@ -0,0 +1,35 @@
+package model;
+
+/**
+ * Immutable (row, col) slot in a principality, used for positional abilities
+ * such as Large Trade Ships and Storehouses.
+ */
+public final class BoardPosition {
+    public final int row;
+    public final int col;
+
+    public BoardPosition(int row, int col) {
+        this.row = row;
+        this.col = col;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o)
+            return true;
+        if (!(o instanceof BoardPosition))
+            return false;
+        BoardPosition other = (BoardPosition) o;
+        return row == other.row && col == other.col;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * row + col;
+    }
+
+    @Override
+    public String toString() {
+        return "(" + row + "," + col + ")";
+    }
+}
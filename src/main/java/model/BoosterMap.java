@@ -0,0 +1,79 @@
+package model;
+
+import util.PlacementValidator;
+
+import java.util.List;
+
+/**
+ * Production multiplier of every slot in one principality: 1 for a region,
+ * 2 for a region next to its booster building (Iron Foundry/Mountain,
+ * Grain Mill/Field, Lumber Camp/Forest, Brick Factory/Hill, Weaver's
+ * Shop/Pasture), 0 for anything else.
+ *
+ * Player.placeCard updates the changed slot and its left/right neighbours on
+ * every placement, removal (Feud) and swap (Relocation), so production reads
+ * one byte per region instead of name-matching neighbours each roll.
+ */
+public class BoosterMap {
+
+    private byte[] cells = new byte[0];
+    private int rows, cols;
+
+    /**
+     * Multiplier at a slot (0 outside the board or for non-regions).
+     */
+    public int multiplier(int r, int c) {
+        if (r < 0 || c < 0 || r >= rows || c >= cols)
+            return 0;
+        return cells[r * cols + c];
+    }
+
+    /**
+     * Recompute a slot and its neighbours after the card there changed.
+     */
+    public void update(Player p, int r, int c) {
+        resize(p);
+        for (int cc = c - 1; cc <= c + 1; cc++)
+            if (r >= 0 && r < rows && cc >= 0 && cc < cols)
+                cells[r * cols + cc] = compute(p, r, cc);
+    }
+
+    /**
+     * Recompute every slot, e.g. after a column was inserted on the left.
+     */
+    public void rebuild(Player p) {
+        List<List<Card>> grid = p.principality;
+        rows = grid.size();
+        cols = rows == 0 ? 0 : grid.get(0).size();
+        cells = new byte[rows * cols];
+        for (int r = 0; r < rows; r++)
+            for (int c = 0; c < cols; c++)
+                cells[r * cols + c] = compute(p, r, c);
+    }
+
+    // Grow to the grid size; rows and columns are only ever appended here
+    private void resize(Player p) {
+        int newRows = p.principality.size();
+        int newCols = newRows == 0 ? 0 : p.principality.get(0).size();
+        if (newRows == rows && newCols == cols)
+            return;
+        byte[] grown = new byte[newRows * newCols];
+        for (int r = 0; r < Math.min(rows, newRows); r++)
+            System.arraycopy(cells, r * cols, grown, r * newCols, Math.min(cols, newCols));
+        cells = grown;
+        rows = newRows;
+        cols = newCols;
+    }
+
+    private static byte compute(Player p, int r, int c) {
+        Card card = p.getCard(r, c);
+        if (!PlacementValidator.isRegionCard(card))
+            return 0;
+        return (byte) (boosts(p.getCard(r, c - 1), card) || boosts(p.getCard(r, c + 1), card) ? 2 : 1);
+    }
+
+    private static boolean boosts(Card maybeBuilding, Card region) {
+        return PlacementValidator.isBooster(maybeBuilding)
+                && PlacementValidator.buildingBoostsRegion(maybeBuilding.name, region.name);
+    }
+}
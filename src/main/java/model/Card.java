@@ -1,9 +1,10 @@
 package model;
 
+import log.Log;
+import log.Logger;
 import model.effects.ActionCardEffectHandler;
 import model.effects.CenterCardEffectHandler;
 import model.effects.ExpansionCardEffectHandler;
-import util.CardLoader;
 import util.PlacementValidator;
 
 import java.io.IOException;
@@ -16,6 +17,8 @@ import java.util.*;
  */
 public class Card implements Comparable<Card> {
 
+    private static final Logger LOG = Log.get(Card.class);
+
     // ---------- Public fields (keep simple for the take-home) ----------
     public String name, theme, type, placement, cost, oneOf;
     public String victoryPoints, CP, SP, FP, PP, LP, KP, cardText;
@@ -27,15 +30,15 @@ public class Card implements Comparable<Card> {
     public int diceRoll = 0;
 
     // ---------- Global piles for the Basic set ----------
-    public static Vector<Card> regions = new Vector<>();
-    public static Vector<Card> roads = new Vector<>();
-    public static Vector<Card> settlements = new Vector<>();
-    public static Vector<Card> cities = new Vector<>();
-    public static Vector<Card> events = new Vector<>();
-    public static Vector<Card> drawStack1 = new Vector<>();
-    public static Vector<Card> drawStack2 = new Vector<>();
-    public static Vector<Card> drawStack3 = new Vector<>();
-    public static Vector<Card> drawStack4 = new Vector<>();
+    public static Pile regions = new Pile();
+    public static Pile roads = new Pile();
+    public static Pile settlements = new Pile();
+    public static Pile cities = new Pile();
+    public static Pile events = new Pile();
+    public static Pile drawStack1 = new Pile();
+    public static Pile drawStack2 = new Pile();
+    public static Pile drawStack3 = new Pile();
+    public static Pile drawStack4 = new Pile();
 
     // ---------- Construction ----------
     public Card() {
@@ -66,6 +69,15 @@ public class Card implements Comparable<Card> {
         this.protectionOrRemoval = protectionOrRemoval;
     }
 
+    // Independent copy of a catalogue card (including region stock and die)
+    public Card copy() {
+        Card c = new Card(name, theme, type, germanName, placement, oneOf, cost,
+                victoryPoints, CP, SP, FP, PP, LP, KP, Requires, cardText, protectionOrRemoval);
+        c.regionProduction = regionProduction;
+        c.diceRoll = diceRoll;
+        return c;
+    }
+
     @Override
     public String toString() {
         return name;
@@ -81,8 +93,10 @@ public class Card implements Comparable<Card> {
         return a != null && a.equalsIgnoreCase(b);
     }
 
-    // Pop first card by name (case-insensitive) from a vector
-    public static Card popCardByName(Vector<Card> cards, String name) {
+    // Pop first card by name (case-insensitive) from a pile or list
+    public static Card popCardByName(List<Card> cards, String name) {
+        if (cards instanceof Pile)
+            return ((Pile) cards).removeByName(name);
         if (cards == null || name == null)
             return null;
         String target = name.trim();
@@ -95,55 +109,10 @@ public class Card implements Comparable<Card> {
         return null;
     }
 
-    // Extract all cards whose public String field `attribute` equals `value`
-    public static Vector<Card> extractCardsByAttribute(Vector<Card> cards, String attribute, String value) {
-        Vector<Card> out = new Vector<>();
-        try {
-            java.lang.reflect.Field f = Card.class.getField(attribute);
-            for (int i = cards.size() - 1; i >= 0; i--) {
-                Card c = cards.get(i);
-                Object v = f.get(c);
-                if (v != null && String.valueOf(v).equalsIgnoreCase(value)) {
-                    out.add(0, cards.remove(i));
-                }
-            }
-        } catch (Exception ignored) {
-        }
-        return out;
-    }
-
     // ---------- Loading ONLY the Basic set into piles ----------
+    // Fills the global decks (the piles above); per-game decks come from DeckBuilder
     public static void loadBasicCards(String jsonPath) throws IOException {
-        Vector<Card> allBasic = CardLoader.loadCards(jsonPath, "basic");
-        
-        // Split into piles we care about
-        // Center cards
-        roads = extractCardsByAttribute(allBasic, "name", "Road");
-        settlements = extractCardsByAttribute(allBasic, "name", "Settlement");
-        cities = extractCardsByAttribute(allBasic, "name", "City");
-        
-        // Regions: "type" == "Region"
-        regions = extractCardsByAttribute(allBasic, "type", "Region");
-        
-        // Events
-        events = extractCardsByAttribute(allBasic, "placement", "Event");
-        // Place Yule 4th from bottom per cheat sheet
-        Card yule = popCardByName(events, "Yule");
-        Collections.shuffle(events);
-        if (yule != null && events.size() >= 3) {
-            events.add(Math.max(0, events.size() - 3), yule);
-        }
-        
-        // Remaining "draw stack" cards (action/expansion/units)
-        Collections.shuffle(allBasic);
-        int stackSize = 9; // Intro game
-        drawStack1 = new Vector<>(allBasic.subList(0, Math.min(stackSize, allBasic.size())));
-        drawStack2 = new Vector<>(allBasic.subList(Math.min(stackSize, allBasic.size()),
-                Math.min(2 * stackSize, allBasic.size())));
-        drawStack3 = new Vector<>(allBasic.subList(Math.min(2 * stackSize, allBasic.size()),
-                Math.min(3 * stackSize, allBasic.size())));
-        drawStack4 = new Vector<>(allBasic.subList(Math.min(3 * stackSize, allBasic.size()),
-                Math.min(4 * stackSize, allBasic.size())));
+        CardCatalogue.get(jsonPath).deckBuilder(Era.INTRO).build(new Random()).installAsGlobal();
     }
 
     // Determine if region name matches what a booster affects
@@ -157,7 +126,7 @@ public class Card implements Comparable<Card> {
     // This method now delegates to specialized handler classes following SRP
     public boolean applyEffect(Player active, Player other, int row, int col) {
         String nm = (name == null ? "" : name);
-        System.out.println("ApplyEffect: " + nm + " at (" + row + "," + col + ")");
+        LOG.debug("ApplyEffect card={} row={} col={}", nm, row, col);
         
         // 0) Early validation for occupied slot
         // Exception: Cities can be placed on Settlements to replace them
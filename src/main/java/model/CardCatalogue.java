@@ -0,0 +1,208 @@
+package model;
+
+import util.CardLoader;
+import util.CardSnapshot;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.Vector;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Immutable card catalogue, parsed once per JVM and shared by every game.
+ * Piles are built from it with the instantiate methods, which hand out
+ * fresh {@link Card} objects so games never share mutable state.
+ *
+ * Definitions are indexed (case-insensitively) by name, type, placement and
+ * theme token; a theme such as "Basic + Gold" or "Basic ÷ Turmoil" is listed
+ * under each of its parts.
+ *
+ * If the system property {@value #SNAPSHOT_PROPERTY} names an existing file
+ * written by {@link CardSnapshot} from the same card path, and that file is
+ * unchanged, the snapshot is memory-mapped instead of parsing JSON.
+ */
+public final class CardCatalogue {
+
+    public static final String SNAPSHOT_PROPERTY = "rivals.cards.snapshot";
+
+    private static final Map<String, CardCatalogue> LOADED = new ConcurrentHashMap<>();
+
+    private final List<CardDefinition> definitions;
+    private final Map<String, List<CardDefinition>> byName = new HashMap<>();
+    private final Map<String, List<CardDefinition>> byType = new HashMap<>();
+    private final Map<String, List<CardDefinition>> byPlacement = new HashMap<>();
+    private final Map<String, List<CardDefinition>> byTheme = new HashMap<>();
+    private final Map<String, CardCatalogue> themes = new ConcurrentHashMap<>();
+    private final Map<Era, DeckBuilder> builders = new ConcurrentHashMap<>();
+
+    public CardCatalogue(List<CardDefinition> definitions) {
+        this.definitions = Collections.unmodifiableList(new ArrayList<>(definitions));
+        for (CardDefinition d : this.definitions) {
+            index(byName, d.name, d);
+            index(byType, d.type, d);
+            index(byPlacement, d.placement, d);
+            if (d.theme != null)
+                for (String token : d.theme.split("[+÷]"))
+                    index(byTheme, token, d);
+        }
+        freeze(byName);
+        freeze(byType);
+        freeze(byPlacement);
+        freeze(byTheme);
+    }
+
+    private static void index(Map<String, List<CardDefinition>> idx, String key, CardDefinition d) {
+        if (key == null)
+            return;
+        List<CardDefinition> list = idx.computeIfAbsent(key(key), k -> new ArrayList<>());
+        if (list.isEmpty() || list.get(list.size() - 1) != d)
+            list.add(d);
+    }
+
+    private static void freeze(Map<String, List<CardDefinition>> idx) {
+        idx.replaceAll((k, v) -> Collections.unmodifiableList(v));
+    }
+
+    private static String key(String s) {
+        return s.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static List<CardDefinition> lookup(Map<String, List<CardDefinition>> idx, String key) {
+        if (key == null)
+            return Collections.emptyList();
+        return idx.getOrDefault(key(key), Collections.emptyList());
+    }
+
+    /**
+     * The catalogue for a cards.json path (classpath or filesystem), loaded on first use.
+     */
+    public static CardCatalogue get(String jsonPath) throws IOException {
+        CardCatalogue c = LOADED.get(jsonPath);
+        if (c == null) {
+            c = load(jsonPath);
+            CardCatalogue raced = LOADED.putIfAbsent(jsonPath, c);
+            if (raced != null)
+                c = raced;
+        }
+        return c;
+    }
+
+    private static CardCatalogue load(String jsonPath) throws IOException {
+        String snapshot = System.getProperty(SNAPSHOT_PROPERTY);
+        if (snapshot != null) {
+            Path p = Paths.get(snapshot);
+            if (Files.isRegularFile(p)) {
+                // Only a snapshot of this very file, unchanged since it was written
+                CardCatalogue c = CardSnapshot.readIfCurrent(p, jsonPath);
+                if (c != null)
+                    return c;
+            }
+        }
+        return new CardCatalogue(CardLoader.readDefinitions(jsonPath));
+    }
+
+    /**
+     * All definitions in file order.
+     */
+    public List<CardDefinition> definitions() {
+        return definitions;
+    }
+
+    public int size() {
+        return definitions.size();
+    }
+
+    /**
+     * Definitions with this name (case-insensitive), in catalogue order.
+     */
+    public List<CardDefinition> named(String name) {
+        return lookup(byName, name);
+    }
+
+    /**
+     * Definitions of this type, e.g. "Region" (case-insensitive).
+     */
+    public List<CardDefinition> ofType(String type) {
+        return lookup(byType, type);
+    }
+
+    /**
+     * Definitions with this placement, e.g. "Event" (case-insensitive).
+     */
+    public List<CardDefinition> withPlacement(String placement) {
+        return lookup(byPlacement, placement);
+    }
+
+    /**
+     * Definitions whose theme has this token, e.g. "Basic" (case-insensitive).
+     */
+    public List<CardDefinition> inTheme(String token) {
+        return lookup(byTheme, token);
+    }
+
+    /**
+     * The sub-catalogue of one theme token, with its own indexes (built once).
+     */
+    public CardCatalogue theme(String token) {
+        return themes.computeIfAbsent(key(token), k -> new CardCatalogue(inTheme(k)));
+    }
+
+    /**
+     * Default-rules deck builder for an era (built once per catalogue).
+     */
+    public DeckBuilder deckBuilder(Era era) {
+        return builders.computeIfAbsent(era, e -> new DeckBuilder(this, e));
+    }
+
+    /**
+     * Fresh cards (one per physical copy) for the given definitions.
+     */
+    public static Vector<Card> instantiate(Collection<CardDefinition> defs) {
+        Vector<Card> cards = new Vector<>();
+        for (CardDefinition d : defs)
+            for (int i = 0; i < d.number; i++)
+                cards.add(d.newCard());
+        return cards;
+    }
+
+    /**
+     * Fresh cards for every definition not in any of the given groups, in catalogue order.
+     */
+    @SafeVarargs
+    public final Vector<Card> instantiateExcept(List<CardDefinition>... groups) {
+        Set<CardDefinition> skip = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (List<CardDefinition> g : groups)
+            skip.addAll(g);
+        List<CardDefinition> rest = new ArrayList<>();
+        for (CardDefinition d : definitions)
+            if (!skip.contains(d))
+                rest.add(d);
+        return instantiate(rest);
+    }
+
+    /**
+     * Fresh cards (one per physical copy) whose theme contains the filter,
+     * in catalogue order.
+     */
+    public Vector<Card> instantiate(String themeFilter) {
+        Vector<Card> cards = new Vector<>();
+        for (CardDefinition d : definitions) {
+            if (!d.matchesTheme(themeFilter))
+                continue;
+            for (int i = 0; i < d.number; i++)
+                cards.add(d.newCard());
+        }
+        return cards;
+    }
+}
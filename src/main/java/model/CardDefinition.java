@@ -0,0 +1,62 @@
+package model;
+
+/**
+ * One immutable entry of the card catalogue (a row of cards.json).
+ * Game code works with mutable {@link Card} instances created by {@link #newCard()}.
+ */
+public final class CardDefinition {
+
+    public final String name, theme, type, placement, cost, oneOf;
+    public final String victoryPoints, CP, SP, FP, PP, LP, KP, cardText;
+    public final String germanName, Requires, protectionOrRemoval;
+    // Copies of this card in the physical deck
+    public final int number;
+
+    public CardDefinition(String name, String theme, String type,
+            String germanName, String placement,
+            String oneOf, String cost,
+            String victoryPoints, String CP, String SP, String FP,
+            String PP, String LP, String KP, String Requires,
+            String cardText, String protectionOrRemoval, int number) {
+        this.name = name;
+        this.theme = theme;
+        this.type = type;
+        this.germanName = germanName;
+        this.placement = placement;
+        this.oneOf = oneOf;
+        this.cost = cost;
+        this.victoryPoints = victoryPoints;
+        this.CP = CP;
+        this.SP = SP;
+        this.FP = FP;
+        this.PP = PP;
+        this.LP = LP;
+        this.KP = KP;
+        this.Requires = Requires;
+        this.cardText = cardText;
+        this.protectionOrRemoval = protectionOrRemoval;
+        this.number = number;
+    }
+
+    /**
+     * A fresh, mutable card with this definition's attributes.
+     */
+    public Card newCard() {
+        return new Card(name, theme, type, germanName, placement, oneOf, cost,
+                victoryPoints, CP, SP, FP, PP, LP, KP, Requires, cardText, protectionOrRemoval);
+    }
+
+    /**
+     * Case-insensitive theme substring match (null filter matches everything).
+     */
+    public boolean matchesTheme(String themeFilter) {
+        if (themeFilter == null)
+            return true;
+        return theme != null && theme.toLowerCase().contains(themeFilter.toLowerCase());
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
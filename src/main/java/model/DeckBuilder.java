@@ -0,0 +1,124 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Assembles the piles for an {@link Era} from the shared catalogue.
+ *
+ * The split of definitions into piles is worked out once, in the
+ * constructor; {@link #build(Random)} only instantiates and shuffles, so an
+ * expansion game costs about as much to set up as the intro game. A builder
+ * is immutable after construction and may build decks for many games in
+ * parallel, each with its own Random.
+ */
+public class DeckBuilder {
+
+    // Intro game: four stacks of nine
+    public static final int INTRO_STACK_SIZE = 9;
+
+    private final Era era;
+    private final int stackSize;
+    private final List<CardDefinition> roads, settlements, cities, regions, events, stackCards;
+
+    /**
+     * Intro rules for {@link Era#INTRO} (stacks of 9); other eras deal every
+     * remaining drawable card (not markers or Metropolis cards) evenly over
+     * the four stacks.
+     */
+    public DeckBuilder(CardCatalogue catalogue, Era era) {
+        this(catalogue, era, era == Era.INTRO ? INTRO_STACK_SIZE : 0);
+    }
+
+    /**
+     * @param stackSize Cards per draw stack, or 0 to deal all remaining cards
+     */
+    public DeckBuilder(CardCatalogue catalogue, Era era, int stackSize) {
+        if (stackSize < 0)
+            throw new IllegalArgumentException("stackSize must be >= 0");
+        this.era = era;
+        this.stackSize = stackSize;
+
+        CardCatalogue set = new CardCatalogue(select(catalogue, era.themes()));
+        roads = set.named("Road");
+        settlements = set.named("Settlement");
+        cities = set.named("City");
+        regions = set.ofType("Region");
+        events = set.withPlacement("Event");
+        List<CardDefinition> rest = new ArrayList<>();
+        for (CardDefinition d : set.definitions())
+            if (!roads.contains(d) && !settlements.contains(d) && !cities.contains(d)
+                    && !regions.contains(d) && !events.contains(d) && drawable(d))
+                rest.add(d);
+        stackCards = Collections.unmodifiableList(rest);
+    }
+
+    // Markers (Triumph Card, Public Feeling...) and Metropolis cards are set
+    // aside by the rules, never drawn into a hand
+    private static boolean drawable(CardDefinition d) {
+        return !"Marker Card".equalsIgnoreCase(d.placement) && !"Metropolis".equalsIgnoreCase(d.type);
+    }
+
+    // Definitions in any of the themes, in catalogue order
+    private static List<CardDefinition> select(CardCatalogue catalogue, String[] themes) {
+        List<CardDefinition> out = new ArrayList<>();
+        for (CardDefinition d : catalogue.definitions()) {
+            if (d.theme == null)
+                continue;
+            for (String token : d.theme.split("[+÷]")) {
+                if (contains(themes, token.trim())) {
+                    out.add(d);
+                    break;
+                }
+            }
+        }
+        return out;
+    }
+
+    private static boolean contains(String[] themes, String token) {
+        for (String t : themes)
+            if (t.toLowerCase(Locale.ROOT).equals(token.toLowerCase(Locale.ROOT)))
+                return true;
+        return false;
+    }
+
+    public Era getEra() {
+        return era;
+    }
+
+    /**
+     * Fresh piles for one game.
+     *
+     * @param rng Shuffles the piles now and during play (seed it for reproducible games)
+     */
+    public GameDecks build(Random rng) {
+        Pile eventPile = new Pile(CardCatalogue.instantiate(events));
+        // Place Yule 4th from bottom per cheat sheet
+        Card yule = eventPile.removeByName("Yule");
+        eventPile.shuffle(rng);
+        if (yule != null && eventPile.size() >= 3) {
+            eventPile.add(Math.max(0, eventPile.size() - 3), yule);
+        }
+
+        // Remaining "draw stack" cards (action/expansion/units)
+        Pile rest = new Pile(CardCatalogue.instantiate(stackCards));
+        rest.shuffle(rng);
+        int per = stackSize > 0 ? stackSize
+                : (rest.size() + GameDecks.DRAW_STACKS - 1) / GameDecks.DRAW_STACKS;
+        List<Pile> stacks = new ArrayList<>();
+        for (int i = 0; i < GameDecks.DRAW_STACKS; i++) {
+            int from = Math.min(i * per, rest.size());
+            int to = Math.min((i + 1) * per, rest.size());
+            stacks.add(new Pile(rest.subList(from, to)));
+        }
+
+        return new GameDecks(pile(regions), pile(roads), pile(settlements), pile(cities), eventPile, stacks, rng);
+    }
+
+    private static Pile pile(List<CardDefinition> defs) {
+        return new Pile(CardCatalogue.instantiate(defs));
+    }
+}
@@ -0,0 +1,28 @@
+package model;
+
+/**
+ * Game variants by the card themes they add to the Basic set.
+ * Theme names are tokens of the cards.json "theme" field.
+ */
+public enum Era {
+    INTRO("Basic"),
+    GOLD("Basic", "Gold"),
+    TURMOIL("Basic", "Turmoil"),
+    PROGRESS("Basic", "Progress"),
+    // Duel of the Princes: all three eras of the base box
+    DUEL_OF_THE_PRINCES("Basic", "Gold", "Turmoil", "Progress"),
+    // Age of Darkness expansion
+    DARKNESS("Basic", "Intrigue", "Merchant Princes", "Barbarians"),
+    // Age of Enlightenment expansion
+    ENLIGHTENMENT("Basic", "Sages", "Explorers", "Prosperity");
+
+    private final String[] themes;
+
+    Era(String... themes) {
+        this.themes = themes;
+    }
+
+    public String[] themes() {
+        return themes.clone();
+    }
+}
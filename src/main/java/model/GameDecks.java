@@ -0,0 +1,95 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * The card piles of one game: center cards, regions, events and the four
+ * draw stacks. Players of the same game share one instance (see
+ * {@link Player#setDecks}); games that never set one use the global decks
+ * filled by {@link Card#loadBasicCards}, which the static Card piles alias.
+ */
+public class GameDecks {
+
+    public static final int DRAW_STACKS = 4;
+
+    private static volatile GameDecks global = new GameDecks(Card.regions, Card.roads, Card.settlements,
+            Card.cities, Card.events,
+            List.of(Card.drawStack1, Card.drawStack2, Card.drawStack3, Card.drawStack4), new Random());
+
+    public final Pile regions;
+    public final Pile roads;
+    public final Pile settlements;
+    public final Pile cities;
+    public final Pile events;
+    private final List<Pile> drawStacks;
+    // In-game shuffles (Yule) use the game's own random source
+    private final Random rng;
+
+    public GameDecks(Pile regions, Pile roads, Pile settlements, Pile cities, Pile events,
+            List<Pile> drawStacks, Random rng) {
+        if (drawStacks.size() != DRAW_STACKS)
+            throw new IllegalArgumentException("Expected " + DRAW_STACKS + " draw stacks, got " + drawStacks.size());
+        this.regions = regions;
+        this.roads = roads;
+        this.settlements = settlements;
+        this.cities = cities;
+        this.events = events;
+        this.drawStacks = Collections.unmodifiableList(new ArrayList<>(drawStacks));
+        this.rng = rng;
+    }
+
+    /**
+     * Draw stack by number 1-4; anything else falls back to stack 1.
+     */
+    public Pile drawStack(int n) {
+        return (n >= 1 && n <= DRAW_STACKS) ? drawStacks.get(n - 1) : drawStacks.get(0);
+    }
+
+    public void shuffle(Pile pile) {
+        pile.shuffle(rng);
+    }
+
+    /**
+     * Every pile, in a fixed order: regions, roads, settlements, cities, events, draw stacks 1-4.
+     */
+    public List<Pile> piles() {
+        List<Pile> all = new ArrayList<>(List.of(regions, roads, settlements, cities, events));
+        all.addAll(drawStacks);
+        return all;
+    }
+
+    /**
+     * Shuffle source of this game (its state is part of a game snapshot).
+     */
+    public Random getRandom() {
+        return rng;
+    }
+
+    /**
+     * Decks used by players without their own (the single console game).
+     */
+    public static GameDecks global() {
+        return global;
+    }
+
+    /**
+     * Make these the global decks and point the static Card piles at them.
+     */
+    public void installAsGlobal() {
+        synchronized (GameDecks.class) {
+            Card.regions = regions;
+            Card.roads = roads;
+            Card.settlements = settlements;
+            Card.cities = cities;
+            Card.events = events;
+            Card.drawStack1 = drawStacks.get(0);
+            Card.drawStack2 = drawStacks.get(1);
+            Card.drawStack3 = drawStacks.get(2);
+            Card.drawStack4 = drawStacks.get(3);
+            global = this;
+        }
+    }
+}
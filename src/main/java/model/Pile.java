@@ -0,0 +1,215 @@
+package model;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.Random;
+import java.util.RandomAccess;
+
+/**
+ * A face-down pile of cards stored in a ring buffer. Index 0 is the top.
+ *
+ * Drawing from the top, putting a card under the pile and peeking are O(1);
+ * removing from the middle (Exchange search, Scout) shifts whichever side is
+ * shorter. Still a List, so piles can be listed and streamed like before.
+ * Not synchronized: a pile belongs to one game.
+ */
+public class Pile extends AbstractList<Card> implements RandomAccess {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private Card[] cards;
+    private int head; // slot of the top card
+    private int size;
+
+    public Pile() {
+        cards = new Card[MIN_CAPACITY];
+    }
+
+    /**
+     * @param initial Cards from top to bottom
+     */
+    public Pile(Collection<? extends Card> initial) {
+        cards = new Card[Math.max(MIN_CAPACITY, initial.size())];
+        for (Card c : initial)
+            cards[size++] = c;
+    }
+
+    // ---------- Pile operations ----------
+
+    /**
+     * Take the top card.
+     *
+     * @return The card, or null if the pile is empty
+     */
+    public Card drawTop() {
+        if (size == 0)
+            return null;
+        Card c = cards[head];
+        cards[head] = null;
+        head = (head + 1) % cards.length;
+        size--;
+        modCount++;
+        return c;
+    }
+
+    /**
+     * The top card without taking it, or null if the pile is empty.
+     */
+    public Card peek() {
+        return size == 0 ? null : cards[head];
+    }
+
+    public void putBottom(Card c) {
+        ensureCapacity(size + 1);
+        cards[slot(size)] = c;
+        size++;
+        modCount++;
+    }
+
+    public void putTop(Card c) {
+        ensureCapacity(size + 1);
+        head = (head - 1 + cards.length) % cards.length;
+        cards[head] = c;
+        size++;
+        modCount++;
+    }
+
+    /**
+     * Position of the first card with this name (case-insensitive, trimmed), or -1.
+     */
+    public int indexOfName(String name) {
+        if (name == null)
+            return -1;
+        String target = name.trim();
+        for (int i = 0; i < size; i++) {
+            Card c = cards[slot(i)];
+            if (c != null && c.name != null && c.name.trim().equalsIgnoreCase(target))
+                return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Remove the first card with this name (see {@link #indexOfName}), or return null.
+     */
+    public Card removeByName(String name) {
+        int i = indexOfName(name);
+        return i < 0 ? null : remove(i);
+    }
+
+    /**
+     * Fisher-Yates shuffle in place; the same Random state gives the same order.
+     */
+    public void shuffle(Random rng) {
+        for (int i = size - 1; i > 0; i--) {
+            int j = rng.nextInt(i + 1);
+            int a = slot(i), b = slot(j);
+            Card t = cards[a];
+            cards[a] = cards[b];
+            cards[b] = t;
+        }
+        modCount++;
+    }
+
+    // ---------- List ----------
+
+    @Override
+    public Card get(int index) {
+        checkIndex(index);
+        return cards[slot(index)];
+    }
+
+    @Override
+    public Card set(int index, Card c) {
+        checkIndex(index);
+        int s = slot(index);
+        Card old = cards[s];
+        cards[s] = c;
+        return old;
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean add(Card c) {
+        putBottom(c);
+        return true;
+    }
+
+    @Override
+    public void add(int index, Card c) {
+        if (index < 0 || index > size)
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+        if (index == 0) {
+            putTop(c);
+            return;
+        }
+        ensureCapacity(size + 1);
+        if (index < size / 2) {
+            // Open a gap by moving the cards above it one slot up
+            head = (head - 1 + cards.length) % cards.length;
+            for (int i = 0; i < index; i++)
+                cards[slot(i)] = cards[slot(i + 1)];
+        } else {
+            for (int i = size; i > index; i--)
+                cards[slot(i)] = cards[slot(i - 1)];
+        }
+        cards[slot(index)] = c;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    public Card remove(int index) {
+        checkIndex(index);
+        if (index == 0)
+            return drawTop();
+        Card c = cards[slot(index)];
+        if (index < size / 2) {
+            for (int i = index; i > 0; i--)
+                cards[slot(i)] = cards[slot(i - 1)];
+            cards[head] = null;
+            head = (head + 1) % cards.length;
+        } else {
+            for (int i = index; i < size - 1; i++)
+                cards[slot(i)] = cards[slot(i + 1)];
+            cards[slot(size - 1)] = null;
+        }
+        size--;
+        modCount++;
+        return c;
+    }
+
+    @Override
+    public void clear() {
+        for (int i = 0; i < size; i++)
+            cards[slot(i)] = null;
+        head = 0;
+        size = 0;
+        modCount++;
+    }
+
+    // ---------- Ring buffer ----------
+
+    private int slot(int index) {
+        return (head + index) % cards.length;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size)
+            throw new IndexOutOfBoundsException("Index " + index + ", size " + size);
+    }
+
+    private void ensureCapacity(int needed) {
+        if (needed <= cards.length)
+            return;
+        Card[] grown = new Card[Math.max(needed, cards.length * 2)];
+        for (int i = 0; i < size; i++)
+            grown[i] = cards[slot(i)];
+        cards = grown;
+        head = 0;
+    }
+}
@@ -2,13 +2,12 @@ package model;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Scanner;
-import java.util.Set;
 
+import model.events.GameEventBus;
 import model.interfaces.IPlayer;
+import util.ConsoleInput;
 
 public class Player implements IPlayer {
     // --- “Public on purpose” for the exam ---
@@ -21,9 +20,9 @@ public class Player implements IPlayer {
     public int tradeRate = 3; // default 3:1 with bank
     public boolean isBot = false;
 
-    // “Flags” for quick state (MARKETPLACE, PARISH, TOLLB, LTS@r,c, 2FOR1_WOOL,
-    // STOREHOUSE@r,c, BRIGITTA, SCOUT_NEXT_SETTLEMENT)
-    public Set<String> flags = new HashSet<>();
+    // Special abilities: bitmask for MARKETPLACE, PARISH, TOLL_BRIDGE, 2:1 ships,
+    // BRIGITTA, SCOUT_NEXT_SETTLEMENT...; positions for Large Trade Ships and Storehouses
+    public final PlayerAbilities abilities = new PlayerAbilities();
 
     // Resource pools (coarse, not per region)
     public Map<String, Integer> resources = new HashMap<>();
@@ -37,7 +36,27 @@ public class Player implements IPlayer {
     // Last settlement (for Scout)
     public int lastSettlementRow = -1, lastSettlementCol = -1;
 
-    private final Scanner in = new Scanner(System.in);
+    // Expected production table, kept in sync by placeCard/removeCard
+    private final ProductionProfile productionProfile = new ProductionProfile();
+    // Production multiplier per slot (booster adjacency), kept in sync by placeCard
+    private final BoosterMap boosterMap = new BoosterMap();
+    // Brigand protection next to Storehouses, rebuilt when boardVersion changes
+    private final StorehouseZones storehouseZones = new StorehouseZones(this);
+    // Flattened regions for the production phase, rebuilt when boardVersion changes
+    private final ProductionKernel productionKernel = new ProductionKernel(this);
+
+    // State-change events; Server.start shares one bus between both players
+    private GameEventBus eventBus = new GameEventBus();
+
+    // Card piles of this player's game; null means the global decks
+    private GameDecks decks;
+
+    // Advantage token owners, shared with the current opponent
+    private AdvantageTracker advantages;
+
+    // Bumped whenever a slot changes or the grid grows; keys the render cache
+    private int boardVersion = 0;
+    private final PrincipalityRenderer renderer = new PrincipalityRenderer();
 
     public Player() {
         String[] all = { "Brick", "Grain", "Lumber", "Wool", "Ore", "Gold", "Any" };
@@ -63,15 +82,19 @@ public class Player implements IPlayer {
     }
 
     public String receiveMessage() {
+        String answer;
         if (isBot) {
             // Bot auto-response: simple default choices
             // Note: This is a simplistic implementation that always returns "1".
             // For a more sophisticated bot, implement context-aware responses
             // based on game state and available options.
-            return "1"; // Default choice for most prompts
+            answer = "1"; // Default choice for most prompts
+        } else {
+            System.out.print("> ");
+            answer = ConsoleInput.nextLine();
         }
-        System.out.print("> ");
-        return in.nextLine();
+        eventBus.promptAnswered(this, answer);
+        return answer;
     }
 
     // ------------- Grid helpers -------------
@@ -88,7 +111,67 @@ public class Player implements IPlayer {
 
     public void placeCard(int r, int c, Card card) {
         ensureSize(r, c);
-        principality.get(r).set(c, card);
+        Card previous = principality.get(r).set(c, card);
+        abilities.onPlace(r, c, previous, card);
+        if (ProductionProfile.affects(previous) || ProductionProfile.affects(card)) {
+            boosterMap.update(this, r, c);
+            productionProfile.refreshRow(this, r);
+        }
+        if (previous != card) {
+            boardVersion++;
+            eventBus.cardPlaced(this, card, r, c);
+        }
+    }
+
+    // Take a card off the board (e.g. Feud); returns the removed card or null
+    public Card removeCard(int r, int c) {
+        Card previous = getCard(r, c);
+        if (previous != null)
+            placeCard(r, c, null);
+        return previous;
+    }
+
+    public ProductionProfile getProductionProfile() {
+        return productionProfile;
+    }
+
+    public BoosterMap getBoosterMap() {
+        return boosterMap;
+    }
+
+    public StorehouseZones getStorehouseZones() {
+        return storehouseZones;
+    }
+
+    public ProductionKernel getProductionKernel() {
+        return productionKernel;
+    }
+
+    public int getBoardVersion() {
+        return boardVersion;
+    }
+
+    public GameEventBus getEventBus() {
+        return eventBus;
+    }
+
+    public void setEventBus(GameEventBus eventBus) {
+        this.eventBus = eventBus;
+    }
+
+    public GameDecks getDecks() {
+        return decks != null ? decks : GameDecks.global();
+    }
+
+    // Both players of a game share one GameDecks (like the event bus)
+    public void setDecks(GameDecks decks) {
+        this.decks = decks;
+    }
+
+    // Announce a direct change to a region's stored amount (production, events...)
+    public void notifyStored(Card region, int delta) {
+        if (region != null)
+            eventBus.resourcesChanged(this, ResourceType.indexOfRegion(region.name), delta);
     }
 
     // Returns the (possibly updated) column where the just-built center card now
@@ -104,6 +187,8 @@ public class Player implements IPlayer {
             col += 1;
             if (lastSettlementCol >= 0)
                 lastSettlementCol += 1;
+            abilities.shiftColumns(1);
+            boosterMap.rebuild(this);
         } else if (col == cols - 1) {
             // placed in last column, so append a new rightmost column
             for (java.util.List<Card> row : principality) {
@@ -111,6 +196,8 @@ public class Player implements IPlayer {
             }
             // col stays the same
         }
+        if (principality.get(0).size() != cols)
+            boardVersion++;
         return col;
     }
 
@@ -122,10 +209,13 @@ public class Player implements IPlayer {
             for (int i = 0; i < cols; i++)
                 row.add(null);
             principality.add(row);
+            boardVersion++;
         }
         for (List<Card> row : principality) {
-            while (row.size() <= c)
+            while (row.size() <= c) {
                 row.add(null);
+                boardVersion++;
+            }
         }
     }
 
@@ -138,75 +228,9 @@ public class Player implements IPlayer {
     }
 
     // Nicely prints the principality with coordinates, plus hand & point summary.
+    // The grid is cached by the renderer and only rebuilt when the board changed.
     public String printPrincipality(Player opponent) {
-        StringBuilder sb = new StringBuilder();
-        int rows = principality.size();
-        int cols = principality.isEmpty() ? 0 : principality.get(0).size();
-
-        // Compute column widths based on both title and info lines
-        int[] w = new int[cols];
-        int minW = 10; // a reasonable minimum so headers fit
-        for (int c = 0; c < cols; c++) {
-            int m = minW;
-            for (int r = 0; r < rows; r++) {
-                Card card = getCard(r, c);
-                String title = cellTitle(card);
-                String info = cellInfo(card);
-                m = Math.max(m, title.length());
-                m = Math.max(m, info.length());
-            }
-            w[c] = m;
-        }
-
-        // Top header for columns (outside the grid for clarity)
-        sb.append("      "); // space for row index column
-        for (int c = 0; c < cols; c++) {
-            String hdr = "Col " + c;
-            sb.append(padRight(hdr, w[c] + 3)); // +3 because inside grid we put spaces and | around content
-        }
-        sb.append("\n");
-
-        // Top border
-        sb.append("    ").append(buildSep(w)).append("\n");
-
-        // Each board row => 2 text lines inside the grid
-        for (int r = 0; r < rows; r++) {
-            // Title line
-            sb.append(String.format("%2d  ", r)); // row index + two spaces
-            sb.append("|");
-            for (int c = 0; c < cols; c++) {
-                String title = cellTitle(getCard(r, c));
-                sb.append(" ").append(padRight(title, w[c])).append(" ").append("|");
-            }
-            sb.append("\n");
-
-            // Info line
-            sb.append("    "); // aligns with the top border (no row index on the 2nd line)
-            sb.append("|");
-            for (int c = 0; c < cols; c++) {
-                String info = cellInfo(getCard(r, c));
-                sb.append(" ").append(padRight(info, w[c])).append(" ").append("|");
-            }
-            sb.append("\n");
-
-            // Row separator
-            sb.append("    ").append(buildSep(w)).append("\n");
-        }
-
-        // Points line - use getPointsSummary to include advantages
-        sb.append(getPointsSummary(opponent));
-
-        // Resources banner - show current available resources
-        sb.append("\nResources: ");
-        sb.append("Brick=").append(getResourceCount("Brick")).append("  ");
-        sb.append("Grain=").append(getResourceCount("Grain")).append("  ");
-        sb.append("Lumber=").append(getResourceCount("Lumber")).append("  ");
-        sb.append("Wool=").append(getResourceCount("Wool")).append("  ");
-        sb.append("Ore=").append(getResourceCount("Ore")).append("  ");
-        sb.append("Gold=").append(getResourceCount("Gold"));
-        sb.append("\n");
-
-        return sb.toString();
+        return renderer.render(this, opponent);
     }
 
     /**
@@ -220,7 +244,7 @@ public class Player implements IPlayer {
             if (c == null)
                 continue;
             String cost = (c.cost == null || c.cost.isBlank()) ? "-" : c.cost;
-            String pts = summarizePoints(c); // same helper you already use in printPrincipality
+            String pts = PrincipalityRenderer.summarizePoints(c); // same helper printPrincipality uses
             sb.append("  [").append(i).append("] ")
                     .append(c.name == null ? "Unknown" : c.name)
                     .append("   {cost: ").append(cost).append("} ")
@@ -230,153 +254,32 @@ public class Player implements IPlayer {
         return sb.toString();
     }
 
-    // Build a separator like: +-----------+--------------+---+
-    private String buildSep(int[] w) {
-        StringBuilder sep = new StringBuilder();
-        sep.append("+");
-        for (int c = 0; c < w.length; c++) {
-            sep.append("-".repeat(w[c] + 2)); // +2 for side spaces inside cells
-            sep.append("+");
-        }
-        return sep.toString();
-    }
-
-    // Left-pad to fixed width (for stable '|' alignment)
-    private String padRight(String s, int w) {
-        if (s == null)
-            s = "";
-        if (s.length() >= w)
-            return s;
-        return s + " ".repeat(w - s.length());
-    }
-
-    // ---------- helpers used by printPrincipality ----------
-
-    private String cellTitle(Card c) {
-        if (c == null)
-            return "";
-        String title = c.name;
-        if (title.equals("Forest"))
-            title += " (L):Lumber";
-        else if (title.equals("Hill"))
-            title += " (B):Brick";
-        else if (title.equals("Field"))
-            title += " (G):Grain";
-        else if (title.equals("Pasture"))
-            title += " (W):Wool";
-        else if (title.equals("Mountain"))
-            title += " (O):Ore";
-        else if (title.equals("Gold Field"))
-            title += " (A):Gold";
-        return title == null ? "Unknown" : title;
-    }
-
-    private String cellInfo(Card c) {
-        if (c == null)
-            return ""; // EMPTY
-        // Regions: show dice + stored (0..3)
-        if ("Region".equalsIgnoreCase(c.type)) {
-            String die = (c.diceRoll <= 0 ? "-" : String.valueOf(c.diceRoll));
-            int stored = Math.max(0, Math.min(3, c.regionProduction));
-            return "d" + die + "  " + stored + "/3";
-        }
-
-        // Common trade ships: "2:1 <Res>"
-        String nm = c.name == null ? "" : c.name;
-        if (c.type != null && c.type.toLowerCase().contains("trade ship")) {
-            if (!nm.equalsIgnoreCase("Large Trade Ship") && nm.endsWith("Ship")) {
-                String res = firstWord(nm); // Brick / Grain / etc.
-                return "2:1 " + res;
-            } else if (nm.equalsIgnoreCase("Large Trade Ship")) {
-                return "LTS (left/right swap 2→1)";
-            }
-        }
-
-        // Boosters: Foundry/Mill/Camp/Factory/Shop (hint text)
-        if ("Building".equalsIgnoreCase(c.type) &&
-                "Settlement/City Expansions".equalsIgnoreCase(c.placement)) {
-            if (nm.endsWith("Foundry"))
-                return "Boosts Ore x2 on match";
-            if (nm.endsWith("Mill"))
-                return "Boosts Grain x2 on match";
-            if (nm.endsWith("Camp"))
-                return "Boosts Lumber x2 on match";
-            if (nm.endsWith("Factory"))
-                return "Boosts Brick x2 on match";
-            if (nm.endsWith("Shop"))
-                return "Boosts Wool x2 on match";
-        }
-
-        // Center cards quick hints
-        if ("Road".equalsIgnoreCase(nm))
-            return "Center";
-        if ("Settlement".equalsIgnoreCase(nm))
-            return "Center";
-        if ("City".equalsIgnoreCase(nm))
-            return "Center";
-
-        // Heroes / others: summarize points if any
-        String pts = summarizePoints(c);
-        if (!pts.isEmpty())
-            return pts;
-
-        // Default: show placement/type short
-        String pl = c.placement == null ? "" : c.placement;
-        String tp = c.type == null ? "" : c.type;
-        if (!pl.isEmpty() || !tp.isEmpty())
-            return (pl + " " + tp).trim();
-        return "";
-    }
-
-    // SCORING helper: summarize points on a card like "[VP1 CP2 SP1 FP0 PP0]"
-    private String summarizePoints(Card c) {
-        // Build a compact points summary like: "[VP1 CP2 SP1 FP0 PP0]"
-        int vp = parseIntSafe(c.victoryPoints);
-        int cp = parseIntSafe(c.CP);
-        int sp = parseIntSafe(c.SP);
-        int fp = parseIntSafe(c.FP);
-        int pp = parseIntSafe(c.PP);
-
-        StringBuilder t = new StringBuilder();
-        if (vp > 0 || cp > 0 || sp > 0 || fp > 0 || pp > 0) {
-            t.append("[");
-            if (vp > 0)
-                t.append("VP").append(vp).append(" ");
-            if (cp > 0)
-                t.append("CP").append(cp).append(" ");
-            if (sp > 0)
-                t.append("SP").append(sp).append(" ");
-            if (fp > 0)
-                t.append("FP").append(fp).append(" ");
-            if (pp > 0)
-                t.append("PP").append(pp).append(" ");
-            if (t.charAt(t.length() - 1) == ' ')
-                t.deleteCharAt(t.length() - 1);
-            t.append("]");
+    /**
+     * Advantage tracker for this player and an opponent, created on first use
+     * and shared by both players.
+     */
+    public AdvantageTracker advantagesAgainst(Player opp) {
+        if (advantages == null || !advantages.covers(this, opp)) {
+            advantages = new AdvantageTracker(this, opp);
+            if (opp != null)
+                opp.advantages = advantages;
         }
-        return t.toString();
+        return advantages;
     }
 
     // Advantage tokens require having 3+ points AND at least 1 more than the opponent.
     public boolean hasTradeTokenAgainst(Player opp) {
-        int oppCP = (opp == null ? 0 : opp.commercePoints);
-        return this.commercePoints >= 3 && this.commercePoints > oppCP;
+        return advantagesAgainst(opp).holds(this, AdvantageType.TRADE);
     }
 
     public boolean hasStrengthTokenAgainst(Player opp) {
-        int oppFP = (opp == null ? 0 : opp.strengthPoints);
-        return this.strengthPoints >= 3 && this.strengthPoints > oppFP;
+        return advantagesAgainst(opp).holds(this, AdvantageType.STRENGTH);
     }
 
     // Final score used for win check: base VP + 1 per advantage token against
     // opponent
     public int currentScoreAgainst(Player opp) {
-        int score = this.victoryPoints;
-        if (hasTradeTokenAgainst(opp))
-            score += 1;
-        if (hasStrengthTokenAgainst(opp))
-            score += 1;
-        return score;
+        return this.victoryPoints + advantagesAgainst(opp).tokens(this);
     }
 
     /**
@@ -421,23 +324,6 @@ public class Player implements IPlayer {
         return sb.toString();
     }
 
-    private String firstWord(String s) {
-        if (s == null)
-            return "";
-        String[] toks = s.trim().split("\\s+");
-        return toks.length == 0 ? "" : toks[0];
-    }
-
-    private int parseIntSafe(String s) {
-        if (s == null || s.isBlank())
-            return 0;
-        try {
-            return Integer.parseInt(s.trim());
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
     // ------------- Resources (per-region, not pooled) -------------
 
     // Map a resource name to its Region card name
@@ -456,17 +342,40 @@ public class Player implements IPlayer {
                 continue;
             for (int c = 0; c < row.size(); c++) {
                 Card x = row.get(c);
-                if (x != null &&
-                        "Region".equalsIgnoreCase(x.type) &&
-                        x.name != null &&
-                        x.name.equalsIgnoreCase(regionName)) {
+                if (isRegionNamed(x, regionName))
                     list.add(x);
-                }
             }
         }
         return list;
     }
 
+    private static boolean isRegionNamed(Card x, String regionName) {
+        return x != null && "Region".equalsIgnoreCase(x.type) && x.name != null
+                && x.name.equalsIgnoreCase(regionName);
+    }
+
+    // Highest stocked Region card of a region-name (first in board order on ties), or null if none
+    private Card richestRegion(String regionName) {
+        Card best = null;
+        int bestVal = -1;
+        for (int r = 0; r < principality.size(); r++) {
+            java.util.List<Card> row = principality.get(r);
+            if (row == null)
+                continue;
+            for (int c = 0; c < row.size(); c++) {
+                Card x = row.get(c);
+                if (isRegionNamed(x, regionName)) {
+                    int v = Math.max(0, Math.min(3, x.regionProduction));
+                    if (v > bestVal) {
+                        bestVal = v;
+                        best = x;
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
     // Sum stored resources on all regions (of ANY type)
     public int totalAllResources() {
         int sum = 0;
@@ -492,8 +401,15 @@ public class Player implements IPlayer {
         if ("Any".equals(regionName))
             return totalAllResources();
         int sum = 0;
-        for (Card r : findRegions(regionName)) {
-            sum += Math.max(0, Math.min(3, r.regionProduction));
+        for (int r = 0; r < principality.size(); r++) {
+            java.util.List<Card> row = principality.get(r);
+            if (row == null)
+                continue;
+            for (int c = 0; c < row.size(); c++) {
+                Card x = row.get(c);
+                if (isRegionNamed(x, regionName))
+                    sum += Math.max(0, Math.min(3, x.regionProduction));
+            }
         }
         return sum;
     }
@@ -534,6 +450,7 @@ public class Player implements IPlayer {
         }
         if (best != null && best.regionProduction < 3) {
             best.regionProduction += 1;
+            notifyStored(best, 1);
             // Optional: feedback
             // sendMessage("Gained 1 " + t + " on " + regionName + " (" +
             // (best.regionProduction) + "/3)");
@@ -581,27 +498,19 @@ public class Player implements IPlayer {
             return false;
         }
 
-        java.util.List<Card> regs = findRegions(regionName);
-        if (regs.isEmpty())
+        if (richestRegion(regionName) == null)
             return false;
 
+        // take from the highest stocked region (>0), one at a time
         int removed = 0;
         while (removed < n) {
-            // find highest stocked region (>0)
-            Card best = null;
-            int bestVal = -1;
-            for (Card r : regs) {
-                int v = Math.max(0, Math.min(3, r.regionProduction));
-                if (v > bestVal) {
-                    bestVal = v;
-                    best = r;
-                }
-            }
-            if (best == null || bestVal <= 0)
+            Card best = richestRegion(regionName);
+            if (best.regionProduction <= 0)
                 break; // no more to remove
             best.regionProduction -= 1;
             removed++;
         }
+        eventBus.resourcesChanged(this, ResourceType.indexOfRegion(regionName), -removed);
         return removed == n;
     }
 
@@ -680,6 +589,7 @@ public class Player implements IPlayer {
                 best.regionProduction += 1;
                 need--;
             }
+            eventBus.resourcesChanged(this, ResourceType.indexOfRegion(regionName), want - cur - need);
         } else {
             // remove (cur - want) by draining highest first
             int drop = cur - want;
@@ -698,6 +608,7 @@ public class Player implements IPlayer {
                 best.regionProduction -= 1;
                 drop--;
             }
+            eventBus.resourcesChanged(this, ResourceType.indexOfRegion(regionName), -(cur - want - drop));
         }
     }
 
@@ -708,6 +619,8 @@ public class Player implements IPlayer {
 
     public void addToHand(Card c) {
         hand.add(c);
+        if (c != null)
+            eventBus.cardDrawn(this, c);
     }
 
     public Card removeFromHandByName(String nm) {
@@ -0,0 +1,136 @@
+package model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Typed registry of a player's special abilities.
+ * Boolean abilities live in a single long bitmask so hot checks are bit tests;
+ * positional abilities (Large Trade Ships, Storehouses) are kept as board
+ * positions instead of being parsed out of strings. Copying for search is a
+ * field copy plus two short lists of immutable positions.
+ */
+public class PlayerAbilities {
+
+    private long bits;
+    private final List<BoardPosition> largeTradeShips = new ArrayList<>();
+    private final List<BoardPosition> storehouses = new ArrayList<>();
+
+    public PlayerAbilities() {
+    }
+
+    /**
+     * Copy constructor (positions are immutable, so a shallow list copy is enough).
+     */
+    public PlayerAbilities(PlayerAbilities other) {
+        this.bits = other.bits;
+        this.largeTradeShips.addAll(other.largeTradeShips);
+        this.storehouses.addAll(other.storehouses);
+    }
+
+    public boolean has(Ability a) {
+        return (bits & a.bit) != 0;
+    }
+
+    public void add(Ability a) {
+        bits |= a.bit;
+    }
+
+    /**
+     * Clear an ability.
+     * @return true if it was set (so one-shot abilities can be consumed in one call)
+     */
+    public boolean remove(Ability a) {
+        boolean had = (bits & a.bit) != 0;
+        bits &= ~a.bit;
+        return had;
+    }
+
+    /**
+     * Does the player own a 2:1 trade ship for this resource index?
+     */
+    public boolean hasTwoForOne(int resource) {
+        Ability a = Ability.twoForOne(resource);
+        return a != null && has(a);
+    }
+
+    public void addLargeTradeShip(int row, int col) {
+        largeTradeShips.add(new BoardPosition(row, col));
+    }
+
+    public void addStorehouse(int row, int col) {
+        storehouses.add(new BoardPosition(row, col));
+    }
+
+    /**
+     * First Large Trade Ship placed, or null if there is none.
+     */
+    public BoardPosition firstLargeTradeShip() {
+        return largeTradeShips.isEmpty() ? null : largeTradeShips.get(0);
+    }
+
+    public List<BoardPosition> getLargeTradeShips() {
+        return Collections.unmodifiableList(largeTradeShips);
+    }
+
+    public List<BoardPosition> getStorehouses() {
+        return Collections.unmodifiableList(storehouses);
+    }
+
+    /**
+     * Keep positional abilities in step with the board when a slot changes
+     * (placement, Feud removal, Relocation swaps).
+     * @param previous Card that was in the slot (may be null)
+     * @param card Card now in the slot (may be null)
+     */
+    public void onPlace(int row, int col, Card previous, Card card) {
+        if (previous == card)
+            return;
+        if (isNamed(previous, "Large Trade Ship") || isNamed(previous, "Storehouse"))
+            removeAt(row, col);
+        if (isNamed(card, "Large Trade Ship"))
+            addLargeTradeShip(row, col);
+        else if (isNamed(card, "Storehouse"))
+            addStorehouse(row, col);
+    }
+
+    private static boolean isNamed(Card c, String name) {
+        return c != null && c.name != null && c.name.equalsIgnoreCase(name);
+    }
+
+    /**
+     * Drop a positional ability when the card at that slot leaves the board.
+     */
+    public void removeAt(int row, int col) {
+        BoardPosition pos = new BoardPosition(row, col);
+        largeTradeShips.remove(pos);
+        storehouses.remove(pos);
+    }
+
+    /**
+     * Keep positions in step when the grid grows a column on the left.
+     */
+    public void shiftColumns(int delta) {
+        shift(largeTradeShips, delta);
+        shift(storehouses, delta);
+    }
+
+    private static void shift(List<BoardPosition> list, int delta) {
+        for (int i = 0; i < list.size(); i++) {
+            BoardPosition p = list.get(i);
+            list.set(i, new BoardPosition(p.row, p.col + delta));
+        }
+    }
+
+    /**
+     * Raw bitmask, e.g. for snapshots.
+     */
+    public long bits() {
+        return bits;
+    }
+
+    public void setBits(long bits) {
+        this.bits = bits;
+    }
+}
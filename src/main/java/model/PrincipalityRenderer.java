@@ -0,0 +1,359 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Renders a principality as the text grid shown by {@link Player#printPrincipality}.
+ * The finished grid is cached against the player's board version, and each cell's
+ * title/info text is memoized against the card in the slot (plus stored amount and
+ * die face for regions). An unchanged board is served from cache; after a change
+ * only dirty cells are recomputed. One renderer belongs to one player.
+ */
+public class PrincipalityRenderer {
+
+    private static final int MIN_WIDTH = 10; // a reasonable minimum so headers fit
+
+    private int renderedVersion = -1;
+    private int rows = -1, cols = -1;
+
+    // Per-cell memo, indexed r * cols + c
+    private Card[] cards = new Card[0];
+    private int[] stored = new int[0];
+    private int[] dice = new int[0];
+    private String[] titles = new String[0];
+    private String[] infos = new String[0];
+
+    // Cells holding regions: the only cells whose text changes without a placement
+    private int[] regionCells = new int[0];
+    private int regionCount;
+
+    private String grid;
+    private final int[] stock = new int[ResourceType.COUNT];
+
+    /**
+     * Full board text: grid, points line and resources banner.
+     */
+    public String render(Player p, Player opponent) {
+        String g = renderGrid(p);
+        StringBuilder sb = new StringBuilder(g.length() + 200);
+        sb.append(g);
+
+        // Points line - use getPointsSummary to include advantages
+        sb.append(p.getPointsSummary(opponent));
+
+        // Resources banner - stock was totalled while validating the cache
+        sb.append("\nResources: ");
+        for (int i = 0; i < ResourceType.COUNT; i++) {
+            if (i > 0)
+                sb.append("  ");
+            sb.append(ResourceType.RESOURCES[i]).append('=').append(stock[i]);
+        }
+        sb.append("\n");
+        return sb.toString();
+    }
+
+    // Returns the cached grid, refreshing only what changed since the last call
+    private String renderGrid(Player p) {
+        List<List<Card>> principality = p.principality;
+        int nRows = principality.size();
+        int nCols = principality.isEmpty() ? 0 : principality.get(0).size();
+        boolean dirty = false;
+
+        if (p.getBoardVersion() != renderedVersion || nRows != rows || nCols != cols) {
+            dirty = true;
+            relayout(p, nRows, nCols);
+        } else {
+            // Same cards in the same slots: only region stock/dice can have moved
+            for (int k = 0; k < regionCount; k++) {
+                int i = regionCells[k];
+                if (refreshCell(i, cards[i]))
+                    dirty = true;
+            }
+        }
+
+        Arrays.fill(stock, 0);
+        for (int k = 0; k < regionCount; k++) {
+            int i = regionCells[k];
+            int res = ResourceType.indexOfRegion(cards[i].name);
+            if (res >= 0)
+                stock[res] += clampStored(stored[i]);
+        }
+
+        if (dirty || grid == null)
+            grid = buildGrid();
+        return grid;
+    }
+
+    private void relayout(Player p, int nRows, int nCols) {
+        int n = nRows * nCols;
+        boolean sameShape = nRows == rows && nCols == cols;
+        if (!sameShape) {
+            Card[] oldCards = cards;
+            String[] oldTitles = titles, oldInfos = infos;
+            int[] oldStored = stored, oldDice = dice;
+            int oldCols = cols;
+            cards = new Card[n];
+            stored = new int[n];
+            dice = new int[n];
+            titles = new String[n];
+            infos = new String[n];
+            // Keep fragments for slots that did not move (rows appended at the bottom)
+            if (oldCols == nCols) {
+                int keep = Math.min(oldCards.length, n);
+                System.arraycopy(oldCards, 0, cards, 0, keep);
+                System.arraycopy(oldTitles, 0, titles, 0, keep);
+                System.arraycopy(oldInfos, 0, infos, 0, keep);
+                System.arraycopy(oldStored, 0, stored, 0, keep);
+                System.arraycopy(oldDice, 0, dice, 0, keep);
+            }
+            regionCells = new int[n];
+            rows = nRows;
+            cols = nCols;
+        }
+        regionCount = 0;
+        for (int r = 0; r < nRows; r++) {
+            for (int c = 0; c < nCols; c++) {
+                int i = r * nCols + c;
+                Card card = p.getCard(r, c);
+                if (card != cards[i] || titles[i] == null) {
+                    cards[i] = card;
+                    titles[i] = cellTitle(card);
+                    infos[i] = cellInfo(card);
+                    stored[i] = card == null ? 0 : card.regionProduction;
+                    dice[i] = card == null ? 0 : card.diceRoll;
+                } else {
+                    refreshCell(i, card);
+                }
+                if (isRegion(card))
+                    regionCells[regionCount++] = i;
+            }
+        }
+        renderedVersion = p.getBoardVersion();
+    }
+
+    // Recompute a region's info text if its stock or die face changed
+    private boolean refreshCell(int i, Card card) {
+        if (card == null || (card.regionProduction == stored[i] && card.diceRoll == dice[i]))
+            return false;
+        stored[i] = card.regionProduction;
+        dice[i] = card.diceRoll;
+        String info = cellInfo(card);
+        boolean changed = !info.equals(infos[i]);
+        infos[i] = info;
+        return changed;
+    }
+
+    private String buildGrid() {
+        // Column widths from the memoized title and info lines
+        int[] w = new int[cols];
+        for (int c = 0; c < cols; c++) {
+            int m = MIN_WIDTH;
+            for (int r = 0; r < rows; r++) {
+                int i = r * cols + c;
+                m = Math.max(m, titles[i].length());
+                m = Math.max(m, infos[i].length());
+            }
+            w[c] = m;
+        }
+
+        int lineLen = 6;
+        for (int c = 0; c < cols; c++)
+            lineLen += w[c] + 3;
+        StringBuilder sb = new StringBuilder(lineLen * (3 * rows + 2));
+
+        // Top header for columns (outside the grid for clarity)
+        sb.append("      "); // space for row index column
+        for (int c = 0; c < cols; c++) {
+            int start = sb.length();
+            sb.append("Col ").append(c);
+            pad(sb, w[c] + 3 - (sb.length() - start)); // +3 because inside grid we put spaces and | around content
+        }
+        sb.append("\n");
+
+        // Top border
+        sb.append("    ");
+        appendSep(sb, w);
+        sb.append("\n");
+
+        // Each board row => 2 text lines inside the grid
+        for (int r = 0; r < rows; r++) {
+            // Title line: row index right-aligned in 2 chars + two spaces
+            if (r < 10)
+                sb.append(' ');
+            sb.append(r).append("  ");
+            sb.append("|");
+            for (int c = 0; c < cols; c++) {
+                String title = titles[r * cols + c];
+                sb.append(" ").append(title);
+                pad(sb, w[c] - title.length());
+                sb.append(" |");
+            }
+            sb.append("\n");
+
+            // Info line
+            sb.append("    "); // aligns with the top border (no row index on the 2nd line)
+            sb.append("|");
+            for (int c = 0; c < cols; c++) {
+                String info = infos[r * cols + c];
+                sb.append(" ").append(info);
+                pad(sb, w[c] - info.length());
+                sb.append(" |");
+            }
+            sb.append("\n");
+
+            // Row separator
+            sb.append("    ");
+            appendSep(sb, w);
+            sb.append("\n");
+        }
+        return sb.toString();
+    }
+
+    // Build a separator like: +-----------+--------------+---+
+    private static void appendSep(StringBuilder sb, int[] w) {
+        sb.append("+");
+        for (int c = 0; c < w.length; c++) {
+            for (int k = 0; k < w[c] + 2; k++) // +2 for side spaces inside cells
+                sb.append('-');
+            sb.append("+");
+        }
+    }
+
+    private static void pad(StringBuilder sb, int n) {
+        for (int k = 0; k < n; k++)
+            sb.append(' ');
+    }
+
+    private static boolean isRegion(Card c) {
+        return c != null && "Region".equalsIgnoreCase(c.type);
+    }
+
+    private static int clampStored(int v) {
+        return Math.max(0, Math.min(3, v));
+    }
+
+    // ---------- cell text ----------
+
+    static String cellTitle(Card c) {
+        if (c == null)
+            return "";
+        String title = c.name;
+        if (title == null)
+            return "Unknown";
+        if (title.equals("Forest"))
+            title += " (L):Lumber";
+        else if (title.equals("Hill"))
+            title += " (B):Brick";
+        else if (title.equals("Field"))
+            title += " (G):Grain";
+        else if (title.equals("Pasture"))
+            title += " (W):Wool";
+        else if (title.equals("Mountain"))
+            title += " (O):Ore";
+        else if (title.equals("Gold Field"))
+            title += " (A):Gold";
+        return title;
+    }
+
+    static String cellInfo(Card c) {
+        if (c == null)
+            return ""; // EMPTY
+        // Regions: show dice + stored (0..3)
+        if (isRegion(c)) {
+            String die = (c.diceRoll <= 0 ? "-" : String.valueOf(c.diceRoll));
+            return "d" + die + "  " + clampStored(c.regionProduction) + "/3";
+        }
+
+        // Common trade ships: "2:1 <Res>"
+        String nm = c.name == null ? "" : c.name;
+        if (c.type != null && c.type.toLowerCase().contains("trade ship")) {
+            if (!nm.equalsIgnoreCase("Large Trade Ship") && nm.endsWith("Ship")) {
+                String res = firstWord(nm); // Brick / Grain / etc.
+                return "2:1 " + res;
+            } else if (nm.equalsIgnoreCase("Large Trade Ship")) {
+                return "LTS (left/right swap 2→1)";
+            }
+        }
+
+        // Boosters: Foundry/Mill/Camp/Factory/Shop (hint text)
+        if ("Building".equalsIgnoreCase(c.type) &&
+                "Settlement/City Expansions".equalsIgnoreCase(c.placement)) {
+            if (nm.endsWith("Foundry"))
+                return "Boosts Ore x2 on match";
+            if (nm.endsWith("Mill"))
+                return "Boosts Grain x2 on match";
+            if (nm.endsWith("Camp"))
+                return "Boosts Lumber x2 on match";
+            if (nm.endsWith("Factory"))
+                return "Boosts Brick x2 on match";
+            if (nm.endsWith("Shop"))
+                return "Boosts Wool x2 on match";
+        }
+
+        // Center cards quick hints
+        if ("Road".equalsIgnoreCase(nm))
+            return "Center";
+        if ("Settlement".equalsIgnoreCase(nm))
+            return "Center";
+        if ("City".equalsIgnoreCase(nm))
+            return "Center";
+
+        // Heroes / others: summarize points if any
+        String pts = summarizePoints(c);
+        if (!pts.isEmpty())
+            return pts;
+
+        // Default: show placement/type short
+        String pl = c.placement == null ? "" : c.placement;
+        String tp = c.type == null ? "" : c.type;
+        if (!pl.isEmpty() || !tp.isEmpty())
+            return (pl + " " + tp).trim();
+        return "";
+    }
+
+    // SCORING helper: summarize points on a card like "[VP1 CP2 SP1 FP0 PP0]"
+    static String summarizePoints(Card c) {
+        int vp = parseIntSafe(c.victoryPoints);
+        int cp = parseIntSafe(c.CP);
+        int sp = parseIntSafe(c.SP);
+        int fp = parseIntSafe(c.FP);
+        int pp = parseIntSafe(c.PP);
+
+        StringBuilder t = new StringBuilder();
+        if (vp > 0 || cp > 0 || sp > 0 || fp > 0 || pp > 0) {
+            t.append("[");
+            if (vp > 0)
+                t.append("VP").append(vp).append(" ");
+            if (cp > 0)
+                t.append("CP").append(cp).append(" ");
+            if (sp > 0)
+                t.append("SP").append(sp).append(" ");
+            if (fp > 0)
+                t.append("FP").append(fp).append(" ");
+            if (pp > 0)
+                t.append("PP").append(pp).append(" ");
+            if (t.charAt(t.length() - 1) == ' ')
+                t.deleteCharAt(t.length() - 1);
+            t.append("]");
+        }
+        return t.toString();
+    }
+
+    private static String firstWord(String s) {
+        if (s == null)
+            return "";
+        String[] toks = s.trim().split("\\s+");
+        return toks.length == 0 ? "" : toks[0];
+    }
+
+    private static int parseIntSafe(String s) {
+        if (s == null || s.isBlank())
+            return 0;
+        try {
+            return Integer.parseInt(s.trim());
+        } catch (Exception e) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package model;
+
+import java.util.List;
+
+/**
+ * Flat view of one principality's regions for the production phase.
+ *
+ * The board is flattened into parallel arrays (region, resource index,
+ * booster multiplier from the player's {@link BoosterMap}) with the slots of
+ * each die face listed in board order, so a roll visits only the regions
+ * showing that face: no grid walk, no neighbour lookups and no name compares.
+ * The arrays are rebuilt lazily when the board version changes; region stores
+ * stay on the cards because many rules (events, trades, costs) read and write
+ * them directly.
+ *
+ * Results match the original nested-list loop exactly, including the order
+ * of ResourcesChanged events.
+ */
+public class ProductionKernel {
+
+    private static final int STORE_CAP = 3;
+    private static final int[] NONE = new int[0];
+
+    private final Player owner;
+    private Card[] regions = new Card[0];
+    private int[] resources = NONE;
+    private int[] multipliers = NONE;
+    // Slots per die face (index face - 1), in board order
+    private final int[][] byFace = new int[ProductionProfile.FACES][];
+    private int builtVersion = -1;
+
+    public ProductionKernel(Player owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Regions on the board showing this die face (Marketplace comparison).
+     */
+    public int regionsOnFace(int face) {
+        if (face < 1 || face > ProductionProfile.FACES)
+            return 0;
+        refresh();
+        return byFace[face - 1].length;
+    }
+
+    /**
+     * Add 1 (2 next to a matching booster) to every region showing the face,
+     * capped at 3, and announce each change on the owner's event bus.
+     */
+    public void produce(int face) {
+        if (face < 1 || face > ProductionProfile.FACES)
+            return;
+        refresh();
+        int[] slots = byFace[face - 1];
+        for (int i = 0; i < slots.length; i++) {
+            int s = slots[i];
+            Card region = regions[s];
+            int before = region.regionProduction;
+            int after = Math.min(STORE_CAP, before + multipliers[s]);
+            region.regionProduction = after;
+            if (after != before)
+                owner.getEventBus().resourcesChanged(owner, resources[s], after - before);
+        }
+    }
+
+    // Rebuild the arrays if any slot changed since the last build
+    private void refresh() {
+        int version = owner.getBoardVersion();
+        if (version == builtVersion)
+            return;
+        builtVersion = version;
+
+        List<List<Card>> grid = owner.principality;
+        BoosterMap boosters = owner.getBoosterMap();
+        int n = 0;
+        int[] perFace = new int[ProductionProfile.FACES];
+        for (List<Card> row : grid)
+            for (Card c : row)
+                if (isRegion(c)) {
+                    n++;
+                    if (c.diceRoll >= 1 && c.diceRoll <= ProductionProfile.FACES)
+                        perFace[c.diceRoll - 1]++;
+                }
+
+        regions = new Card[n];
+        resources = new int[n];
+        multipliers = new int[n];
+        for (int f = 0; f < ProductionProfile.FACES; f++)
+            byFace[f] = new int[perFace[f]];
+        int[] fill = new int[ProductionProfile.FACES];
+        int s = 0;
+        for (int r = 0; r < grid.size(); r++) {
+            List<Card> row = grid.get(r);
+            for (int c = 0; c < row.size(); c++) {
+                Card card = row.get(c);
+                if (!isRegion(card))
+                    continue;
+                regions[s] = card;
+                resources[s] = ResourceType.indexOfRegion(card.name);
+                multipliers[s] = boosters.multiplier(r, c);
+                if (card.diceRoll >= 1 && card.diceRoll <= ProductionProfile.FACES)
+                    byFace[card.diceRoll - 1][fill[card.diceRoll - 1]++] = s;
+                s++;
+            }
+        }
+    }
+
+    private static boolean isRegion(Card c) {
+        return c != null && "Region".equalsIgnoreCase(c.type);
+    }
+}
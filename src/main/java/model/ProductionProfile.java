@@ -0,0 +1,170 @@
+package model;
+
+import util.PlacementValidator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Expected production of one principality, as a 6x6 table of die face by resource.
+ * Each entry is the number of resources the board yields when that face is rolled
+ * (1 per matching region, 2 with an adjacent booster building), before the 3-cap.
+ * The table is kept per board row and only the touched row is recomputed when a
+ * region or booster is placed, moved or removed, so readers never re-simulate
+ * production. Each row also keeps its producing regions, so the capped gain can
+ * be computed per region from the stock stored on it right now.
+ */
+public class ProductionProfile {
+
+    public static final int FACES = 6;
+    private static final int CELLS = FACES * ResourceType.COUNT;
+    private static final int STORE_CAP = 3;
+    private static final Card[] NO_REGIONS = new Card[0];
+    private static final int[] NO_GAINS = new int[0];
+
+    // Per board row: CELLS yield entries, then FACES region counts per face,
+    // then COUNT region counts per resource
+    private static final int ROW_LEN = CELLS + FACES + ResourceType.COUNT;
+    private final List<int[]> rows = new ArrayList<>();
+    // Per board row: regions with a valid face and the amount each yields when rolled
+    private final List<Card[]> rowRegions = new ArrayList<>();
+    private final List<int[]> rowGains = new ArrayList<>();
+
+    private final int[] yield = new int[CELLS];
+    private final int[] regionsOnFace = new int[FACES];
+    private final int[] capacity = new int[ResourceType.COUNT];
+
+    /**
+     * Does placing or removing this card change production?
+     */
+    public static boolean affects(Card card) {
+        return PlacementValidator.isRegionCard(card) || PlacementValidator.isBooster(card);
+    }
+
+    /**
+     * Resources yielded on a die face for one resource, before the 3-cap.
+     * @param face Die face (1-6)
+     * @param resource Index into {@link ResourceType#RESOURCES}
+     */
+    public int yield(int face, int resource) {
+        return yield[(face - 1) * ResourceType.COUNT + resource];
+    }
+
+    /**
+     * Number of regions on the board showing this die face (used by Marketplace).
+     */
+    public int regionsOnFace(int face) {
+        return regionsOnFace[face - 1];
+    }
+
+    /**
+     * Total storage for a resource (3 per region of that type).
+     */
+    public int capacity(int resource) {
+        return capacity[resource];
+    }
+
+    /**
+     * Expected resources of one type per production roll, ignoring the 3-cap.
+     */
+    public double expectedYield(int resource) {
+        int sum = 0;
+        for (int f = 0; f < FACES; f++)
+            sum += yield[f * ResourceType.COUNT + resource];
+        return sum / (double) FACES;
+    }
+
+    /**
+     * Expected resources per production roll, each region capped by the free
+     * storage left on it (a full region yields nothing, even if another region
+     * of the same type has room).
+     */
+    public double expectedGain() {
+        int sum = 0;
+        for (int r = 0; r < rowRegions.size(); r++) {
+            Card[] regions = rowRegions.get(r);
+            int[] gains = rowGains.get(r);
+            for (int i = 0; i < regions.length; i++) {
+                int free = STORE_CAP - Math.max(0, Math.min(STORE_CAP, regions[i].regionProduction));
+                sum += Math.min(gains[i], free);
+            }
+        }
+        return sum / (double) FACES;
+    }
+
+    /**
+     * Expected Marketplace bonus per production roll: +1 on every face where the
+     * opponent has strictly more matching regions.
+     */
+    public double expectedMarketplaceBonus(ProductionProfile opponent) {
+        if (opponent == null)
+            return 0;
+        int faces = 0;
+        for (int f = 0; f < FACES; f++)
+            if (opponent.regionsOnFace[f] > regionsOnFace[f])
+                faces++;
+        return faces / (double) FACES;
+    }
+
+    /**
+     * Recompute the contribution of one board row after a region or booster there
+     * changed. Boosters only affect their left/right neighbours, so no other row
+     * needs to be touched.
+     */
+    public void refreshRow(Player p, int r) {
+        while (rows.size() <= r) {
+            rows.add(new int[ROW_LEN]);
+            rowRegions.add(NO_REGIONS);
+            rowGains.add(NO_GAINS);
+        }
+        int[] row = rows.get(r);
+        add(row, -1);
+        Arrays.fill(row, 0);
+        List<Card> producing = new ArrayList<>();
+        List<Integer> gains = new ArrayList<>();
+        if (r < p.principality.size()) {
+            List<Card> cards = p.principality.get(r);
+            for (int c = 0; c < cards.size(); c++) {
+                Card card = cards.get(c);
+                if (!PlacementValidator.isRegionCard(card))
+                    continue;
+                int res = ResourceType.indexOfRegion(card.name);
+                if (res < 0)
+                    continue;
+                row[CELLS + FACES + res]++;
+                if (card.diceRoll < 1 || card.diceRoll > FACES)
+                    continue;
+                int gain = p.getBoosterMap().multiplier(r, c);
+                row[(card.diceRoll - 1) * ResourceType.COUNT + res] += gain;
+                row[CELLS + card.diceRoll - 1]++;
+                producing.add(card);
+                gains.add(gain);
+            }
+        }
+        add(row, 1);
+        rowRegions.set(r, producing.toArray(NO_REGIONS));
+        int[] g = new int[gains.size()];
+        for (int i = 0; i < g.length; i++)
+            g[i] = gains.get(i);
+        rowGains.set(r, g);
+    }
+
+    /**
+     * Recompute the whole table, e.g. after the grid was edited directly.
+     */
+    public void rebuild(Player p) {
+        p.getBoosterMap().rebuild(p);
+        for (int r = 0; r < Math.max(rows.size(), p.principality.size()); r++)
+            refreshRow(p, r);
+    }
+
+    private void add(int[] row, int sign) {
+        for (int i = 0; i < CELLS; i++)
+            yield[i] += sign * row[i];
+        for (int f = 0; f < FACES; f++)
+            regionsOnFace[f] += sign * row[CELLS + f];
+        for (int res = 0; res < ResourceType.COUNT; res++)
+            capacity[res] += sign * STORE_CAP * row[CELLS + FACES + res];
+    }
+}
@@ -15,30 +15,60 @@ public class ResourceType {
             "Mountain", "Ore",
             "Gold Field", "Gold");
 
+    // Canonical resource order used wherever resources are indexed by int
+    // (Brick, Grain, Lumber, Wool, Ore, Gold - same order as the resource banner)
+    public static final String[] RESOURCES = { "Brick", "Grain", "Lumber", "Wool", "Ore", "Gold" };
+    public static final int COUNT = RESOURCES.length;
+    // Region card producing each resource, same order as RESOURCES
+    private static final String[] REGIONS = { "Hill", "Field", "Forest", "Pasture", "Mountain", "Gold Field" };
+
+    /**
+     * Map a resource name (case-insensitive) to its index in {@link #RESOURCES},
+     * or -1 if unknown. Does not allocate.
+     */
+    public static int indexOf(String resource) {
+        if (resource == null)
+            return -1;
+        String t = resource.trim();
+        for (int i = 0; i < COUNT; i++) {
+            if (RESOURCES[i].equalsIgnoreCase(t))
+                return i;
+        }
+        return -1;
+    }
+
     /**
-     * Map a resource name to its Region card name
+     * Map a Region card name to its resource index in {@link #RESOURCES}, or -1
+     * if the name is not a region. Does not allocate.
+     */
+    public static int indexOfRegion(String regionName) {
+        if (regionName == null)
+            return -1;
+        if (regionName.equalsIgnoreCase("Hill"))
+            return 0;
+        if (regionName.equalsIgnoreCase("Field"))
+            return 1;
+        if (regionName.equalsIgnoreCase("Forest"))
+            return 2;
+        if (regionName.equalsIgnoreCase("Pasture"))
+            return 3;
+        if (regionName.equalsIgnoreCase("Mountain"))
+            return 4;
+        if (regionName.equalsIgnoreCase("Gold Field"))
+            return 5;
+        return -1;
+    }
+
+    /**
+     * Map a resource name (case-insensitive) to its Region card name, "Any" for
+     * "any", or null. Does not allocate.
      */
     public static String resourceToRegion(String type) {
         if (type == null)
             return null;
-        String t = type.trim().toLowerCase();
-        switch (t) {
-            case "brick":
-                return "Hill";
-            case "grain":
-                return "Field";
-            case "lumber":
-                return "Forest";
-            case "wool":
-                return "Pasture";
-            case "ore":
-                return "Mountain";
-            case "gold":
-                return "Gold Field";
-            case "any":
-                return "Any";
-            default:
-                return null;
-        }
+        int i = indexOf(type);
+        if (i >= 0)
+            return REGIONS[i];
+        return "any".equalsIgnoreCase(type.trim()) ? "Any" : null;
     }
 }
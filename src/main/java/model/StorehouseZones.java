@@ -0,0 +1,70 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Slots of one principality protected from the Brigand by a Storehouse: the
+ * two regions diagonally next to it, on the region row away from the center.
+ *
+ * Kept as a bitmask over row-major slot indices. It is rebuilt from the
+ * Storehouse positions tracked in {@link PlayerAbilities} when the board
+ * version changes, which is cheap because there are only a few Storehouses.
+ * Lookups are a shift and a mask, with no string keys.
+ */
+public class StorehouseZones {
+
+    private final Player owner;
+    private long[] mask = new long[0];
+    private int rows, cols;
+    private int builtVersion = -1;
+
+    public StorehouseZones(Player owner) {
+        this.owner = owner;
+    }
+
+    public boolean isProtected(int r, int c) {
+        refresh();
+        if (r < 0 || c < 0 || r >= rows || c >= cols)
+            return false;
+        int i = r * cols + c;
+        return (mask[i >>> 6] & (1L << i)) != 0;
+    }
+
+    private void refresh() {
+        int version = owner.getBoardVersion();
+        if (version == builtVersion)
+            return;
+        builtVersion = version;
+        rows = owner.principality.size();
+        cols = rows == 0 ? 0 : owner.principality.get(0).size();
+        int words = (rows * cols + 63) >>> 6;
+        if (mask.length != words)
+            mask = new long[words];
+        else
+            Arrays.fill(mask, 0L);
+
+        List<BoardPosition> storehouses = owner.abilities.getStorehouses();
+        for (int k = 0; k < storehouses.size(); k++) {
+            BoardPosition s = storehouses.get(k);
+            boolean belowCenter = isNamed(owner.getCard(s.row + 1, s.col), "Settlement", "City")
+                    || isNamed(owner.getCard(s.row + 2, s.col), "City", "City");
+            int regionRow = belowCenter ? s.row - 1 : s.row + 1;
+            set(regionRow, s.col - 1);
+            set(regionRow, s.col + 1);
+        }
+    }
+
+    private void set(int r, int c) {
+        if (r < 0 || c < 0 || r >= rows || c >= cols)
+            return;
+        int i = r * cols + c;
+        mask[i >>> 6] |= 1L << i;
+    }
+
+    private static boolean isNamed(Card c, String a, String b) {
+        if (c == null || c.name == null)
+            return false;
+        return c.name.equalsIgnoreCase(a) || c.name.equalsIgnoreCase(b);
+    }
+}
@@ -1,5 +1,6 @@
 package model.effects;
 
+import model.Ability;
 import model.Card;
 import model.Player;
 import util.PlacementValidator;
@@ -33,13 +34,13 @@ public class ActionCardEffectHandler {
                 return false;
             }
             // Only meaningful when used with a new settlement (Server stores lastSettlementRow/Col)
-            active.flags.add("SCOUT_NEXT_SETTLEMENT");
+            active.abilities.add(Ability.SCOUT_NEXT_SETTLEMENT);
             return true;
         }
         
         if (name.equalsIgnoreCase("Brigitta the Wise Woman")) {
             // Choose production die result before rolling; we store forced value in Server
-            active.flags.add("BRIGITTA");
+            active.abilities.add(Ability.BRIGITTA);
             return true;
         }
         
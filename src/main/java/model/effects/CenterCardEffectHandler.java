@@ -103,7 +103,7 @@ public class CenterCardEffectHandler {
         }
         
         // Return the settlement to the settlements pile
-        Card.settlements.add(under);
+        active.getDecks().settlements.putBottom(under);
         
         // No need to check adjacency - the settlement already satisfied those rules
         // when it was placed, and we're just upgrading it
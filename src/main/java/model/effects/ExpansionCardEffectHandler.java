@@ -1,7 +1,13 @@
 package model.effects;
 
+import log.Log;
+import log.Logger;
+import model.Ability;
+import model.AdvantageTracker;
+import model.AdvantageType;
 import model.Card;
 import model.Player;
+import model.ResourceType;
 import util.CostParser;
 import util.PlacementValidator;
 
@@ -9,7 +15,9 @@ import util.PlacementValidator;
  * Handles card effects for expansion cards (Buildings and Units).
  */
 public class ExpansionCardEffectHandler {
-    
+
+    private static final Logger LOG = Log.get(ExpansionCardEffectHandler.class);
+
     /**
      * Apply effect for an expansion card (Building or Unit).
      * 
@@ -32,7 +40,7 @@ public class ExpansionCardEffectHandler {
             }
         }
         
-        System.out.println("Passed placement checks for " + name);
+        LOG.debug("Passed placement checks card={}", name);
         
         // Buildings that "double" adjacent regions when the number hits (enforced during production)
         if ("Building".equalsIgnoreCase(card.type)) {
@@ -52,17 +60,16 @@ public class ExpansionCardEffectHandler {
         
         // Just place it. Production phase will check adjacency and apply +1 increment (cap 3).
         active.placeCard(row, col, card);
-        System.out.println("Contained Building");
+        LOG.debug("Placed building card={} row={} col={}", name, row, col);
         
         // Handle special buildings
+        // (Storehouse position is tracked by placeCard itself)
         if (name.equalsIgnoreCase("Marketplace")) {
-            active.flags.add("MARKETPLACE");
+            active.abilities.add(Ability.MARKETPLACE);
         } else if (name.equalsIgnoreCase("Parish Hall")) {
-            active.flags.add("PARISH");
-        } else if (name.equalsIgnoreCase("Storehouse")) {
-            active.flags.add("STOREHOUSE@" + row + "," + col);
+            active.abilities.add(Ability.PARISH);
         } else if (name.equalsIgnoreCase("Toll Bridge")) {
-            active.flags.add("TOLLB");
+            active.abilities.add(Ability.TOLL_BRIDGE);
         }
         
         // Add stats from the card (CP, SP, FP, PP, KP)
@@ -73,12 +80,11 @@ public class ExpansionCardEffectHandler {
     private static boolean applyUnitEffect(Card card, Player active, Player opponent, int row, int col) {
         String name = card.name == null ? "" : card.name;
         
-        System.out.println("Contained UNIT!!!!!");
+        LOG.debug("Placing unit card={} row={} col={}", name, row, col);
         
         // Large Trade Ship: adjacency 2-for-1 between L/R regions (handled in Server)
         if (name.equalsIgnoreCase("Large Trade Ship")) {
-            active.placeCard(row, col, card);
-            active.flags.add("LTS@" + row + "," + col);
+            active.placeCard(row, col, card); // registers the LTS position
             addCardStats(card, active, opponent);
             return true;
         }
@@ -87,7 +93,9 @@ public class ExpansionCardEffectHandler {
         if (name.toLowerCase().endsWith(" ship")) {
             active.placeCard(row, col, card);
             String res = name.split("\\s+")[0]; // Brick/Gold/Grain/Lumber/Ore/Wool
-            active.flags.add("2FOR1_" + res.toUpperCase());
+            Ability ship = Ability.twoForOne(ResourceType.indexOf(res));
+            if (ship != null)
+                active.abilities.add(ship);
             addCardStats(card, active, opponent);
             return true;
         }
@@ -109,11 +117,10 @@ public class ExpansionCardEffectHandler {
         int pp = CostParser.parseInt(card.PP, 0);
         int kp = CostParser.parseInt(card.KP, 0);
         
-        // Check advantage status BEFORE adding stats
-        boolean playerHadTradeAdvantage = player.hasTradeTokenAgainst(opponent);
-        boolean playerHadStrengthAdvantage = player.hasStrengthTokenAgainst(opponent);
-        boolean opponentHadTradeAdvantage = opponent.hasTradeTokenAgainst(player);
-        boolean opponentHadStrengthAdvantage = opponent.hasStrengthTokenAgainst(player);
+        // Token owners BEFORE adding stats
+        AdvantageTracker advantages = player.advantagesAgainst(opponent);
+        Player tradeBefore = advantages.owner(AdvantageType.TRADE);
+        Player strengthBefore = advantages.owner(AdvantageType.STRENGTH);
         
         if (sp != 0) {
             player.skillPoints += sp;
@@ -131,11 +138,18 @@ public class ExpansionCardEffectHandler {
             player.victoryPoints += kp;
         }
         
-        // Check advantage status AFTER adding stats and notify of changes
-        boolean playerHasTradeAdvantage = player.hasTradeTokenAgainst(opponent);
-        boolean playerHasStrengthAdvantage = player.hasStrengthTokenAgainst(opponent);
-        boolean opponentHasTradeAdvantage = opponent.hasTradeTokenAgainst(player);
-        boolean opponentHasStrengthAdvantage = opponent.hasStrengthTokenAgainst(player);
+        // Owners AFTER adding stats (the tracker publishes the change events)
+        advantages.sync();
+        Player tradeAfter = advantages.owner(AdvantageType.TRADE);
+        Player strengthAfter = advantages.owner(AdvantageType.STRENGTH);
+        boolean playerHadTradeAdvantage = tradeBefore == player;
+        boolean playerHadStrengthAdvantage = strengthBefore == player;
+        boolean opponentHadTradeAdvantage = tradeBefore == opponent;
+        boolean opponentHadStrengthAdvantage = strengthBefore == opponent;
+        boolean playerHasTradeAdvantage = tradeAfter == player;
+        boolean playerHasStrengthAdvantage = strengthAfter == player;
+        boolean opponentHasTradeAdvantage = tradeAfter == opponent;
+        boolean opponentHasStrengthAdvantage = strengthAfter == opponent;
         
         // Trade advantage changes
         if (!playerHadTradeAdvantage && playerHasTradeAdvantage) {
@@ -1,6 +1,8 @@
 package model.effects;
 
+import model.Ability;
 import model.Card;
+import model.Pile;
 import model.Player;
 import model.ResourceType;
 
@@ -14,10 +16,9 @@ public class RegionPlacementHelper {
      * This method handles both normal and SCOUT-enhanced placements.
      */
     public static void placeTwoDiagonalRegions(Player active, int row, int col) {
-        // Access the global regions vector through Card class
-        // Note: This still depends on Card.regions static field
-        // For full decoupling, would need to pass CardDeckManager
-        if (Card.regions == null || Card.regions.size() < 2) {
+        // Regions come from the player's game decks
+        Pile regions = active.getDecks().regions;
+        if (regions.size() < 2) {
             active.sendMessage("Region stack does not have enough cards.");
             return;
         }
@@ -29,37 +30,37 @@ public class RegionPlacementHelper {
         // Draw or choose 2 regions
         Card first, second;
         
-        if (active.flags.contains("SCOUT_NEXT_SETTLEMENT")) {
+        if (active.abilities.has(Ability.SCOUT_NEXT_SETTLEMENT)) {
             // SCOUT: let player pick two specific regions from the region stack by name or index
             active.sendMessage("PROMPT: SCOUT - Choose first region (name or index):");
             String s1 = active.receiveMessage();
-            first = pickRegionFromStackByNameOrIndex(s1);
+            first = pickRegionFromStackByNameOrIndex(regions, s1);
             if (first == null) {
                 // fallback to top
-                first = Card.regions.isEmpty() ? null : Card.regions.remove(0);
+                first = regions.drawTop();
             }
             
             active.sendMessage("PROMPT: SCOUT - Choose second region (name or index):");
             String s2 = active.receiveMessage();
-            second = pickRegionFromStackByNameOrIndex(s2);
+            second = pickRegionFromStackByNameOrIndex(regions, s2);
             if (second == null) {
-                second = Card.regions.isEmpty() ? null : Card.regions.remove(0);
+                second = regions.drawTop();
             }
             
             if (first == null || second == null) {
                 active.sendMessage("SCOUT: Region stack exhausted.");
                 // still clear the flag to avoid leaking it
-                active.flags.remove("SCOUT_NEXT_SETTLEMENT");
+                active.abilities.remove(Ability.SCOUT_NEXT_SETTLEMENT);
                 return;
             }
         } else {
             // normal: take top two
-            if (Card.regions.size() < 2) {
+            if (regions.size() < 2) {
                 active.sendMessage("Region stack does not have two cards.");
                 return;
             }
-            first = Card.regions.remove(0);
-            second = Card.regions.remove(0);
+            first = regions.drawTop();
+            second = regions.drawTop();
         }
         
         // Tell the player which two we drew/selected
@@ -84,14 +85,14 @@ public class RegionPlacementHelper {
         }
         
         // SCOUT benefit is consumed now; clear the flag
-        active.flags.remove("SCOUT_NEXT_SETTLEMENT");
+        active.abilities.remove(Ability.SCOUT_NEXT_SETTLEMENT);
     }
     
     /**
-     * Helper: choose region by name or index from Card.regions
+     * Helper: choose region by name or index from the region stack
      * Accepts region name (e.g., "Forest"), resource type (e.g., "Lumber"), or index
      */
-    private static Card pickRegionFromStackByNameOrIndex(String spec) {
+    private static Card pickRegionFromStackByNameOrIndex(Pile regions, String spec) {
         if (spec == null || spec.isBlank()) {
             return null;
         }
@@ -99,25 +100,25 @@ public class RegionPlacementHelper {
         // try index
         try {
             int idx = Integer.parseInt(spec);
-            if (idx >= 0 && idx < Card.regions.size()) {
-                return Card.regions.remove(idx);
+            if (idx >= 0 && idx < regions.size()) {
+                return regions.remove(idx);
             }
         } catch (Exception ignored) {
         }
         // try by name (first match)
-        for (int i = 0; i < Card.regions.size(); i++) {
-            Card c = Card.regions.get(i);
+        for (int i = 0; i < regions.size(); i++) {
+            Card c = regions.get(i);
             if (c != null && c.name != null && c.name.equalsIgnoreCase(spec)) {
-                return Card.regions.remove(i);
+                return regions.remove(i);
             }
         }
         // try by resource type (e.g., "Lumber" for "Forest", "Brick" for "Hill")
         String regionName = ResourceType.resourceToRegion(spec);
         if (regionName != null && !"Any".equals(regionName)) {
-            for (int i = 0; i < Card.regions.size(); i++) {
-                Card c = Card.regions.get(i);
+            for (int i = 0; i < regions.size(); i++) {
+                Card c = regions.get(i);
                 if (c != null && c.name != null && c.name.equalsIgnoreCase(regionName)) {
-                    return Card.regions.remove(i);
+                    return regions.remove(i);
                 }
             }
         }
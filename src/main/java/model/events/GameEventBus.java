@@ -0,0 +1,94 @@
+package model.events;
+
+import model.AdvantageType;
+import model.Card;
+import model.Player;
+
+import java.util.Arrays;
+
+/**
+ * In-process event bus for game state changes.
+ * Rendering, networking, logging, metrics and bots subscribe independently.
+ * Listeners are held in a copy-on-write array: publishing is a plain loop with
+ * no locking or allocation, and with zero subscribers it is a single length check,
+ * so headless simulations pay nothing.
+ */
+public class GameEventBus {
+
+    private static final IGameEventListener[] NONE = new IGameEventListener[0];
+
+    private volatile IGameEventListener[] listeners = NONE;
+
+    public synchronized void subscribe(IGameEventListener l) {
+        IGameEventListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[next.length - 1] = l;
+        listeners = next;
+    }
+
+    public synchronized void unsubscribe(IGameEventListener l) {
+        IGameEventListener[] cur = listeners;
+        for (int i = 0; i < cur.length; i++) {
+            if (cur[i] == l) {
+                IGameEventListener[] next = new IGameEventListener[cur.length - 1];
+                System.arraycopy(cur, 0, next, 0, i);
+                System.arraycopy(cur, i + 1, next, i, cur.length - i - 1);
+                listeners = next;
+                return;
+            }
+        }
+    }
+
+    public boolean hasSubscribers() {
+        return listeners.length > 0;
+    }
+
+    public void cardPlaced(Player player, Card card, int row, int col) {
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onCardPlaced(player, card, row, col);
+    }
+
+    public void resourcesChanged(Player player, int resource, int delta) {
+        if (delta == 0 || resource < 0)
+            return;
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onResourcesChanged(player, resource, delta);
+    }
+
+    public void advantageChanged(Player player, AdvantageType type, boolean gained) {
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onAdvantageChanged(player, type, gained);
+    }
+
+    public void promptAnswered(Player player, String answer) {
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onPromptAnswered(player, answer);
+    }
+
+    public void diceRolled(Player active, int eventFace, int productionFace) {
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onDiceRolled(active, eventFace, productionFace);
+    }
+
+    public void turnEnded(Player active) {
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onTurnEnded(active);
+    }
+
+    public void cardDrawn(Player player, Card card) {
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onCardDrawn(player, card);
+    }
+
+    public void cardPlayed(Player player, Card card) {
+        IGameEventListener[] ls = listeners;
+        for (int i = 0; i < ls.length; i++)
+            ls[i].onCardPlayed(player, card);
+    }
+}
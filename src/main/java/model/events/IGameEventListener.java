@@ -0,0 +1,82 @@
+package model.events;
+
+import model.AdvantageType;
+import model.Card;
+import model.Player;
+
+/**
+ * Subscriber for game state changes published on a {@link GameEventBus}.
+ * Each event type is a method with primitive arguments, so publishing never
+ * allocates an event object. All methods default to no-ops; implement only
+ * the events you care about.
+ */
+public interface IGameEventListener {
+
+    /**
+     * CardPlaced: a slot in a principality changed.
+     * @param player Owner of the principality
+     * @param card The card now in the slot, or null if the slot was cleared
+     * @param row Row index
+     * @param col Column index
+     */
+    default void onCardPlaced(Player player, Card card, int row, int col) {
+    }
+
+    /**
+     * ResourcesChanged: stored resources of one type went up or down.
+     * @param player The player whose regions changed
+     * @param resource Index into {@code ResourceType.RESOURCES}
+     * @param delta Change in stored amount (never 0)
+     */
+    default void onResourcesChanged(Player player, int resource, int delta) {
+    }
+
+    /**
+     * AdvantageChanged: a player gained or lost an advantage token.
+     * @param player The player whose token changed
+     * @param type Trade or Strength
+     * @param gained true if gained, false if lost
+     */
+    default void onAdvantageChanged(Player player, AdvantageType type, boolean gained) {
+    }
+
+    /**
+     * DiceRolled: both dice were rolled at the start of a turn.
+     * @param active The active player
+     * @param eventFace Event die face (1-6)
+     * @param productionFace Production die face (1-6)
+     */
+    default void onDiceRolled(Player active, int eventFace, int productionFace) {
+    }
+
+    /**
+     * PromptAnswered: a player answered a prompt (console, socket or bot).
+     * @param player The player who answered
+     * @param answer The raw answer (may be null if the connection failed)
+     */
+    default void onPromptAnswered(Player player, String answer) {
+    }
+
+    /**
+     * TurnEnded: the active player's turn is over (after the win check).
+     * @param active The player whose turn ended
+     */
+    default void onTurnEnded(Player active) {
+    }
+
+    /**
+     * CardDrawn: a card was added to a player's hand (replenish or exchange).
+     * @param player The player who drew it
+     * @param card The card drawn
+     */
+    default void onCardDrawn(Player player, Card card) {
+    }
+
+    /**
+     * CardPlayed: a player successfully played a card from their hand.
+     * @param player The player who played it
+     * @param card The card played (action or placed card)
+     */
+    default void onCardPlayed(Player player, Card card) {
+    }
+}
@@ -1,5 +1,7 @@
 package network;
 
+import log.Log;
+import log.Logger;
 import model.Player;
 
 import java.io.BufferedReader;
@@ -22,6 +24,8 @@ import java.net.Socket;
  */
 public class OnlinePlayer extends Player {
 
+    private static final Logger LOG = Log.get(OnlinePlayer.class);
+
     // Network I/O (null when offline)
     private Socket socket;
     private ObjectOutputStream out;
@@ -66,7 +70,7 @@ public class OnlinePlayer extends Player {
                 out.flush();
                 out.reset(); // prevent memory leak
             } catch (Exception e) {
-                System.err.println("[OnlinePlayer] send error: " + e.getMessage());
+                LOG.warn("Send failed: {}", e.getMessage());
             }
         } else {
             // fallback to console
@@ -81,17 +85,23 @@ public class OnlinePlayer extends Player {
      */
     @Override
     public String receiveMessage() {
+        String answer = readAnswer();
+        getEventBus().promptAnswered(this, answer);
+        return answer;
+    }
+
+    private String readAnswer() {
         if (in != null && out != null) {
             try {
                 Object o = in.readObject();
                 // Security: Only accept String objects to prevent deserialization attacks
                 if (o != null && !(o instanceof String)) {
-                    System.err.println("[OnlinePlayer] Security: Rejected non-String object: " + o.getClass().getName());
+                    LOG.warn("Security: rejected non-String object {}", o.getClass().getName());
                     return null;
                 }
                 return (o == null) ? null : (String) o;
             } catch (Exception e) {
-                System.err.println("[OnlinePlayer] receive error: " + e.getMessage());
+                LOG.warn("Receive failed: {}", e.getMessage());
                 return null;
             }
         } else {
@@ -0,0 +1,113 @@
+package results;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * One fixed-width column (1, 2 or 8 bytes per row) stored in its own file and
+ * accessed through memory-mapped chunks of {@link #CHUNK_ROWS} rows. Rows are
+ * expected to be visited mostly in order, so only one chunk is mapped at a time.
+ *
+ * Writable mappings grow the file a whole chunk at a time and the file is
+ * never cut back (a file cannot be truncated while a mapping of it may still
+ * be alive, which Windows refuses), so the row count lives in the store
+ * header, not in the file length.
+ */
+final class ColumnFile implements Closeable {
+
+    static final int CHUNK_ROWS = 1 << 20;
+
+    final String name;
+    final int width;
+    private final FileChannel channel;
+    private final FileChannel.MapMode mode;
+    private MappedByteBuffer chunk;
+    private long chunkIndex = -1;
+
+    private ColumnFile(String name, int width, FileChannel channel, FileChannel.MapMode mode) {
+        this.name = name;
+        this.width = width;
+        this.channel = channel;
+        this.mode = mode;
+    }
+
+    static ColumnFile create(Path dir, String name, int width) throws IOException {
+        FileChannel ch = FileChannel.open(dir.resolve(name + ".col"), StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        return new ColumnFile(name, width, ch, FileChannel.MapMode.READ_WRITE);
+    }
+
+    static ColumnFile openReadOnly(Path dir, String name, int width) throws IOException {
+        FileChannel ch = FileChannel.open(dir.resolve(name + ".col"), StandardOpenOption.READ);
+        return new ColumnFile(name, width, ch, FileChannel.MapMode.READ_ONLY);
+    }
+
+    void put(long row, long value) throws IOException {
+        int at = offset(row);
+        switch (width) {
+            case 1:
+                chunk.put(at, (byte) value);
+                break;
+            case 2:
+                chunk.putShort(at, (short) value);
+                break;
+            default:
+                chunk.putLong(at, value);
+        }
+    }
+
+    long get(long row) throws IOException {
+        int at = offset(row);
+        switch (width) {
+            case 1:
+                return chunk.get(at);
+            case 2:
+                return chunk.getShort(at);
+            default:
+                return chunk.getLong(at);
+        }
+    }
+
+    private int offset(long row) throws IOException {
+        long index = row / CHUNK_ROWS;
+        if (index != chunkIndex) {
+            if (chunk != null && mode == FileChannel.MapMode.READ_WRITE)
+                chunk.force();
+            long bytes = (long) CHUNK_ROWS * width;
+            // READ_WRITE mappings grow the file; read-only ones stop at its end
+            long size = mode == FileChannel.MapMode.READ_WRITE ? bytes
+                    : Math.min(bytes, channel.size() - index * bytes);
+            chunk = channel.map(mode, index * bytes, size);
+            chunkIndex = index;
+        }
+        return (int) (row % CHUNK_ROWS) * width;
+    }
+
+    /**
+     * Rows the file has room for (at least the row count it was written with).
+     */
+    long capacity() throws IOException {
+        return channel.size() / width;
+    }
+
+    /**
+     * Flush the written rows to disk.
+     */
+    void finish() throws IOException {
+        if (chunk != null)
+            chunk.force();
+        chunk = null;
+        chunkIndex = -1;
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        chunk = null;
+        channel.close();
+    }
+}
@@ -0,0 +1,29 @@
+package results;
+
+/**
+ * Outcome of one simulated two-player game, as stored in a {@link ResultStore} row.
+ */
+public final class GameResult {
+
+    public static final int PLAYERS = 2;
+    public static final int PLAYED_WORDS = 4; // card bitset: up to 256 distinct card names
+
+    public int winner = -1; // -1 = turn limit
+    public int turns;
+    public int first; // seat that took the first turn
+    public final int[] vp = new int[PLAYERS];
+    public final int[] cp = new int[PLAYERS];
+    public final int[] fp = new int[PLAYERS];
+    public final int[] sp = new int[PLAYERS];
+    public final int[] pp = new int[PLAYERS];
+    public final int[] events = new int[7]; // rolls per event die face 1-6 (index 0 unused)
+    public final long[][] played = new long[PLAYERS][PLAYED_WORDS]; // bit = ResultStore card id
+
+    public boolean hasPlayed(int player, int cardId) {
+        return (played[player][cardId >>> 6] & (1L << cardId)) != 0;
+    }
+
+    void markPlayed(int player, int cardId) {
+        played[player][cardId >>> 6] |= 1L << cardId;
+    }
+}
@@ -0,0 +1,94 @@
+package results;
+
+import model.Card;
+import model.Player;
+import model.events.GameEventBus;
+import model.events.IGameEventListener;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * Builds the {@link GameResult} of one game from its event bus and appends it
+ * to a {@link ResultStore} when the game ends. "Played" means placed into a
+ * principality (buildings, units, regions, roads, settlements and cities).
+ * Not thread-safe: one collector per game.
+ */
+public class ResultCollector implements IGameEventListener {
+
+    private final ResultStore store;
+    private GameResult result = new GameResult();
+    private List<Player> players = List.of();
+    private GameEventBus bus;
+    private boolean started;
+
+    public ResultCollector(ResultStore store) {
+        this.store = store;
+    }
+
+    /**
+     * Start collecting a game (attach after setup, so starting cards do not count).
+     */
+    public void attach(List<Player> players) {
+        detach();
+        if (players.size() != GameResult.PLAYERS)
+            throw new IllegalArgumentException("Results are recorded for " + GameResult.PLAYERS + " players");
+        this.players = List.copyOf(players);
+        result = new GameResult();
+        started = false;
+        bus = players.get(0).getEventBus();
+        bus.subscribe(this);
+    }
+
+    public void detach() {
+        if (bus != null)
+            bus.unsubscribe(this);
+        bus = null;
+    }
+
+    /**
+     * Game over: record the final points and append the row.
+     *
+     * @param winner Index of the winner, or -1
+     */
+    public GameResult finish(int winner) throws IOException {
+        detach();
+        GameResult r = result;
+        r.winner = winner;
+        for (int p = 0; p < GameResult.PLAYERS; p++) {
+            Player pl = players.get(p);
+            r.vp[p] = pl.victoryPoints;
+            r.cp[p] = pl.commercePoints;
+            r.fp[p] = pl.strengthPoints;
+            r.sp[p] = pl.skillPoints;
+            r.pp[p] = pl.progressPoints;
+        }
+        store.append(r);
+        return r;
+    }
+
+    @Override
+    public void onDiceRolled(Player active, int eventFace, int productionFace) {
+        if (!started) {
+            result.first = players.indexOf(active);
+            started = true;
+        }
+        if (eventFace >= 1 && eventFace <= 6)
+            result.events[eventFace]++;
+    }
+
+    @Override
+    public void onTurnEnded(Player active) {
+        result.turns++;
+    }
+
+    @Override
+    public void onCardPlaced(Player player, Card card, int row, int col) {
+        if (card == null)
+            return;
+        int id = store.cardId(card.name);
+        int p = players.indexOf(player);
+        if (id >= 0 && p >= 0)
+            result.markPlayed(p, id);
+    }
+}
@@ -0,0 +1,143 @@
+package results;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Aggregations over a {@link ResultStore}. Each one scans only the columns it
+ * needs, one mapped chunk at a time.
+ *
+ * <pre>java results.ResultQuery &lt;dir&gt; [summary|first|seat|cards]</pre>
+ */
+public class ResultQuery {
+
+    private final ResultStore store;
+
+    public ResultQuery(ResultStore store) {
+        this.store = store;
+    }
+
+    /**
+     * {games, decided games, total turns}.
+     */
+    public long[] summary() throws IOException {
+        ColumnFile winner = store.col("winner"), turns = store.col("turns");
+        long decided = 0, totalTurns = 0;
+        for (long row = 0; row < store.rows(); row++) {
+            if (winner.get(row) >= 0)
+                decided++;
+            totalTurns += turns.get(row);
+        }
+        return new long[] { store.rows(), decided, totalTurns };
+    }
+
+    /**
+     * Decided games won by the seat that moved first and by the other seat.
+     */
+    public long[] winsByFirstPlayer() throws IOException {
+        ColumnFile winner = store.col("winner"), first = store.col("first");
+        long[] wins = new long[2];
+        for (long row = 0; row < store.rows(); row++) {
+            long w = winner.get(row);
+            if (w >= 0)
+                wins[w == first.get(row) ? 0 : 1]++;
+        }
+        return wins;
+    }
+
+    /**
+     * Wins per seat. Each seat always starts with the same region dice
+     * (InitializationManager.REGION_DICE), so this is also the win rate of
+     * each starting layout.
+     */
+    public long[] winsBySeat() throws IOException {
+        ColumnFile winner = store.col("winner");
+        long[] wins = new long[GameResult.PLAYERS];
+        for (long row = 0; row < store.rows(); row++) {
+            long w = winner.get(row);
+            if (w >= 0 && w < wins.length)
+                wins[(int) w]++;
+        }
+        return wins;
+    }
+
+    /**
+     * Per card id: {player-games in which the player placed it, wins of those players}.
+     */
+    public long[][] winsByCard() throws IOException {
+        ColumnFile winner = store.col("winner");
+        ColumnFile[][] played = new ColumnFile[GameResult.PLAYERS][GameResult.PLAYED_WORDS];
+        for (int p = 0; p < GameResult.PLAYERS; p++)
+            for (int w = 0; w < GameResult.PLAYED_WORDS; w++)
+                played[p][w] = store.col("played" + p + "_" + w);
+        long[][] out = new long[store.cardNames().size()][2];
+        for (long row = 0; row < store.rows(); row++) {
+            long win = winner.get(row);
+            for (int p = 0; p < GameResult.PLAYERS; p++) {
+                for (int w = 0; w < GameResult.PLAYED_WORDS; w++) {
+                    long bits = played[p][w].get(row);
+                    while (bits != 0) {
+                        int id = (w << 6) + Long.numberOfTrailingZeros(bits);
+                        bits &= bits - 1;
+                        if (id >= out.length)
+                            continue;
+                        out[id][0]++;
+                        if (win == p)
+                            out[id][1]++;
+                    }
+                }
+            }
+        }
+        return out;
+    }
+
+    private static String rate(long wins, long games) {
+        return games == 0 ? "-" : String.format(Locale.ROOT, "%.1f%%", 100.0 * wins / games);
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.out.println("Usage: java results.ResultQuery <dir> [summary|first|seat|cards]");
+            return;
+        }
+        String what = args.length > 1 ? args[1] : "summary";
+        try (ResultStore store = ResultStore.open(Paths.get(args[0]))) {
+            ResultQuery q = new ResultQuery(store);
+            switch (what) {
+                case "summary": {
+                    long[] s = q.summary();
+                    System.out.println("games " + s[0] + ", decided " + s[1] + " (" + rate(s[1], s[0])
+                            + "), avg turns " + (s[0] == 0 ? "-"
+                                    : String.format(Locale.ROOT, "%.1f", (double) s[2] / s[0])));
+                    break;
+                }
+                case "first": {
+                    long[] w = q.winsByFirstPlayer();
+                    System.out.println("first player wins " + rate(w[0], w[0] + w[1]) + " of " + (w[0] + w[1])
+                            + " decided games");
+                    break;
+                }
+                case "seat": {
+                    long[] w = q.winsBySeat();
+                    for (int p = 0; p < w.length; p++)
+                        System.out.println("seat " + p + ": win rate " + rate(w[p], store.rows()) + " ("
+                                + w[p] + " of " + store.rows() + " games)");
+                    break;
+                }
+                case "cards": {
+                    long[][] c = q.winsByCard();
+                    List<String> names = store.cardNames();
+                    for (int i = 0; i < c.length; i++)
+                        if (c[i][0] > 0)
+                            System.out.printf(Locale.ROOT, "%-28s %8s  (%d plays)%n", names.get(i),
+                                    rate(c[i][1], c[i][0]), c[i][0]);
+                    break;
+                }
+                default:
+                    System.out.println("Unknown query " + what);
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package results;
+
+import analytics.CardAnalytics;
+import model.CardCatalogue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Columnar store of simulated game outcomes: a directory with one
+ * memory-mapped, fixed-width file per column and a small text header
+ * ({@code store.meta}: version, row count, card names by id).
+ *
+ * Appending a game writes one value into each column's mapped chunk, so
+ * 10^8 games need no database and queries only touch the columns they read.
+ * The row count is written on {@link #close()}; until then readers see the
+ * previous count.
+ */
+public class ResultStore implements Closeable {
+
+    static final String META = "store.meta";
+    static final int VERSION = 2;
+
+    // Column name -> width in bytes, in file order
+    static final Map<String, Integer> SCHEMA = new LinkedHashMap<>();
+    static {
+        SCHEMA.put("winner", 1);
+        SCHEMA.put("turns", 2);
+        SCHEMA.put("first", 1);
+        for (int p = 0; p < GameResult.PLAYERS; p++) {
+            SCHEMA.put("vp" + p, 1);
+            SCHEMA.put("cp" + p, 1);
+            SCHEMA.put("fp" + p, 1);
+            SCHEMA.put("sp" + p, 1);
+            SCHEMA.put("pp" + p, 1);
+            for (int w = 0; w < GameResult.PLAYED_WORDS; w++)
+                SCHEMA.put("played" + p + "_" + w, 8);
+        }
+        for (int face = 1; face <= 6; face++)
+            SCHEMA.put("event" + face, 2);
+    }
+
+    private final Path dir;
+    private final boolean writable;
+    private final List<String> cardNames;
+    private final Map<String, Integer> cardIds = new HashMap<>();
+    private final Map<String, ColumnFile> columns = new LinkedHashMap<>();
+    // The same columns, resolved once for append/get
+    private ColumnFile winner, turns, first;
+    private final ColumnFile[] vp = new ColumnFile[GameResult.PLAYERS];
+    private final ColumnFile[] cp = new ColumnFile[GameResult.PLAYERS];
+    private final ColumnFile[] fp = new ColumnFile[GameResult.PLAYERS];
+    private final ColumnFile[] sp = new ColumnFile[GameResult.PLAYERS];
+    private final ColumnFile[] pp = new ColumnFile[GameResult.PLAYERS];
+    private final ColumnFile[][] played = new ColumnFile[GameResult.PLAYERS][GameResult.PLAYED_WORDS];
+    private final ColumnFile[] events = new ColumnFile[7];
+    private long rows;
+
+    private ResultStore(Path dir, boolean writable, List<String> cardNames, long rows) {
+        this.dir = dir;
+        this.writable = writable;
+        this.cardNames = Collections.unmodifiableList(new ArrayList<>(cardNames));
+        this.rows = rows;
+        for (int i = 0; i < cardNames.size(); i++)
+            cardIds.putIfAbsent(cardNames.get(i), i);
+    }
+
+    /**
+     * Create an empty store (replacing one in the same directory).
+     *
+     * @param cardNames Card names that can be recorded as played (at most 256)
+     */
+    public static ResultStore create(Path dir, List<String> cardNames) throws IOException {
+        if (cardNames.size() > GameResult.PLAYED_WORDS * 64)
+            throw new IllegalArgumentException("At most " + GameResult.PLAYED_WORDS * 64 + " card names");
+        Files.createDirectories(dir);
+        ResultStore store = new ResultStore(dir, true, cardNames, 0);
+        for (Map.Entry<String, Integer> c : SCHEMA.entrySet())
+            store.columns.put(c.getKey(), ColumnFile.create(dir, c.getKey(), c.getValue()));
+        store.resolveColumns();
+        store.writeMeta();
+        return store;
+    }
+
+    /**
+     * Create an empty store tracking every card name of the catalogue.
+     */
+    public static ResultStore create(Path dir, CardCatalogue catalogue) throws IOException {
+        return create(dir, CardAnalytics.cardNames(catalogue));
+    }
+
+    /**
+     * Open a finished store for queries.
+     */
+    public static ResultStore open(Path dir) throws IOException {
+        List<String> lines = Files.readAllLines(dir.resolve(META), StandardCharsets.UTF_8);
+        if (lines.size() < 2 || Integer.parseInt(lines.get(0).trim()) != VERSION)
+            throw new IOException(dir + ": not a result store (or wrong version)");
+        long rows = Long.parseLong(lines.get(1).trim());
+        ResultStore store = new ResultStore(dir, false, lines.subList(2, lines.size()), rows);
+        for (Map.Entry<String, Integer> c : SCHEMA.entrySet()) {
+            ColumnFile col = ColumnFile.openReadOnly(dir, c.getKey(), c.getValue());
+            store.columns.put(c.getKey(), col);
+            if (col.capacity() < rows) {
+                store.close();
+                throw new IOException(dir + ": column " + c.getKey() + " holds fewer than " + rows + " rows");
+            }
+        }
+        store.resolveColumns();
+        return store;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    public List<String> cardNames() {
+        return cardNames;
+    }
+
+    /**
+     * Id of a card name (its bit in the played columns), or -1 if it is not tracked.
+     */
+    public int cardId(String name) {
+        Integer id = name == null ? null : cardIds.get(name);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * Append one game; safe to call from parallel simulations.
+     */
+    public synchronized void append(GameResult r) throws IOException {
+        if (!writable)
+            throw new IllegalStateException("Result store was opened read-only");
+        long row = rows;
+        winner.put(row, r.winner);
+        turns.put(row, r.turns);
+        first.put(row, r.first);
+        for (int p = 0; p < GameResult.PLAYERS; p++) {
+            vp[p].put(row, r.vp[p]);
+            cp[p].put(row, r.cp[p]);
+            fp[p].put(row, r.fp[p]);
+            sp[p].put(row, r.sp[p]);
+            pp[p].put(row, r.pp[p]);
+            for (int w = 0; w < GameResult.PLAYED_WORDS; w++)
+                played[p][w].put(row, r.played[p][w]);
+        }
+        for (int face = 1; face <= 6; face++)
+            events[face].put(row, r.events[face]);
+        rows = row + 1;
+    }
+
+    /**
+     * Read one row back (queries normally read single columns instead).
+     */
+    public synchronized GameResult get(long row) throws IOException {
+        if (row < 0 || row >= rows)
+            throw new IndexOutOfBoundsException("Row " + row + " of " + rows);
+        GameResult r = new GameResult();
+        r.winner = (int) winner.get(row);
+        r.turns = (int) turns.get(row);
+        r.first = (int) first.get(row);
+        for (int p = 0; p < GameResult.PLAYERS; p++) {
+            r.vp[p] = (int) vp[p].get(row);
+            r.cp[p] = (int) cp[p].get(row);
+            r.fp[p] = (int) fp[p].get(row);
+            r.sp[p] = (int) sp[p].get(row);
+            r.pp[p] = (int) pp[p].get(row);
+            for (int w = 0; w < GameResult.PLAYED_WORDS; w++)
+                r.played[p][w] = played[p][w].get(row);
+        }
+        for (int face = 1; face <= 6; face++)
+            r.events[face] = (int) events[face].get(row);
+        return r;
+    }
+
+    private void resolveColumns() {
+        winner = col("winner");
+        turns = col("turns");
+        first = col("first");
+        for (int p = 0; p < GameResult.PLAYERS; p++) {
+            vp[p] = col("vp" + p);
+            cp[p] = col("cp" + p);
+            fp[p] = col("fp" + p);
+            sp[p] = col("sp" + p);
+            pp[p] = col("pp" + p);
+            for (int w = 0; w < GameResult.PLAYED_WORDS; w++)
+                played[p][w] = col("played" + p + "_" + w);
+        }
+        for (int face = 1; face <= 6; face++)
+            events[face] = col("event" + face);
+    }
+
+    ColumnFile col(String name) {
+        ColumnFile c = columns.get(name);
+        if (c == null)
+            throw new IllegalArgumentException("No column " + name);
+        return c;
+    }
+
+    private void writeMeta() throws IOException {
+        List<String> lines = new ArrayList<>();
+        lines.add(String.valueOf(VERSION));
+        lines.add(String.valueOf(rows));
+        lines.addAll(cardNames);
+        Path tmp = dir.resolve(META + ".tmp");
+        Files.write(tmp, lines, StandardCharsets.UTF_8);
+        Files.move(tmp, dir.resolve(META), StandardCopyOption.REPLACE_EXISTING,
+                StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Flush the column files, then publish the row count in the header.
+     */
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            if (writable) {
+                for (ColumnFile c : columns.values())
+                    c.finish();
+                writeMeta();
+            }
+        } finally {
+            for (ColumnFile c : columns.values())
+                c.close();
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package snapshot;
+
+import model.Card;
+import model.GameDecks;
+import model.Pile;
+import model.Player;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputFilter;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Full state of a game at a turn boundary in a compact binary form: every
+ * principality, hand, pile, point counter and ability flag, plus the state of
+ * the engine's and the decks' random sources, the next player and the turn count.
+ *
+ * Layout: magic "RSNP", version, turn, current player, both random sources,
+ * a table of the distinct card faces in play (17 strings each, written once),
+ * the nine piles, then the players. Cards are table references followed by
+ * their stored resources and die face. Integers are varints.
+ */
+public final class GameSnapshot {
+
+    static final int MAGIC = 0x52534E50; // "RSNP"
+    static final int VERSION = 1;
+    private static final int STRINGS_PER_CARD = 17;
+
+    private GameSnapshot() {
+    }
+
+    /**
+     * Game state restored into a set of seats.
+     */
+    public static final class Restored {
+        public final List<Player> players;
+        public final GameDecks decks;
+        public final Random engineRandom; // hand to new GameEngine(Random)
+        public final int current; // index of the player whose turn is next
+        public final int turn; // turns played before the snapshot
+
+        Restored(List<Player> players, GameDecks decks, Random engineRandom, int current, int turn) {
+            this.players = players;
+            this.decks = decks;
+            this.engineRandom = engineRandom;
+            this.current = current;
+            this.turn = turn;
+        }
+    }
+
+    // ---------- Capture ----------
+
+    /**
+     * Encode the game. Call it on the game thread between turns; the result is
+     * a private copy that can be written out on any thread.
+     *
+     * @param players Players in seat order (they share one GameDecks)
+     * @param engineRandom The engine's dice source ({@code GameEngine.getRandom()})
+     * @param current Index of the player whose turn is next
+     * @param turn Turns played so far
+     */
+    public static byte[] capture(List<Player> players, Random engineRandom, int current, int turn) {
+        return capture(players, engineRandom, current, turn, new IdentityHashMap<>());
+    }
+
+    /**
+     * As {@link #capture(List, Random, int, int)}, reusing a card-face cache
+     * between captures of the same game (card faces never change).
+     */
+    static byte[] capture(List<Player> players, Random engineRandom, int current, int turn,
+            Map<Card, List<String>> faces) {
+        GameDecks decks = players.get(0).getDecks();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(8192);
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.writeInt(MAGIC);
+            out.writeInt(VERSION);
+            putVarint(out, turn);
+            out.writeByte(current);
+            putRandom(out, engineRandom);
+            putRandom(out, decks.getRandom());
+
+            // Card face table: one entry per distinct face, referenced by index
+            Map<List<String>, Integer> ids = new HashMap<>();
+            List<List<String>> table = new ArrayList<>();
+            for (Pile pile : decks.piles())
+                for (Card c : pile)
+                    faceId(c, faces, ids, table);
+            for (Player p : players) {
+                for (Card c : p.hand)
+                    faceId(c, faces, ids, table);
+                for (List<Card> row : p.principality)
+                    for (Card c : row)
+                        faceId(c, faces, ids, table);
+            }
+            putVarint(out, table.size());
+            for (List<String> face : table)
+                for (String s : face)
+                    putString(out, s);
+
+            for (Pile pile : decks.piles()) {
+                putVarint(out, pile.size());
+                for (Card c : pile)
+                    putCard(out, c, faces, ids);
+            }
+
+            putVarint(out, players.size());
+            for (Player p : players) {
+                putVarint(out, zigzag(p.victoryPoints));
+                putVarint(out, zigzag(p.progressPoints));
+                putVarint(out, zigzag(p.skillPoints));
+                putVarint(out, zigzag(p.commercePoints));
+                putVarint(out, zigzag(p.strengthPoints));
+                putVarint(out, zigzag(p.tradeRate));
+                out.writeLong(p.abilities.bits());
+                putVarint(out, zigzag(p.lastSettlementRow));
+                putVarint(out, zigzag(p.lastSettlementCol));
+                putVarint(out, p.resources.size());
+                for (Map.Entry<String, Integer> e : p.resources.entrySet()) {
+                    putString(out, e.getKey());
+                    putVarint(out, zigzag(e.getValue() == null ? 0 : e.getValue()));
+                }
+                putVarint(out, p.hand.size());
+                for (Card c : p.hand)
+                    putCard(out, c, faces, ids);
+                int rows = p.principality.size();
+                int cols = rows == 0 ? 0 : p.principality.get(0).size();
+                putVarint(out, rows);
+                putVarint(out, cols);
+                for (List<Card> row : p.principality)
+                    for (int c = 0; c < cols; c++)
+                        putCard(out, c < row.size() ? row.get(c) : null, faces, ids);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // in-memory stream
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void faceId(Card c, Map<Card, List<String>> faces, Map<List<String>, Integer> ids,
+            List<List<String>> table) {
+        if (c == null)
+            return;
+        List<String> face = faces.computeIfAbsent(c, k -> Arrays.asList(strings(k)));
+        if (!ids.containsKey(face)) {
+            ids.put(face, table.size());
+            table.add(face);
+        }
+    }
+
+    private static void putCard(DataOutputStream out, Card c, Map<Card, List<String>> faces,
+            Map<List<String>, Integer> ids) throws IOException {
+        if (c == null) {
+            putVarint(out, 0);
+            return;
+        }
+        putVarint(out, ids.get(faces.get(c)) + 1);
+        putVarint(out, zigzag(c.regionProduction));
+        putVarint(out, zigzag(c.diceRoll));
+    }
+
+    private static String[] strings(Card c) {
+        return new String[] { c.name, c.theme, c.type, c.germanName, c.placement, c.oneOf, c.cost,
+                c.victoryPoints, c.CP, c.SP, c.FP, c.PP, c.LP, c.KP, c.Requires, c.cardText,
+                c.protectionOrRemoval };
+    }
+
+    private static void putRandom(DataOutputStream out, Random rng) throws IOException {
+        // java.util.Random keeps its seed private; serialization is the supported way to copy it
+        if (rng.getClass() != Random.class)
+            throw new IllegalArgumentException(
+                    "Only java.util.Random can be snapshotted, not " + rng.getClass().getName());
+        ByteArrayOutputStream b = new ByteArrayOutputStream(128);
+        try (ObjectOutputStream o = new ObjectOutputStream(b)) {
+            o.writeObject(rng);
+        }
+        putVarint(out, b.size());
+        b.writeTo(out);
+    }
+
+    // ---------- Restore ----------
+
+    /**
+     * Read a snapshot file into fresh seats (see {@link #restore(byte[], List)}).
+     */
+    public static Restored read(Path file, List<Player> seats) throws IOException {
+        return restore(Files.readAllBytes(file), seats);
+    }
+
+    /**
+     * Load a snapshot into fresh players (console, bot or network seats, in the
+     * original seat order). The seats get new shared decks; their event buses
+     * are kept, so subscribe listeners after restoring to avoid seeing the
+     * board being rebuilt.
+     *
+     * @throws IOException if the data is not a snapshot or does not match the seats
+     */
+    public static Restored restore(byte[] data, List<Player> seats) throws IOException {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(data))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION)
+                throw new IOException("Not a game snapshot (or wrong version)");
+            int turn = varint(in);
+            int current = in.readUnsignedByte();
+            Random engineRandom = readRandom(in);
+            Random deckRandom = readRandom(in);
+
+            int faceCount = length(in); // each face takes at least one byte per string
+            Card[] table = new Card[faceCount];
+            for (int i = 0; i < faceCount; i++) {
+                String[] s = new String[STRINGS_PER_CARD];
+                for (int k = 0; k < STRINGS_PER_CARD; k++)
+                    s[k] = readString(in);
+                table[i] = new Card(s[0], s[1], s[2], s[3], s[4], s[5], s[6], s[7], s[8], s[9], s[10],
+                        s[11], s[12], s[13], s[14], s[15], s[16]);
+            }
+
+            List<Pile> piles = new ArrayList<>();
+            for (int i = 0; i < 5 + GameDecks.DRAW_STACKS; i++) {
+                int n = varint(in);
+                Pile pile = new Pile();
+                for (int k = 0; k < n; k++)
+                    pile.add(readCard(in, table));
+                piles.add(pile);
+            }
+            GameDecks decks = new GameDecks(piles.get(0), piles.get(1), piles.get(2), piles.get(3), piles.get(4),
+                    piles.subList(5, piles.size()), deckRandom);
+
+            int count = varint(in);
+            if (count != seats.size())
+                throw new IOException("Snapshot has " + count + " players, got " + seats.size() + " seats");
+            for (Player p : seats) {
+                p.setDecks(decks);
+                p.victoryPoints = unzigzag(varint(in));
+                p.progressPoints = unzigzag(varint(in));
+                p.skillPoints = unzigzag(varint(in));
+                p.commercePoints = unzigzag(varint(in));
+                p.strengthPoints = unzigzag(varint(in));
+                p.tradeRate = unzigzag(varint(in));
+                long abilityBits = in.readLong();
+                p.lastSettlementRow = unzigzag(varint(in));
+                p.lastSettlementCol = unzigzag(varint(in));
+                p.resources.clear();
+                int resourceCount = varint(in);
+                for (int k = 0; k < resourceCount; k++)
+                    p.resources.put(readString(in), unzigzag(varint(in)));
+                p.hand.clear();
+                int handSize = varint(in);
+                for (int k = 0; k < handSize; k++)
+                    p.hand.add(readCard(in, table));
+                int rows = varint(in);
+                int cols = varint(in);
+                for (int r = 0; r < rows; r++)
+                    for (int c = 0; c < cols; c++)
+                        p.placeCard(r, c, readCard(in, table)); // keeps positions and caches in step
+                p.abilities.setBits(abilityBits);
+            }
+            if (current >= seats.size())
+                throw new IOException("Snapshot names player " + current + " as next");
+            return new Restored(seats, decks, engineRandom, current, turn);
+        } catch (RuntimeException e) {
+            throw new IOException("Corrupt game snapshot", e);
+        }
+    }
+
+    private static Card readCard(DataInputStream in, Card[] table) throws IOException {
+        int id = varint(in);
+        if (id == 0)
+            return null;
+        Card c = table[id - 1].copy();
+        c.regionProduction = unzigzag(varint(in));
+        c.diceRoll = unzigzag(varint(in));
+        return c;
+    }
+
+    // The random sources are the only serialized objects in a snapshot: accept a
+    // plain java.util.Random and nothing else (no nested objects, no other classes)
+    private static final int MAX_RANDOM_BYTES = 256;
+    private static final ObjectInputFilter RANDOM_ONLY = ObjectInputFilter.Config.createFilter(
+            "java.util.Random;maxdepth=1;maxrefs=1;maxbytes=" + MAX_RANDOM_BYTES + ";!*");
+
+    static Random readRandom(DataInputStream in) throws IOException {
+        int n = varint(in);
+        if (n < 0 || n > MAX_RANDOM_BYTES)
+            throw new IOException("Snapshot random source of " + n + " bytes");
+        byte[] b = new byte[n];
+        in.readFully(b);
+        try (ObjectInputStream o = new ObjectInputStream(new ByteArrayInputStream(b))) {
+            o.setObjectInputFilter(RANDOM_ONLY);
+            Object rng = o.readObject();
+            if (!(rng instanceof Random))
+                throw new IOException("Snapshot random source is a " + rng.getClass().getName());
+            return (Random) rng;
+        } catch (ClassNotFoundException e) {
+            throw new IOException("Unknown random source class in snapshot", e);
+        }
+    }
+
+    // ---------- Encoding ----------
+
+    private static void putString(DataOutputStream out, String s) throws IOException {
+        if (s == null) {
+            putVarint(out, 0);
+            return;
+        }
+        byte[] utf8 = s.getBytes(StandardCharsets.UTF_8);
+        putVarint(out, utf8.length + 1);
+        out.write(utf8);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int len = length(in);
+        if (len == 0)
+            return null;
+        byte[] utf8 = new byte[len - 1];
+        in.readFully(utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+
+    private static void putVarint(DataOutputStream out, int v) throws IOException {
+        while ((v & ~0x7F) != 0) {
+            out.writeByte((v & 0x7F) | 0x80);
+            v >>>= 7;
+        }
+        out.writeByte(v);
+    }
+
+    private static int varint(DataInputStream in) throws IOException {
+        int v = 0;
+        for (int shift = 0;; shift += 7) {
+            byte b = in.readByte();
+            v |= (b & 0x7F) << shift;
+            if (b >= 0)
+                return v;
+        }
+    }
+
+    // A count or length prefix: never more than the bytes left, so a corrupt
+    // prefix fails as an IOException instead of a huge allocation
+    private static int length(DataInputStream in) throws IOException {
+        int n = varint(in);
+        if (n < 0 || n > in.available())
+            throw new IOException("Corrupt game snapshot: length " + n + " with " + in.available() + " bytes left");
+        return n;
+    }
+
+    private static int zigzag(int v) {
+        return (v << 1) ^ (v >> 31);
+    }
+
+    private static int unzigzag(int v) {
+        return (v >>> 1) ^ -(v & 1);
+    }
+}
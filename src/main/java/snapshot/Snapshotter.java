@@ -0,0 +1,115 @@
+package snapshot;
+
+import controller.GameEngine;
+import model.Card;
+import model.Player;
+import model.events.GameEventBus;
+import model.events.IGameEventListener;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Keeps a snapshot file of a running game up to date, one snapshot per turn.
+ *
+ * At the end of each turn the state is encoded on the game thread (a private
+ * byte copy, so play can go on immediately) and written by a background
+ * thread to a temporary file that atomically replaces the previous snapshot.
+ * If the writer falls behind, only the newest snapshot is written.
+ */
+public class Snapshotter implements IGameEventListener, Closeable {
+
+    private final Path file;
+    private final GameEngine engine;
+    private final ExecutorService writer = Executors.newSingleThreadExecutor(r -> {
+        Thread t = new Thread(r, "snapshot-writer");
+        t.setDaemon(true);
+        return t;
+    });
+    private final AtomicReference<byte[]> pending = new AtomicReference<>();
+    private final Map<Card, List<String>> faces = new IdentityHashMap<>();
+    private volatile IOException failure;
+    private List<Player> players = List.of();
+    private GameEventBus bus;
+    private int turn;
+
+    /**
+     * @param file Snapshot file (replaced after every turn)
+     * @param engine Engine running the game (its dice source is saved)
+     */
+    public Snapshotter(Path file, GameEngine engine) {
+        this.file = file;
+        this.engine = engine;
+    }
+
+    /**
+     * Start snapshotting these players' game.
+     *
+     * @param turn Turns already played (0 for a new game, {@code Restored.turn} after a restore)
+     */
+    public void attach(List<Player> players, int turn) {
+        detach();
+        this.players = List.copyOf(players);
+        this.turn = turn;
+        bus = players.get(0).getEventBus();
+        bus.subscribe(this);
+    }
+
+    public void detach() {
+        if (bus != null)
+            bus.unsubscribe(this);
+        bus = null;
+    }
+
+    @Override
+    public void onTurnEnded(Player active) {
+        turn++;
+        int next = (players.indexOf(active) + 1) % players.size();
+        byte[] data = GameSnapshot.capture(players, engine.getRandom(), next, turn, faces);
+        if (pending.getAndSet(data) == null)
+            writer.execute(this::writePending);
+    }
+
+    private void writePending() {
+        byte[] data = pending.getAndSet(null);
+        if (data == null)
+            return;
+        try {
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            Files.write(tmp, data);
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            failure = e;
+        }
+    }
+
+    /**
+     * Stop listening and wait for the last snapshot to reach the disk.
+     *
+     * @throws IOException if any snapshot write failed
+     */
+    @Override
+    public void close() throws IOException {
+        detach();
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(10, TimeUnit.SECONDS))
+                throw new IOException("Snapshot writer did not finish");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while writing the last snapshot", e);
+        }
+        if (failure != null)
+            throw failure;
+    }
+}
@@ -0,0 +1,69 @@
+package trace;
+
+import bot.BotGames;
+import controller.GameEngine;
+import model.CardCatalogue;
+import model.DeckBuilder;
+import model.Era;
+import model.Player;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Plays headless bot games under a {@link PhaseTracer} and writes where the
+ * time and allocation went.
+ *
+ * <pre>java trace.PhaseProfile [games] [outDir] [era]</pre>
+ *
+ * Writes {@code phases.trace.json} (Chrome trace of the first games),
+ * {@code phases.folded} (self time, ns) and {@code phases.alloc.folded}
+ * (self allocation, bytes) to {@code outDir}, and prints a summary.
+ */
+public class PhaseProfile {
+
+    public static final int MAX_TURNS = 200;
+    public static final int TIMELINE_SPANS = 200_000;
+
+    /**
+     * Play {@code games} games (seeds {@code seed .. seed + games - 1}) into the tracer.
+     */
+    public static void run(DeckBuilder builder, int games, long seed, PhaseTracer tracer) {
+        for (int g = 0; g < games; g++) {
+            Random rng = new Random(seed + g);
+            List<Player> players = BotGames.newGame(builder, rng);
+            GameEngine engine = new GameEngine(rng);
+            engine.setTracer(tracer);
+            engine.runHeadless(players, MAX_TURNS);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        Path out = Paths.get(args.length > 1 ? args[1] : ".");
+        Era era = args.length > 2 ? Era.valueOf(args[2].toUpperCase(Locale.ROOT)) : Era.INTRO;
+        DeckBuilder builder = CardCatalogue.get("cards.json").deckBuilder(era);
+
+        PhaseTracer tracer = new PhaseTracer(TIMELINE_SPANS);
+        run(builder, games, 1, tracer);
+
+        Files.createDirectories(out);
+        try (Writer w = Files.newBufferedWriter(out.resolve("phases.trace.json"), StandardCharsets.UTF_8)) {
+            tracer.writeChromeTrace(w);
+        }
+        try (Writer w = Files.newBufferedWriter(out.resolve("phases.folded"), StandardCharsets.UTF_8)) {
+            tracer.writeCollapsed(w, false);
+        }
+        try (Writer w = Files.newBufferedWriter(out.resolve("phases.alloc.folded"), StandardCharsets.UTF_8)) {
+            tracer.writeCollapsed(w, true);
+        }
+        System.out.print(tracer.summary());
+    }
+}
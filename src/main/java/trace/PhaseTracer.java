@@ -0,0 +1,344 @@
+package trace;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Times the phases of the game loop: wall-clock nanoseconds and bytes
+ * allocated by the calling thread between {@link #begin} and {@link #end}.
+ *
+ * Phases nest (the engine wraps its phases in a "Turn" span). Every span is
+ * added to per (parent, phase) totals; the first {@code capacity} spans are
+ * also kept individually for a timeline. The totals export as collapsed
+ * stacks for flamegraph.pl / speedscope, the timeline as a Chrome trace
+ * (chrome://tracing, Perfetto).
+ *
+ * Recording writes into preallocated arrays only; the cost of reading the
+ * allocation counter is measured once and subtracted. Not thread-safe: one
+ * tracer per engine thread.
+ */
+public class PhaseTracer {
+
+    public static final int MAX_PHASES = 32;
+    private static final int MAX_DEPTH = 16;
+    private static final int ROOT = MAX_PHASES; // parent slot of top-level spans
+
+    private final List<String> names = new ArrayList<>();
+    private final int[] firstParent = new int[MAX_PHASES];
+
+    // Totals per (parent, phase): index = parent * MAX_PHASES + phase
+    private final long[] count = new long[(MAX_PHASES + 1) * MAX_PHASES];
+    private final long[] nanos = new long[count.length];
+    private final long[] selfNanos = new long[count.length];
+    private final long[] maxNanos = new long[count.length];
+    private final long[] bytes = new long[count.length];
+    private final long[] selfBytes = new long[count.length];
+
+    // Open spans
+    private final int[] stackPhase = new int[MAX_DEPTH];
+    private final long[] stackStart = new long[MAX_DEPTH];
+    private final long[] stackBytes = new long[MAX_DEPTH];
+    private final long[] stackChildNanos = new long[MAX_DEPTH];
+    private final long[] stackChildBytes = new long[MAX_DEPTH];
+    private int depth;
+
+    // Timeline (first `capacity` spans)
+    private final int capacity;
+    private final int[] evPhase;
+    private final int[] evDepth;
+    private final long[] evStart;
+    private final long[] evNanos;
+    private final long[] evBytes;
+    private int events;
+    private long droppedEvents;
+
+    private final long origin = System.nanoTime();
+    private final long threadId = Thread.currentThread().getId();
+    private final com.sun.management.ThreadMXBean threads;
+    private final long allocOverhead;
+
+    /**
+     * Tracer keeping totals only (no timeline).
+     */
+    public PhaseTracer() {
+        this(0);
+    }
+
+    /**
+     * @param capacity Number of spans to keep for {@link #writeChromeTrace}
+     */
+    public PhaseTracer(int capacity) {
+        this.capacity = capacity;
+        this.evPhase = new int[capacity];
+        this.evDepth = new int[capacity];
+        this.evStart = new long[capacity];
+        this.evNanos = new long[capacity];
+        this.evBytes = new long[capacity];
+        this.threads = allocationBean();
+        // Reading the counter may itself allocate (JDK 11 does); subtract that
+        long a = allocatedBytes();
+        long b = allocatedBytes();
+        this.allocOverhead = Math.max(0, b - a);
+    }
+
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        try {
+            if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean) {
+                com.sun.management.ThreadMXBean bean =
+                        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+                if (bean.isThreadAllocatedMemorySupported()) {
+                    bean.setThreadAllocatedMemoryEnabled(true);
+                    return bean;
+                }
+            }
+        } catch (UnsupportedOperationException | SecurityException ignored) {
+        }
+        return null;
+    }
+
+    /**
+     * Whether byte counts are available on this JVM (otherwise they stay 0).
+     */
+    public boolean measuresAllocation() {
+        return threads != null;
+    }
+
+    private long allocatedBytes() {
+        return threads == null ? 0 : threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * Id of a phase name, registering it on first use.
+     */
+    public int phase(String name) {
+        int id = names.indexOf(name);
+        if (id >= 0)
+            return id;
+        if (names.size() == MAX_PHASES)
+            throw new IllegalStateException("More than " + MAX_PHASES + " phases");
+        firstParent[names.size()] = -1;
+        names.add(name);
+        return names.size() - 1;
+    }
+
+    public List<String> phaseNames() {
+        return List.copyOf(names);
+    }
+
+    /**
+     * Open a span of the given phase inside the current one.
+     */
+    public void begin(int phase) {
+        if (depth == MAX_DEPTH)
+            throw new IllegalStateException("Phases nested deeper than " + MAX_DEPTH);
+        stackPhase[depth] = phase;
+        stackChildNanos[depth] = 0;
+        stackChildBytes[depth] = 0;
+        stackBytes[depth] = allocatedBytes();
+        stackStart[depth] = System.nanoTime();
+        depth++;
+    }
+
+    /**
+     * Close the innermost span.
+     */
+    public void end() {
+        long now = System.nanoTime();
+        long allocated = allocatedBytes();
+        if (depth == 0)
+            throw new IllegalStateException("end() without begin()");
+        depth--;
+        int phase = stackPhase[depth];
+        long dt = now - stackStart[depth];
+        long db = Math.max(0, allocated - stackBytes[depth] - allocOverhead);
+        int parent = depth == 0 ? ROOT : stackPhase[depth - 1];
+        if (firstParent[phase] < 0)
+            firstParent[phase] = parent;
+
+        int k = parent * MAX_PHASES + phase;
+        count[k]++;
+        nanos[k] += dt;
+        selfNanos[k] += dt - stackChildNanos[depth];
+        bytes[k] += db;
+        selfBytes[k] += Math.max(0, db - stackChildBytes[depth]);
+        if (dt > maxNanos[k])
+            maxNanos[k] = dt;
+        if (depth > 0) {
+            stackChildNanos[depth - 1] += dt;
+            stackChildBytes[depth - 1] += db;
+        }
+
+        if (events < capacity) {
+            evPhase[events] = phase;
+            evDepth[events] = depth;
+            evStart[events] = stackStart[depth] - origin;
+            evNanos[events] = dt;
+            evBytes[events] = db;
+            events++;
+        } else if (capacity > 0) {
+            droppedEvents++;
+        }
+    }
+
+    /**
+     * Forget all totals and the timeline (phase names are kept).
+     */
+    public void reset() {
+        if (depth != 0)
+            throw new IllegalStateException("reset() inside an open span");
+        long[][] all = { count, nanos, selfNanos, maxNanos, bytes, selfBytes };
+        for (long[] a : all)
+            Arrays.fill(a, 0);
+        events = 0;
+        droppedEvents = 0;
+    }
+
+    // ---------- Totals ----------
+
+    private int key(String name, String parent) {
+        int id = names.indexOf(name);
+        if (id < 0)
+            return -1;
+        int p = parent == null ? ROOT : names.indexOf(parent);
+        return p < 0 ? -1 : p * MAX_PHASES + id;
+    }
+
+    private long total(long[] a, String name) {
+        int id = names.indexOf(name);
+        if (id < 0)
+            return 0;
+        long sum = 0;
+        for (int p = 0; p <= ROOT; p++)
+            sum += a[p * MAX_PHASES + id];
+        return sum;
+    }
+
+    /**
+     * Spans of a phase, under any parent.
+     */
+    public long count(String name) {
+        return total(count, name);
+    }
+
+    public long nanos(String name) {
+        return total(nanos, name);
+    }
+
+    public long bytes(String name) {
+        return total(bytes, name);
+    }
+
+    /**
+     * Time in the phase minus the time of the spans nested in it.
+     */
+    public long selfNanos(String name) {
+        return total(selfNanos, name);
+    }
+
+    /**
+     * Spans of {@code name} directly inside {@code parent} (null = top level).
+     */
+    public long count(String name, String parent) {
+        int k = key(name, parent);
+        return k < 0 ? 0 : count[k];
+    }
+
+    public int timelineSize() {
+        return events;
+    }
+
+    public long droppedEvents() {
+        return droppedEvents;
+    }
+
+    // ---------- Export ----------
+
+    /**
+     * Collapsed stacks, one "Turn;Action 12345" line per (parent, phase) with
+     * its self time in nanoseconds, or its self allocation in bytes.
+     */
+    public void writeCollapsed(Writer out, boolean allocation) throws IOException {
+        long[] values = allocation ? selfBytes : selfNanos;
+        for (int p = 0; p <= ROOT; p++) {
+            for (int id = 0; id < names.size(); id++) {
+                int k = p * MAX_PHASES + id;
+                if (count[k] == 0 || values[k] <= 0)
+                    continue;
+                out.write(stackPath(p == ROOT ? -1 : p));
+                out.write(frame(id));
+                out.write(' ');
+                out.write(Long.toString(values[k]));
+                out.write('\n');
+            }
+        }
+        out.flush();
+    }
+
+    // Path of a parent phase, following the parent it was first seen under
+    private String stackPath(int phase) {
+        StringBuilder sb = new StringBuilder();
+        for (int guard = 0; phase >= 0 && phase != ROOT && guard < MAX_DEPTH; guard++) {
+            sb.insert(0, frame(phase) + ";");
+            phase = firstParent[phase];
+        }
+        return sb.toString();
+    }
+
+    private String frame(int id) {
+        return names.get(id).replace(';', ',').replace(' ', '_');
+    }
+
+    /**
+     * The timeline as Chrome trace-event JSON ("X" complete events, in
+     * microseconds since the tracer was created).
+     */
+    public void writeChromeTrace(Writer out) throws IOException {
+        out.write("{\"displayTimeUnit\":\"ns\",\"traceEvents\":[");
+        for (int i = 0; i < events; i++) {
+            if (i > 0)
+                out.write(',');
+            out.write(String.format(Locale.ROOT,
+                    "%n{\"name\":\"%s\",\"cat\":\"phase\",\"ph\":\"X\",\"ts\":%.3f,\"dur\":%.3f,"
+                            + "\"pid\":1,\"tid\":%d,\"args\":{\"bytes\":%d,\"depth\":%d}}",
+                    jsonEscape(names.get(evPhase[i])), evStart[i] / 1000.0, evNanos[i] / 1000.0, threadId,
+                    evBytes[i], evDepth[i]));
+        }
+        out.write("\n]}\n");
+        out.flush();
+    }
+
+    private static String jsonEscape(String s) {
+        return s.replace("\\", "\\\\").replace("\"", "\\\"");
+    }
+
+    /**
+     * Table of calls, total and mean time and bytes per phase.
+     */
+    public String summary() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-18s %10s %11s %11s %11s %11s %12s%n", "phase", "calls",
+                "total ms", "self ms", "mean us", "max us", "bytes/call"));
+        for (int id = 0; id < names.size(); id++) {
+            long calls = 0, max = 0;
+            for (int p = 0; p <= ROOT; p++) {
+                int k = p * MAX_PHASES + id;
+                calls += count[k];
+                max = Math.max(max, maxNanos[k]);
+            }
+            if (calls == 0)
+                continue;
+            String name = names.get(id);
+            sb.append(String.format(Locale.ROOT, "%-18s %10d %11.2f %11.2f %11.2f %11.2f %12d%n", name, calls,
+                    nanos(name) / 1e6, selfNanos(name) / 1e6, nanos(name) / 1e3 / calls, max / 1e3,
+                    bytes(name) / calls));
+        }
+        if (droppedEvents > 0)
+            sb.append("timeline full, ").append(droppedEvents).append(" spans not kept\n");
+        return sb.toString();
+    }
+}
@@ -1,14 +1,19 @@
 package util;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import model.Card;
+import model.CardCatalogue;
+import model.CardDefinition;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Vector;
 
 /**
@@ -19,6 +24,8 @@ public class CardLoader {
     
     /**
      * Load cards from a JSON file, filtering by theme.
+     * The file is parsed once per JVM (see {@link CardCatalogue#get(String)});
+     * every call returns fresh Card instances.
      * 
      * @param jsonPath Path to the JSON file (classpath or filesystem)
      * @param themeFilter Filter string to match in the theme field (case-insensitive)
@@ -26,73 +33,117 @@ public class CardLoader {
      * @throws IOException If the file cannot be read or parsed
      */
     public static Vector<Card> loadCards(String jsonPath, String themeFilter) throws IOException {
-        Vector<Card> cards = new Vector<>();
-        
-        // Try to load from classpath first (for Maven), then from filesystem
+        return CardCatalogue.get(jsonPath).instantiate(themeFilter);
+    }
+
+    // Try to load from classpath first (for Maven), then from filesystem
+    private static InputStream open(String jsonPath) throws IOException {
         InputStream is = CardLoader.class.getClassLoader().getResourceAsStream(jsonPath);
         if (is == null) {
             // Fall back to filesystem (for backward compatibility)
             is = new java.io.FileInputStream(jsonPath);
         }
-        
-        try (InputStreamReader isr = new InputStreamReader(is)) {
-            JsonElement root = JsonParser.parseReader(isr);
-            if (!root.isJsonArray()) {
+        return is;
+    }
+
+    /**
+     * 64-bit FNV-1a hash of a card file's bytes (same lookup as
+     * {@link #readDefinitions}); identifies the JSON a snapshot was built from
+     * without parsing it.
+     */
+    public static long contentHash(String jsonPath) throws IOException {
+        long h = 0xcbf29ce484222325L;
+        byte[] buf = new byte[8192];
+        try (InputStream is = open(jsonPath)) {
+            for (int n; (n = is.read(buf)) > 0;) {
+                for (int i = 0; i < n; i++) {
+                    h ^= buf[i] & 0xff;
+                    h *= 0x100000001b3L;
+                }
+            }
+        }
+        return h;
+    }
+
+    /**
+     * Parse every card definition in a JSON file with a streaming reader
+     * (no intermediate JSON tree).
+     *
+     * @param jsonPath Path to the JSON file (classpath or filesystem)
+     * @return Definitions in file order
+     * @throws IOException If the file cannot be read or parsed
+     */
+    public static List<CardDefinition> readDefinitions(String jsonPath) throws IOException {
+        InputStream is = open(jsonPath);
+        List<CardDefinition> defs = new ArrayList<>();
+        try (JsonReader reader = new JsonReader(new InputStreamReader(is, StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) {
                 throw new IOException("cards.json: expected top-level array");
             }
-            JsonArray arr = root.getAsJsonArray();
-            
-            for (JsonElement el : arr) {
-                if (!el.isJsonObject()) {
-                    continue;
-                }
-                JsonObject o = el.getAsJsonObject();
-                String theme = getString(o, "theme");
-                
-                // Filter by theme if specified
-                if (themeFilter != null && (theme == null || !theme.toLowerCase().contains(themeFilter.toLowerCase()))) {
+            reader.beginArray();
+            Map<String, String> o = new HashMap<>();
+            while (reader.hasNext()) {
+                if (reader.peek() != JsonToken.BEGIN_OBJECT) {
+                    reader.skipValue();
                     continue;
                 }
-                
-                int number = getInt(o, "number", 1);
-                for (int i = 0; i < number; i++) {
-                    Card card = new Card(
-                        getString(o, "name"), theme, getString(o, "type"),
-                        getString(o, "germanName"), getString(o, "placement"),
-                        getString(o, "oneOf"), getString(o, "cost"),
-                        getString(o, "victoryPoints"), getString(o, "CP"), getString(o, "SP"), getString(o, "FP"),
-                        getString(o, "PP"), getString(o, "LP"), getString(o, "KP"), getString(o, "Requires"),
-                        getString(o, "cardText"), getString(o, "protectionOrRemoval")
-                    );
-                    cards.add(card);
+                o.clear();
+                int number = 1;
+                reader.beginObject();
+                while (reader.hasNext()) {
+                    String key = reader.nextName();
+                    if (key.equals("number"))
+                        number = readInt(reader, 1);
+                    else
+                        o.put(key, readString(reader));
                 }
+                reader.endObject();
+                defs.add(new CardDefinition(
+                    o.get("name"), o.get("theme"), o.get("type"),
+                    o.get("germanName"), o.get("placement"),
+                    o.get("oneOf"), o.get("cost"),
+                    o.get("victoryPoints"), o.get("CP"), o.get("SP"), o.get("FP"),
+                    o.get("PP"), o.get("LP"), o.get("KP"), o.get("Requires"),
+                    o.get("cardText"), o.get("protectionOrRemoval"), number
+                ));
             }
+            reader.endArray();
+        } catch (IllegalStateException | NumberFormatException e) {
+            throw new IOException("cards.json: malformed card entry", e);
         }
-        
-        return cards;
+        return defs;
     }
     
     /**
-     * Helper to safely extract string from JSON object.
+     * Helper to read a scalar as a string (numbers keep their source text); null otherwise.
      */
-    private static String getString(JsonObject o, String key) {
-        if (!o.has(key)) {
-            return null;
+    private static String readString(JsonReader reader) throws IOException {
+        switch (reader.peek()) {
+            case STRING:
+            case NUMBER:
+                return reader.nextString();
+            case BOOLEAN:
+                return String.valueOf(reader.nextBoolean());
+            case NULL:
+                reader.nextNull();
+                return null;
+            default:
+                reader.skipValue();
+                return null;
         }
-        JsonElement e = o.get(key);
-        return (e == null || e.isJsonNull()) ? null : e.getAsString();
     }
     
     /**
-     * Helper to safely extract integer from JSON object with a default value.
+     * Helper to read an integer with a default value for null or non-numeric values.
      */
-    private static int getInt(JsonObject o, String key, int defaultValue) {
-        if (!o.has(key)) {
+    private static int readInt(JsonReader reader, int defaultValue) throws IOException {
+        String s = readString(reader);
+        if (s == null) {
             return defaultValue;
         }
         try {
-            return o.get(key).getAsInt();
-        } catch (Exception e) {
+            return Integer.parseInt(s.trim());
+        } catch (NumberFormatException e) {
             return defaultValue;
         }
     }
@@ -0,0 +1,152 @@
+package util;
+
+import model.CardCatalogue;
+import model.CardDefinition;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Precompiled binary form of the card catalogue, memory-mapped on startup to
+ * skip JSON parsing. Regenerate it whenever cards.json changes:
+ *
+ * <pre>java -cp ... util.CardSnapshot cards.json cards.bin</pre>
+ *
+ * and point the game at it with {@code -Drivals.cards.snapshot=cards.bin}.
+ * The header records the card path the snapshot was built from and a hash of
+ * that file; {@link #readIfCurrent} only uses the snapshot for the same path
+ * with unchanged content.
+ *
+ * Layout (big-endian): magic, version, source path (string), source hash
+ * (8 bytes), count, then per card its copy count followed by 17 strings, each
+ * as a length (-1 for null) and UTF-8 bytes.
+ */
+public class CardSnapshot {
+
+    private static final int MAGIC = 0x52434154; // "RCAT"
+    private static final int VERSION = 2;
+    private static final int STRINGS_PER_CARD = 17;
+
+    /**
+     * Write a snapshot of the catalogue read from {@code jsonPath} (replacing the file).
+     */
+    public static void write(CardCatalogue catalogue, String jsonPath, Path file) throws IOException {
+        byte[] source = jsonPath.getBytes(StandardCharsets.UTF_8);
+        long hash = CardLoader.contentHash(jsonPath);
+        List<byte[][]> encoded = new ArrayList<>();
+        int size = 12 + 4 + source.length + 8;
+        for (CardDefinition d : catalogue.definitions()) {
+            byte[][] strings = new byte[STRINGS_PER_CARD][];
+            String[] fields = fields(d);
+            size += 4;
+            for (int i = 0; i < STRINGS_PER_CARD; i++) {
+                strings[i] = fields[i] == null ? null : fields[i].getBytes(StandardCharsets.UTF_8);
+                size += 4 + (strings[i] == null ? 0 : strings[i].length);
+            }
+            encoded.add(strings);
+        }
+
+        ByteBuffer buf = ByteBuffer.allocate(size);
+        buf.putInt(MAGIC).putInt(VERSION).putInt(source.length).put(source).putLong(hash).putInt(encoded.size());
+        List<CardDefinition> defs = catalogue.definitions();
+        for (int k = 0; k < defs.size(); k++) {
+            buf.putInt(defs.get(k).number);
+            for (byte[] s : encoded.get(k)) {
+                if (s == null) {
+                    buf.putInt(-1);
+                } else {
+                    buf.putInt(s.length).put(s);
+                }
+            }
+        }
+        buf.flip();
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buf.hasRemaining())
+                ch.write(buf);
+        }
+    }
+
+    /**
+     * Memory-map a snapshot and decode it into a catalogue, whatever it was built from.
+     *
+     * @throws IOException if the file is not a snapshot of a supported version
+     */
+    public static CardCatalogue read(Path file) throws IOException {
+        return read(file, null);
+    }
+
+    /**
+     * The snapshot's catalogue if it was built from {@code jsonPath} and that
+     * file has not changed since, otherwise null.
+     *
+     * @throws IOException if the file is not a snapshot of a supported version
+     */
+    public static CardCatalogue readIfCurrent(Path file, String jsonPath) throws IOException {
+        return read(file, jsonPath);
+    }
+
+    private static CardCatalogue read(Path file, String jsonPath) throws IOException {
+        try (FileChannel ch = FileChannel.open(file, StandardOpenOption.READ)) {
+            MappedByteBuffer buf = ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size());
+            try {
+                if (buf.getInt() != MAGIC || buf.getInt() != VERSION)
+                    throw new IOException(file + ": not a card snapshot (or wrong version)");
+                String source = readString(buf);
+                long hash = buf.getLong();
+                if (jsonPath != null && (!jsonPath.equals(source) || hash != CardLoader.contentHash(jsonPath)))
+                    return null;
+                int count = buf.getInt();
+                List<CardDefinition> defs = new ArrayList<>(count);
+                String[] f = new String[STRINGS_PER_CARD];
+                for (int k = 0; k < count; k++) {
+                    int number = buf.getInt();
+                    for (int i = 0; i < STRINGS_PER_CARD; i++)
+                        f[i] = readString(buf);
+                    defs.add(new CardDefinition(f[0], f[1], f[2], f[3], f[4], f[5], f[6], f[7], f[8], f[9],
+                            f[10], f[11], f[12], f[13], f[14], f[15], f[16], number));
+                }
+                return new CardCatalogue(defs);
+            } catch (RuntimeException e) { // BufferUnderflow etc. on a truncated file
+                throw new IOException(file + ": corrupt card snapshot", e);
+            }
+        }
+    }
+
+    private static String readString(ByteBuffer buf) {
+        int len = buf.getInt();
+        if (len < 0)
+            return null;
+        byte[] b = new byte[len];
+        buf.get(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    // Same order as the CardDefinition constructor
+    private static String[] fields(CardDefinition d) {
+        return new String[] { d.name, d.theme, d.type, d.germanName, d.placement, d.oneOf, d.cost,
+                d.victoryPoints, d.CP, d.SP, d.FP, d.PP, d.LP, d.KP, d.Requires, d.cardText,
+                d.protectionOrRemoval };
+    }
+
+    /**
+     * Precompile a snapshot: {@code util.CardSnapshot <cards.json> <out.bin>}.
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.out.println("Usage: java util.CardSnapshot <cards.json> <out.bin>");
+            return;
+        }
+        CardCatalogue catalogue = new CardCatalogue(CardLoader.readDefinitions(args[0]));
+        write(catalogue, args[0], Paths.get(args[1]));
+        System.out.println("Wrote " + catalogue.size() + " card definitions to " + args[1]);
+    }
+}
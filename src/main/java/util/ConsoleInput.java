@@ -0,0 +1,38 @@
+package util;
+
+import java.io.InputStream;
+import java.util.Scanner;
+
+/**
+ * The one line reader on standard input, shared by every console player and
+ * the network client. Created on the first read, so bot games and headless
+ * runs never build a Scanner; a single reader also keeps two players from
+ * buffering (and losing) each other's input.
+ */
+public final class ConsoleInput {
+
+    private static InputStream source = System.in;
+    private static Scanner scanner;
+
+    private ConsoleInput() {
+    }
+
+    /**
+     * Next line typed on the console.
+     *
+     * @throws java.util.NoSuchElementException at end of input
+     */
+    public static synchronized String nextLine() {
+        if (scanner == null)
+            scanner = new Scanner(source);
+        return scanner.nextLine();
+    }
+
+    /**
+     * Read from another stream from now on (scripted input, tests).
+     */
+    public static synchronized void setInput(InputStream in) {
+        source = in;
+        scanner = null;
+    }
+}
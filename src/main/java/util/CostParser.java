@@ -1,5 +1,6 @@
 package util;
 
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -30,6 +31,29 @@ public class CostParser {
         }
     }
 
+    /**
+     * Maps single-letter cost codes to resource indexes in
+     * {@code ResourceType.RESOURCES}, or -1 for anything else.
+     */
+    public static int letterToIndex(char ch) {
+        switch (Character.toUpperCase(ch)) {
+            case 'B':
+                return 0;
+            case 'G':
+                return 1;
+            case 'L':
+                return 2;
+            case 'W':
+                return 3;
+            case 'O':
+                return 4;
+            case 'A':
+                return 5;
+            default:
+                return -1;
+        }
+    }
+
     /**
      * Parse a cost string (e.g., "LW", "AA") into a map of resource counts.
      * Accept strings with optional spaces or separators ("L,W", "A A")
@@ -51,6 +75,28 @@ public class CostParser {
         return m;
     }
 
+    /**
+     * Count a cost string into {@code need}, indexed like
+     * {@code ResourceType.RESOURCES} (same separators as {@link #parseCost}).
+     * Does not allocate.
+     *
+     * @return Total number of resources in the cost
+     */
+    public static int countCost(String cost, int[] need) {
+        Arrays.fill(need, 0);
+        if (cost == null)
+            return 0;
+        int total = 0;
+        for (int i = 0; i < cost.length(); i++) {
+            int res = letterToIndex(cost.charAt(i));
+            if (res >= 0) {
+                need[res]++;
+                total++;
+            }
+        }
+        return total;
+    }
+
     /**
      * Safely parse an integer from a string, returning default if parsing fails.
      */
@@ -8,6 +8,9 @@ import model.Player;
  * Follows Single Responsibility Principle - handles only placement validation logic.
  */
 public class PlacementValidator {
+
+    private static final String[] BOOSTERS = { "Iron Foundry", "Grain Mill", "Lumber Camp", "Brick Factory",
+            "Weaver's Shop" };
     
     /**
      * Check if a row is the center slot.
@@ -90,6 +93,17 @@ public class PlacementValidator {
         return false;
     }
     
+    /**
+     * Check if a card is one of the booster buildings (Iron Foundry, Grain Mill,
+     * Lumber Camp, Brick Factory, Weaver's Shop) that double an adjacent region.
+     */
+    public static boolean isBooster(Card card) {
+        if (card == null || card.type == null || !card.type.equalsIgnoreCase("Building")) {
+            return false;
+        }
+        return nameMatches(card, BOOSTERS);
+    }
+    
     /**
      * Check if a card is a Region card.
      */
@@ -104,7 +118,19 @@ public class PlacementValidator {
         if (card == null) {
             return false;
         }
-        String placement = (card.placement == null ? "" : card.placement.toLowerCase());
-        return placement.contains("expansion");
+        return containsIgnoreCase(card.placement, "expansion");
+    }
+
+    // Case-insensitive String.contains without building a lower-case copy
+    private static boolean containsIgnoreCase(String s, String part) {
+        if (s == null) {
+            return false;
+        }
+        for (int i = 0; i + part.length() <= s.length(); i++) {
+            if (s.regionMatches(true, i, part, 0, part.length())) {
+                return true;
+            }
+        }
+        return false;
     }
 }
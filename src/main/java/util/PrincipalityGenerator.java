@@ -0,0 +1,165 @@
+package util;
+
+import model.Card;
+import model.Player;
+import model.effects.ExpansionCardEffectHandler;
+import model.events.GameEventBus;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * Builds valid principalities of any width from the card catalogue, for
+ * benchmarks and stress tests that need boards far wider than a real game.
+ *
+ * Layout (same as the starting board, repeated): the center row alternates
+ * Settlement (odd columns) and Road (even columns) with empty edge columns;
+ * regions fill rows 1 and 3 of every even column. Expansions go above/below
+ * settlements through {@link ExpansionCardEffectHandler}, so placement rules,
+ * one-of limits, abilities and card stats are applied as in play.
+ */
+public class PrincipalityGenerator {
+
+    private static final String[] REGION_NAMES = { "Hill", "Field", "Forest", "Pasture", "Mountain",
+            "Gold Field" };
+
+    private final Card road, settlement, city;
+    private final List<Card> regions = new ArrayList<>();
+    private final List<Card> expansions = new ArrayList<>();
+
+    /**
+     * @param catalogue Cards to copy from (needs Road, Settlement, City and the six regions)
+     */
+    public PrincipalityGenerator(List<Card> catalogue) {
+        Card r = null, s = null, c = null;
+        for (Card card : catalogue) {
+            if (PlacementValidator.nameMatches(card, "Road"))
+                r = card;
+            else if (PlacementValidator.nameMatches(card, "Settlement"))
+                s = card;
+            else if (PlacementValidator.nameMatches(card, "City"))
+                c = card;
+            else if (PlacementValidator.nameMatches(card, REGION_NAMES) && !containsName(regions, card.name))
+                regions.add(card);
+            else if (isPlaceableExpansion(card))
+                expansions.add(card);
+        }
+        if (r == null || s == null || c == null || regions.size() < REGION_NAMES.length)
+            throw new IllegalArgumentException("Catalogue lacks center cards or regions");
+        road = r;
+        settlement = s;
+        city = c;
+    }
+
+    /**
+     * Generator over every theme in a cards.json file.
+     */
+    public static PrincipalityGenerator fromCards(String jsonPath) throws IOException {
+        return new PrincipalityGenerator(CardLoader.loadCards(jsonPath, null));
+    }
+
+    /**
+     * Two players sharing one event bus, each with a generated board.
+     *
+     * @param cols Board width (rounded up to an odd number, minimum 5)
+     * @param density 0..1; chance that a settlement is a City and that an expansion slot is filled
+     * @param seed Same seed, same boards
+     * @param newPlayer Player factory (use a prompt-answering bot if the game will be played)
+     */
+    public List<Player> generateGame(int cols, double density, long seed, Supplier<? extends Player> newPlayer) {
+        List<Player> players = new ArrayList<>();
+        players.add(newPlayer.get());
+        players.add(newPlayer.get());
+        GameEventBus bus = new GameEventBus();
+        Random rnd = new Random(seed);
+        for (Player p : players)
+            p.setEventBus(bus);
+        generate(players.get(0), players.get(1), cols, density, rnd);
+        generate(players.get(1), players.get(0), cols, density, rnd);
+        return players;
+    }
+
+    /**
+     * Replace a player's board with a generated one.
+     *
+     * @param opponent Needed for advantage checks when expansion stats are added
+     */
+    public void generate(Player p, Player opponent, int cols, double density, Random rnd) {
+        cols = Math.max(5, cols | 1);
+        clear(p);
+
+        int regionIdx = rnd.nextInt(REGION_NAMES.length);
+        for (int c = 0; c < cols; c++) {
+            if (c % 2 == 0) {
+                p.placeCard(1, c, region(regionIdx++, rnd));
+                p.placeCard(3, c, region(regionIdx++, rnd));
+                if (c > 0 && c < cols - 1)
+                    p.placeCard(2, c, road.copy());
+            } else if (rnd.nextDouble() < density) {
+                p.placeCard(2, c, city.copy());
+                p.victoryPoints += 2;
+            } else {
+                p.placeCard(2, c, settlement.copy());
+                p.victoryPoints += 1;
+            }
+        }
+        if (expansions.isEmpty())
+            return;
+
+        // Inner ring first; the outer ring is only legal where the inner slot is taken
+        int[][] rings = { { 1, 3 }, { 0, 4 } };
+        for (int[] ring : rings)
+            for (int row : ring)
+                for (int c = 1; c < cols; c += 2)
+                    if (rnd.nextDouble() < density)
+                        placeExpansion(p, opponent, row, c, rnd);
+    }
+
+    private void placeExpansion(Player p, Player opponent, int row, int col, Random rnd) {
+        if (!PlacementValidator.isAboveOrBelowSettlementOrCity(p, row, col))
+            return;
+        // A 1x card that is already on the board is rejected; retry a few picks
+        for (int tries = 0; tries < 4; tries++) {
+            Card card = expansions.get(rnd.nextInt(expansions.size())).copy();
+            if (ExpansionCardEffectHandler.applyExpansionEffect(card, p, opponent, row, col))
+                return;
+        }
+    }
+
+    private Card region(int idx, Random rnd) {
+        String name = REGION_NAMES[idx % REGION_NAMES.length];
+        Card proto = null;
+        for (Card r : regions)
+            if (r.name.equalsIgnoreCase(name))
+                proto = r;
+        Card c = proto.copy();
+        c.diceRoll = 1 + rnd.nextInt(6);
+        c.regionProduction = rnd.nextInt(4);
+        return c;
+    }
+
+    private static void clear(Player p) {
+        for (int r = 0; r < p.principality.size(); r++)
+            for (int c = 0; c < p.principality.get(r).size(); c++)
+                if (p.getCard(r, c) != null)
+                    p.removeCard(r, c);
+        p.abilities.setBits(0L);
+        p.victoryPoints = p.progressPoints = p.skillPoints = p.commercePoints = p.strengthPoints = 0;
+    }
+
+    private static boolean isPlaceableExpansion(Card card) {
+        if (card.placement == null || !card.placement.equalsIgnoreCase("Settlement/city"))
+            return false;
+        return "Building".equalsIgnoreCase(card.type) || (card.type != null && card.type.contains("Unit"));
+    }
+
+    private static boolean containsName(List<Card> cards, String name) {
+        for (Card c : cards)
+            if (c.name.equalsIgnoreCase(name))
+                return true;
+        return false;
+    }
+}
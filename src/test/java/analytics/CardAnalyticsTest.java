@@ -0,0 +1,95 @@
+package analytics;
+
+import journal.GameReplay;
+import journal.JournalFile;
+import journal.JournalReader;
+import journal.JournalRecord;
+import model.CardCatalogue;
+import model.Era;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import results.ResultQuery;
+import results.ResultStore;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the per-card analytics: counting, merging and thread independence.
+ */
+public class CardAnalyticsTest {
+
+    @Test
+    public void testTotalsDoNotDependOnThreadCount() throws IOException, InterruptedException {
+        CardCatalogue catalogue = CardCatalogue.get("cards.json");
+        CardAccumulator one = CardAnalytics.simulate(catalogue, Era.INTRO, 6, 1, 100);
+        CardAccumulator three = CardAnalytics.simulate(catalogue, Era.INTRO, 6, 3, 100);
+        assertEquals(6, one.games());
+        assertEquals(12, one.playerGames());
+        assertArrayEquals(one.counts, three.counts);
+        assertEquals(one.playerWins(), three.playerWins());
+    }
+
+    @Test
+    public void testCountsAreConsistent() throws IOException, InterruptedException {
+        CardCatalogue catalogue = CardCatalogue.get("cards.json");
+        CardAccumulator acc = CardAnalytics.simulate(catalogue, Era.INTRO, 4, 2, 7);
+        assertTrue(acc.playerWins() <= acc.games());
+        long draws = 0;
+        for (int id = 0; id < acc.names().size(); id++) {
+            assertTrue(acc.get(id, CardAccumulator.DRAWS) >= acc.get(id, CardAccumulator.DRAWN));
+            assertTrue(acc.get(id, CardAccumulator.DRAWN) <= acc.playerGames());
+            assertTrue(acc.get(id, CardAccumulator.PLAYED_WINS) <= acc.get(id, CardAccumulator.PLAYED));
+            assertTrue(acc.get(id, CardAccumulator.HELD_WINS) <= acc.get(id, CardAccumulator.HELD));
+            draws += acc.get(id, CardAccumulator.DRAWS);
+        }
+        assertTrue(draws >= 4 * 2 * 3, "starting hands count as draws");
+        assertTrue(CardAnalytics.report(acc, 1).startsWith("4 games"));
+    }
+
+    @Test
+    public void testResultsAreStoredPerGame(@TempDir Path dir) throws IOException, InterruptedException {
+        CardCatalogue catalogue = CardCatalogue.get("cards.json");
+        CardAccumulator acc;
+        try (ResultStore results = ResultStore.create(dir, catalogue)) {
+            acc = CardAnalytics.simulate(catalogue, Era.INTRO, 5, 2, 3, results, null);
+        }
+        try (ResultStore results = ResultStore.open(dir)) {
+            assertEquals(5, results.rows());
+            long[] seats = new ResultQuery(results).winsBySeat();
+            assertEquals(acc.playerWins(), seats[0] + seats[1]);
+        }
+    }
+
+    @Test
+    public void testJournaledGamesReplay(@TempDir Path dir) throws IOException, InterruptedException {
+        CardCatalogue catalogue = CardCatalogue.get("cards.json");
+        Path file = dir.resolve("games.jnl");
+        try (JournalFile journal = JournalFile.create(file)) {
+            CardAnalytics.simulate(catalogue, Era.INTRO, 3, 2, 11, null, journal);
+        }
+        Map<Long, List<JournalRecord>> games = JournalReader.readAll(file);
+        assertEquals(3, games.size());
+        for (List<JournalRecord> game : games.values())
+            assertTrue(new GameReplay(game, catalogue.deckBuilder(Era.INTRO)).run().matches());
+    }
+
+    @Test
+    public void testMerge() {
+        CardAccumulator a = new CardAccumulator(List.of("Road", "City"));
+        CardAccumulator b = new CardAccumulator(a);
+        a.add(1, CardAccumulator.PLAYED, 2);
+        b.add(1, CardAccumulator.PLAYED, 3);
+        b.games = 5;
+        a.merge(b);
+        assertEquals(5, a.get("City", CardAccumulator.PLAYED));
+        assertEquals(0, a.get("Nope", CardAccumulator.PLAYED));
+        assertEquals(5, a.games());
+        assertThrows(IllegalArgumentException.class,
+                () -> a.merge(new CardAccumulator(List.of("Road"))));
+    }
+}
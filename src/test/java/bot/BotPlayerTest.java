@@ -0,0 +1,63 @@
+package bot;
+
+import controller.GameEngine;
+import model.CardCatalogue;
+import model.Era;
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that BotPlayer answers prompts legally so headless games terminate.
+ */
+public class BotPlayerTest {
+
+    private List<Player> players;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        players = BotGames.newGame(CardCatalogue.get("cards.json").deckBuilder(Era.INTRO), new Random(1));
+    }
+
+    @Test
+    public void testHeadlessGameTerminates() {
+        GameEngine engine = new GameEngine(new Random(42));
+        int winner = assertTimeoutPreemptively(Duration.ofSeconds(20),
+                () -> engine.runHeadless(players, 300));
+        if (winner >= 0)
+            assertTrue(players.get(winner).currentScoreAgainst(players.get(1 - winner)) >= GameEngine.WINNING_SCORE);
+    }
+
+    @Test
+    public void testBotBuildsDuringGame() {
+        int before = players.get(0).victoryPoints + players.get(1).victoryPoints;
+        new GameEngine(new Random(7)).runHeadless(players, 40);
+        int after = players.get(0).victoryPoints + players.get(1).victoryPoints;
+        assertTrue(after > before, "Bots should build settlements or cities over 40 turns");
+    }
+
+    @Test
+    public void testResourcePromptsGetValidAnswers() {
+        BotPlayer bot = (BotPlayer) players.get(0);
+        String gain = bot.answer("Plentiful Harvest - choose a resource [Brick|Grain|Lumber|Wool|Ore|Gold]:");
+        assertNotEquals(-1, model.ResourceType.indexOf(gain));
+        String discard = bot.answer("Discard resource #1 [Brick|Grain|Lumber|Wool|Ore|Gold]:");
+        assertTrue(bot.getResourceCount(discard) > 0, "Bot should discard a resource it holds");
+    }
+
+    @Test
+    public void testActionPhaseEndsWhenNothingAffordable() {
+        BotPlayer bot = (BotPlayer) players.get(0);
+        for (String res : model.ResourceType.RESOURCES)
+            bot.setResourceCount(res, 0);
+        bot.hand.clear();
+        assertEquals("END", bot.answer("make your choice:"));
+    }
+}
@@ -0,0 +1,104 @@
+package bot;
+
+import model.Card;
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for HeuristicEvaluator feature extraction and batch scoring.
+ */
+public class HeuristicEvaluatorTest {
+
+    private Player player1;
+    private Player player2;
+    private HeuristicEvaluator evaluator;
+
+    @BeforeEach
+    public void setUp() {
+        player1 = new Player();
+        player1.isBot = true;
+        player2 = new Player();
+        player2.isBot = true;
+        evaluator = new HeuristicEvaluator();
+    }
+
+    private static Card region(String name, int face, int stored) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Region";
+        c.diceRoll = face;
+        c.regionProduction = stored;
+        return c;
+    }
+
+    @Test
+    public void testScoreFeatureIncludesAdvantageTokens() {
+        player1.victoryPoints = 2;
+        player1.commercePoints = 3;
+        double[] f = new double[HeuristicEvaluator.FEATURE_COUNT];
+        evaluator.extractFeatures(player1, player2, f, 0);
+        assertEquals(3.0, f[HeuristicEvaluator.F_SCORE], "VP plus trade token");
+        assertEquals(0.0, f[HeuristicEvaluator.F_OPP_SCORE]);
+    }
+
+    @Test
+    public void testProductionRespectsCapAndBooster() {
+        player1.placeCard(1, 0, region("Mountain", 4, 1));
+        player1.placeCard(1, 2, region("Field", 2, 3)); // full: produces nothing
+        Card mill = new Card();
+        mill.name = "Iron Foundry";
+        mill.type = "Building";
+        player1.placeCard(1, 1, mill);
+
+        double[] f = new double[HeuristicEvaluator.FEATURE_COUNT];
+        evaluator.extractFeatures(player1, player2, f, 0);
+        assertEquals(2.0 / 6.0, f[HeuristicEvaluator.F_PRODUCTION], 1e-9, "Boosted Mountain yields 2 on its face");
+        assertEquals(2.0, f[HeuristicEvaluator.F_HEADROOM], "2 free on Mountain, 0 on full Field");
+    }
+
+    @Test
+    public void testHandQualityCountsAffordableCards() {
+        player1.placeCard(1, 0, region("Forest", 1, 2));
+        Card cheap = new Card();
+        cheap.name = "Cheap";
+        cheap.cost = "LL";
+        cheap.CP = "1";
+        Card dear = new Card();
+        dear.name = "Dear";
+        dear.cost = "LLL";
+        player1.addToHand(cheap);
+        player1.addToHand(dear);
+
+        double[] f = new double[HeuristicEvaluator.FEATURE_COUNT];
+        evaluator.extractFeatures(player1, player2, f, 0);
+        assertEquals(2.0, f[HeuristicEvaluator.F_HAND], "1 point on Cheap + Cheap affordable");
+    }
+
+    @Test
+    public void testBatchScoringMatchesSingleScoresAndPicksBest() {
+        int n = 3;
+        double[] rows = new double[n * HeuristicEvaluator.FEATURE_COUNT];
+        player1.victoryPoints = 1;
+        evaluator.extractFeatures(player1, player2, rows, 0);
+        player1.victoryPoints = 4;
+        evaluator.extractFeatures(player1, player2, rows, HeuristicEvaluator.FEATURE_COUNT);
+        player1.victoryPoints = 2;
+        evaluator.extractFeatures(player1, player2, rows, 2 * HeuristicEvaluator.FEATURE_COUNT);
+
+        double[] out = new double[n];
+        int best = evaluator.scoreBatch(rows, n, out);
+        assertEquals(1, best);
+        for (int i = 0; i < n; i++) {
+            assertEquals(evaluator.score(rows, i * HeuristicEvaluator.FEATURE_COUNT), out[i], 1e-9);
+        }
+        assertEquals(evaluator.evaluate(player1, player2), out[2], 1e-9);
+    }
+
+    @Test
+    public void testRejectsWrongWeightCount() {
+        assertThrows(IllegalArgumentException.class, () -> new HeuristicEvaluator(new double[2]));
+    }
+}
@@ -0,0 +1,105 @@
+package controller;
+
+import bot.BotPlayer;
+import model.Ability;
+import model.Card;
+import model.Player;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import util.AllocationMeter;
+import util.PlacementValidator;
+import util.PrincipalityGenerator;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Allocation budgets for the hot paths of a turn. Each check runs on a
+ * generated board and fails the build when the operation allocates more
+ * bytes per call than its budget.
+ */
+public class AllocationBudgetTest {
+
+    private static final int COLS = 31;
+
+    private static List<Player> players;
+    private static Player player;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        players = PrincipalityGenerator.fromCards("cards.json").generateGame(COLS, 0.5, 42, BotPlayer::new);
+        player = players.get(0);
+        // The Marketplace prompt builds a message per roll; budgets cover plain production
+        for (Player p : players)
+            p.abilities.remove(Ability.MARKETPLACE);
+    }
+
+    private static void restock(Player p, int level) {
+        for (int r = 0; r < p.principality.size(); r++) {
+            List<Card> row = p.principality.get(r);
+            for (int c = 0; c < row.size(); c++)
+                if (row.get(c) != null && "Region".equalsIgnoreCase(row.get(c).type))
+                    row.get(c).regionProduction = level;
+        }
+    }
+
+    @Test
+    public void testApplyProduction() {
+        ProductionManager production = new ProductionManager();
+        Function<Player, Player> opponentOf = p -> p == players.get(0) ? players.get(1) : players.get(0);
+        int[] face = { 0 };
+        AllocationMeter.assertWithinBudget("applyProduction", 0, () -> {
+            face[0] = face[0] % 6 + 1;
+            if (face[0] == 1) {
+                restock(players.get(0), 0);
+                restock(players.get(1), 0);
+            }
+            production.applyProduction(face[0], players, opponentOf);
+            return player.totalAllResources();
+        });
+    }
+
+    @Test
+    public void testGetResourceCount() {
+        restock(player, 2);
+        AllocationMeter.assertWithinBudget("getResourceCount", 0,
+                () -> player.getResourceCount("Brick") + player.getResourceCount("Gold")
+                        + player.getResourceCount("Any"));
+    }
+
+    @Test
+    public void testPayCost() {
+        ActionManager actions = new ActionManager();
+        AllocationMeter.assertWithinBudget("payCost", 0, () -> {
+            restock(player, 3);
+            return (actions.payCost(player, "LW") ? 1 : 0) + (actions.payCost(player, "B, G") ? 2 : 0)
+                    + (actions.payCost(player, "OOOOOOOOOOOO") ? 4 : 0);
+        });
+    }
+
+    @Test
+    public void testPlacementChecks() {
+        Card center = player.getCard(2, 1);
+        AllocationMeter.assertWithinBudget("PlacementValidator", 0, () -> {
+            long n = 0;
+            for (int col = 0; col < COLS; col++) {
+                Card c = player.getCard(1, col);
+                if (PlacementValidator.isAboveOrBelowSettlementOrCity(player, 1, col))
+                    n++;
+                if (PlacementValidator.isAboveOrBelowSettlementOrCity(player, 0, col))
+                    n++;
+                if (PlacementValidator.isBooster(c))
+                    n++;
+                if (PlacementValidator.isRegionCard(c))
+                    n++;
+                if (PlacementValidator.isExpansionCard(c))
+                    n++;
+                if (PlacementValidator.isSettlementOrCity(player.getCard(2, col)))
+                    n++;
+            }
+            return n + (PlacementValidator.buildingBoostsRegion("Grain Mill", "Field") ? 1 : 0)
+                    + (PlacementValidator.isSettlementOrCity(center) ? 1 : 0);
+        });
+    }
+}
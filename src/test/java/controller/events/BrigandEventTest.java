@@ -0,0 +1,108 @@
+package controller.events;
+
+import model.Card;
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for BrigandEvent: the 7-resource limit and Storehouse protection.
+ */
+public class BrigandEventTest {
+
+    private Player player1;
+    private Player player2;
+    private List<Player> players;
+    private Card gold, pasture, forest, mountain;
+
+    private static Card card(String name, String type) {
+        Card c = new Card();
+        c.name = name;
+        c.type = type;
+        return c;
+    }
+
+    private static Card region(String name, int stored) {
+        Card c = card(name, "Region");
+        c.regionProduction = stored;
+        return c;
+    }
+
+    @BeforeEach
+    public void setUp() {
+        player1 = new Player();
+        player1.isBot = true;
+        player2 = new Player();
+        player2.isBot = true;
+        players = new ArrayList<>();
+        players.add(player1);
+        players.add(player2);
+
+        // Settlement at (2,2) with regions above and below on both sides
+        player1.placeCard(2, 2, card("Settlement", "Settlement"));
+        gold = region("Gold Field", 3);
+        pasture = region("Pasture", 2);
+        forest = region("Forest", 2);
+        mountain = region("Mountain", 1);
+        player1.placeCard(1, 1, gold);
+        player1.placeCard(1, 3, pasture);
+        player1.placeCard(3, 1, forest);
+        player1.placeCard(3, 3, mountain);
+    }
+
+    @Test
+    public void testSevenOrLessIsSafe() {
+        mountain.regionProduction = 0; // 3 + 2 + 2 = 7
+        new BrigandEvent().handleEvent(players, player1, player2);
+        assertEquals(3, gold.regionProduction);
+        assertEquals(2, pasture.regionProduction);
+    }
+
+    @Test
+    public void testMoreThanSevenLosesGoldAndWool() {
+        new BrigandEvent().handleEvent(players, player1, player2);
+        assertEquals(0, gold.regionProduction);
+        assertEquals(0, pasture.regionProduction);
+        assertEquals(2, forest.regionProduction);
+        assertEquals(1, mountain.regionProduction);
+    }
+
+    @Test
+    public void testStorehouseProtectsNeighbouringRegions() {
+        // Storehouse above the settlement guards the outer region row above it
+        player1.placeCard(1, 2, card("Storehouse", "Building"));
+        assertTrue(player1.getStorehouseZones().isProtected(0, 1));
+        assertFalse(player1.getStorehouseZones().isProtected(1, 1));
+
+        // Storehouse below the settlement guards the bottom region row
+        player1.removeCard(1, 2);
+        player1.placeCard(3, 2, card("Storehouse", "Building"));
+        assertTrue(player1.getStorehouseZones().isProtected(4, 1));
+        assertTrue(player1.getStorehouseZones().isProtected(4, 3));
+        assertFalse(player1.getStorehouseZones().isProtected(0, 1));
+    }
+
+    @Test
+    public void testProtectedStoresAreNotCountedOrTaken() {
+        // Move the Gold Field into the protected outer slot above a Storehouse
+        player1.removeCard(1, 1);
+        player1.placeCard(1, 2, card("Storehouse", "Building"));
+        player1.placeCard(0, 1, gold);
+        // Unprotected: 2 + 2 + 1 = 5, so nothing is taken
+        new BrigandEvent().handleEvent(players, player1, player2);
+        assertEquals(3, gold.regionProduction);
+        assertEquals(2, pasture.regionProduction);
+
+        // Push the unprotected count over 7: the Pasture is taken, the Gold Field is not
+        Card hill = region("Hill", 3);
+        player1.placeCard(3, 0, hill);
+        new BrigandEvent().handleEvent(players, player1, player2);
+        assertEquals(3, gold.regionProduction);
+        assertEquals(0, pasture.regionProduction);
+    }
+}
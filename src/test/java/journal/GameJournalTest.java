@@ -0,0 +1,161 @@
+package journal;
+
+import bot.BotGames;
+import controller.GameEngine;
+import model.CardCatalogue;
+import model.Era;
+import model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the binary game journal: writing whole games and reading them back.
+ */
+public class GameJournalTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<Player> newGame(long deckSeed, GameJournal journal) throws IOException {
+        return BotGames.newGame(CardCatalogue.get("cards.json").deckBuilder(Era.INTRO), deckSeed, journal);
+    }
+
+    private static List<JournalRecord> ofType(List<JournalRecord> records, int type) {
+        List<JournalRecord> out = new ArrayList<>();
+        for (JournalRecord r : records)
+            if (r.type == type)
+                out.add(r);
+        return out;
+    }
+
+    @Test
+    public void testRecordsAWholeGame() throws IOException {
+        Path file = dir.resolve("game.jnl");
+        int winner;
+        try (JournalFile jf = JournalFile.create(file)) {
+            GameJournal journal = new GameJournal(jf, 1);
+            List<Player> players = newGame(7, journal);
+            GameEngine engine = new GameEngine(42L);
+            engine.setJournal(journal);
+            winner = engine.runHeadless(players, 60);
+        }
+
+        Map<Long, List<JournalRecord>> games = JournalReader.readAll(file);
+        assertEquals(1, games.size());
+        List<JournalRecord> records = games.get(1L);
+
+        List<JournalRecord> seeds = ofType(records, GameJournal.SEED);
+        assertEquals(2, seeds.size());
+        assertEquals(GameJournal.SEED_DECKS, seeds.get(0).a);
+        assertEquals(7, seeds.get(0).value);
+        assertEquals(GameJournal.SEED_ENGINE, seeds.get(1).a);
+        assertEquals(42, seeds.get(1).value);
+
+        List<JournalRecord> dice = ofType(records, GameJournal.DICE);
+        assertFalse(dice.isEmpty());
+        for (JournalRecord d : dice) {
+            assertTrue(d.player == 0 || d.player == 1);
+            assertTrue(d.a >= 1 && d.a <= 6 && d.b >= 1 && d.b <= 6, d.toString());
+        }
+
+        assertFalse(ofType(records, GameJournal.ANSWER).isEmpty());
+        List<JournalRecord> placed = ofType(records, GameJournal.PLACE);
+        assertFalse(placed.isEmpty());
+        assertTrue(placed.stream().anyMatch(r -> "Road".equals(r.text)), "starting roads are named");
+
+        JournalRecord last = records.get(records.size() - 1);
+        assertEquals(GameJournal.END, last.type);
+        assertEquals(winner, last.value);
+    }
+
+    @Test
+    public void testIdleJournalIsWrittenOutByTheFlusher() throws Exception {
+        Path file = dir.resolve("idle.jnl");
+        try (JournalFile jf = JournalFile.create(file, 20)) {
+            jf.append(7, new byte[] { GameJournal.END, 0 }, 2);
+            // No further appends: the background flusher must still write the block
+            long deadline = System.nanoTime() + 5_000_000_000L;
+            while (Files.size(file) < 8 + JournalFile.BLOCK_HEADER + 2 && System.nanoTime() < deadline)
+                Thread.sleep(10);
+            assertEquals(8 + JournalFile.BLOCK_HEADER + 2, Files.size(file));
+        }
+    }
+
+    @Test
+    public void testInterleavedGamesAreSeparatedById() throws IOException {
+        Path file = dir.resolve("two.jnl");
+        try (JournalFile jf = JournalFile.create(file, 0)) {
+            List<Player> a = newGame(1, null);
+            List<Player> b = newGame(2, null);
+            GameJournal ja = new GameJournal(jf, 10);
+            GameJournal jb = new GameJournal(jf, 20);
+            ja.attach(a);
+            jb.attach(b);
+            for (int turn = 0; turn < 5; turn++) {
+                a.get(0).getEventBus().diceRolled(a.get(turn % 2), 1, turn + 1);
+                ja.commit();
+                b.get(0).getEventBus().diceRolled(b.get(turn % 2), 2, 6 - turn);
+                jb.commit();
+            }
+            ja.end(0);
+            jb.end(1);
+        }
+
+        Map<Long, List<JournalRecord>> games = JournalReader.readAll(file);
+        assertEquals(List.of(10L, 20L), new ArrayList<>(games.keySet()));
+        List<JournalRecord> ga = games.get(10L);
+        List<JournalRecord> gb = games.get(20L);
+        assertEquals(6, ga.size());
+        assertEquals(6, gb.size());
+        for (int turn = 0; turn < 5; turn++) {
+            assertEquals(turn % 2, ga.get(turn).player);
+            assertEquals(turn + 1, ga.get(turn).b);
+            assertEquals(6 - turn, gb.get(turn).b);
+        }
+        assertEquals(0, ga.get(5).value);
+        assertEquals(1, gb.get(5).value);
+    }
+
+    @Test
+    public void testNegativeDeltasAndNullAnswersRoundTrip() throws IOException {
+        Path file = dir.resolve("small.jnl");
+        try (JournalFile jf = JournalFile.create(file)) {
+            List<Player> players = newGame(3, null);
+            GameJournal journal = new GameJournal(jf, 5);
+            journal.attach(players);
+            players.get(0).getEventBus().resourcesChanged(players.get(1), 4, -300);
+            players.get(0).getEventBus().promptAnswered(players.get(0), null);
+            players.get(0).getEventBus().promptAnswered(players.get(1), "Köln");
+            journal.end(-1);
+        }
+        List<JournalRecord> records = JournalReader.readAll(file).get(5L);
+        assertEquals(1, records.get(0).player);
+        assertEquals(4, records.get(0).a);
+        assertEquals(-300, records.get(0).value);
+        assertNull(records.get(1).text);
+        assertEquals("Köln", records.get(2).text);
+        assertEquals(-1, records.get(3).value);
+    }
+
+    @Test
+    public void testRejectsForeignFile() throws IOException {
+        Path file = dir.resolve("bad.jnl");
+        Files.write(file, new byte[] { 'n', 'o', 'p', 'e', 0, 0, 0, 1 });
+        assertThrows(IOException.class, () -> JournalReader.readAll(file));
+    }
+
+    @Test
+    public void testZigzag() {
+        for (int v : new int[] { 0, 1, -1, 63, -64, Integer.MAX_VALUE, Integer.MIN_VALUE })
+            assertEquals(v, GameJournal.unzigzag(GameJournal.zigzag(v)));
+    }
+}
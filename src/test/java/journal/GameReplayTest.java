@@ -0,0 +1,92 @@
+package journal;
+
+import bot.BotGames;
+import controller.GameEngine;
+import model.CardCatalogue;
+import model.DeckBuilder;
+import model.Era;
+import model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for GameReplay: bot games recorded to a journal replay to the same states.
+ */
+public class GameReplayTest {
+
+    @TempDir
+    Path dir;
+
+    /**
+     * Play a journaled bot game and return its records.
+     */
+    private List<JournalRecord> record(DeckBuilder builder, long deckSeed, long engineSeed) throws IOException {
+        Path file = dir.resolve("game" + deckSeed + ".jnl");
+        try (JournalFile jf = JournalFile.create(file)) {
+            GameJournal journal = new GameJournal(jf, deckSeed);
+            List<Player> players = BotGames.newGame(builder, deckSeed, journal);
+            GameEngine engine = new GameEngine(engineSeed);
+            engine.setJournal(journal);
+            engine.runHeadless(players, 60);
+        }
+        return JournalReader.readAll(file).get(deckSeed);
+    }
+
+    private static List<JournalRecord> withHash(List<JournalRecord> records, int checkpoint, long hash) {
+        List<JournalRecord> out = new ArrayList<>();
+        for (JournalRecord r : records)
+            out.add(r.type == GameJournal.HASH && r.a == checkpoint
+                    ? new JournalRecord(r.type, r.player, r.a, r.b, hash, r.text)
+                    : r);
+        return out;
+    }
+
+    @Test
+    public void testReplayReproducesEveryCheckpoint() throws IOException {
+        DeckBuilder builder = CardCatalogue.get("cards.json").deckBuilder(Era.INTRO);
+        for (long seed = 1; seed <= 3; seed++) {
+            List<JournalRecord> records = record(builder, seed, 100 + seed);
+            long turns = records.stream().filter(r -> r.type == GameJournal.HASH).count();
+            assertTrue(turns > 0);
+
+            GameReplay.Result result = new GameReplay(records, builder).run();
+            assertTrue(result.matches(), result.toString());
+            assertEquals(turns, result.checkpoints);
+        }
+    }
+
+    @Test
+    public void testReportsFirstDivergence() throws IOException {
+        DeckBuilder builder = CardCatalogue.get("cards.json").deckBuilder(Era.INTRO);
+        List<JournalRecord> records = withHash(record(builder, 4, 9), 2, 12345L);
+
+        GameReplay.Result result = new GameReplay(records, builder).run();
+        assertFalse(result.matches());
+        assertEquals(2, result.divergedAt);
+
+        IllegalStateException e = assertThrows(IllegalStateException.class,
+                () -> new GameReplay(records, builder).strict(true).run());
+        assertTrue(e.getMessage().contains("turn 2"));
+    }
+
+    @Test
+    public void testNeedsSeeds() {
+        List<JournalRecord> records = List.of(new JournalRecord(GameJournal.END, -1, 0, 0, 0, null));
+        assertThrows(IllegalStateException.class, () -> new GameReplay(records, null).run());
+    }
+
+    @Test
+    public void testReplayPlayerRunsOutOfAnswers() {
+        ReplayPlayer p = new ReplayPlayer(List.of("R"));
+        assertEquals("R", p.receiveMessage());
+        assertEquals(0, p.remainingAnswers());
+        assertThrows(IllegalStateException.class, p::receiveMessage);
+    }
+}
@@ -0,0 +1,139 @@
+package log;
+
+import log.interfaces.ILogSink;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the logging facade and the ring-buffer appender.
+ */
+public class LogTest {
+
+    private static final class ListSink implements ILogSink {
+        final List<String> lines = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public void write(String line) {
+            lines.add(line);
+        }
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Log.setSink(new Log.PrintStreamSink(System.err));
+        Log.setLevel(Level.INFO);
+    }
+
+    @Test
+    public void testDisabledLevelsAreNotFormatted() {
+        ListSink sink = new ListSink();
+        Log.setSink(sink);
+        Log.setLevel(Level.INFO);
+        Logger log = Log.get("test.disabled");
+        Supplier<String> never = () -> {
+            throw new AssertionError("supplier evaluated for a disabled level");
+        };
+        assertFalse(log.isDebugEnabled());
+        log.debug(never);
+        log.debug("x={}", new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("argument formatted for a disabled level");
+            }
+        });
+        log.info("kept {}", 1);
+        Log.flush();
+        assertEquals(1, sink.lines.size());
+        assertTrue(sink.lines.get(0).endsWith("INFO test.disabled kept 1"), sink.lines.get(0));
+    }
+
+    @Test
+    public void testTemplateFormatting() {
+        StringBuilder sb = new StringBuilder();
+        RingBufferAppender.format(sb, "card={} row={} col={}", 3, "Road", 2, 4);
+        assertEquals("card=Road row=2 col=4", sb.toString());
+        sb.setLength(0);
+        RingBufferAppender.format(sb, "only {} and {}", 1, "one", null, null);
+        assertEquals("only one and {}", sb.toString());
+        sb.setLength(0);
+        RingBufferAppender.format(sb, "no placeholders", 2, "a", "b", null);
+        assertEquals("no placeholders", sb.toString());
+    }
+
+    @Test
+    public void testConcurrentProducersKeepEveryEvent() throws InterruptedException {
+        ListSink sink = new ListSink();
+        RingBufferAppender appender = new RingBufferAppender(1 << 14, sink);
+        int threads = 4, perThread = 2000;
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            int id = t;
+            new Thread(() -> {
+                for (int i = 0; i < perThread; i++)
+                    appender.append(Level.INFO, "t", "{} {}", id, i, null, 2);
+                done.countDown();
+            }).start();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        appender.close();
+        assertEquals(threads * perThread, sink.lines.size() + appender.dropped());
+        assertEquals(0, appender.dropped());
+    }
+
+    @Test
+    public void testFullRingDropsInsteadOfBlocking() {
+        CountDownLatch release = new CountDownLatch(1);
+        ILogSink slow = line -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        RingBufferAppender appender = new RingBufferAppender(4, slow);
+        int accepted = 0;
+        for (int i = 0; i < 100; i++)
+            if (appender.append(Level.WARN, "t", "x", null, null, null, 0))
+                accepted++;
+        assertTrue(accepted <= 5, "accepted " + accepted);
+        assertEquals(100 - accepted, appender.dropped());
+        release.countDown();
+        appender.close();
+    }
+
+    @Test
+    public void testIdleAppenderFlushesOnlyAfterWrites() throws InterruptedException {
+        java.util.concurrent.atomic.AtomicInteger flushes = new java.util.concurrent.atomic.AtomicInteger();
+        ILogSink sink = new ILogSink() {
+            @Override
+            public void write(String line) {
+            }
+
+            @Override
+            public void flush() {
+                flushes.incrementAndGet();
+            }
+        };
+        RingBufferAppender appender = new RingBufferAppender(16, sink);
+        appender.append(Level.INFO, "t", "one", null, null, null, 0);
+        Thread.sleep(100); // ~50 idle polls
+        assertEquals(1, flushes.get(), "flushed once after the line, not on every idle poll");
+        appender.close();
+    }
+
+    @Test
+    public void testLevelProperty() {
+        assertEquals(Level.DEBUG, Log.parseLevel(" debug ", Level.INFO));
+        assertEquals(Level.INFO, Log.parseLevel("loud", Level.INFO));
+        assertEquals(Level.WARN, Log.parseLevel(null, Level.WARN));
+    }
+}
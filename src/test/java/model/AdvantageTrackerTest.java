@@ -0,0 +1,111 @@
+package model;
+
+import model.events.GameEventBus;
+import model.events.IGameEventListener;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the cached advantage token owners.
+ */
+public class AdvantageTrackerTest {
+
+    private Player player1;
+    private Player player2;
+    private List<String> seen;
+
+    @BeforeEach
+    public void setUp() {
+        player1 = new Player();
+        player1.isBot = true;
+        player2 = new Player();
+        player2.isBot = true;
+        GameEventBus bus = new GameEventBus();
+        player1.setEventBus(bus);
+        player2.setEventBus(bus);
+        seen = new ArrayList<>();
+        bus.subscribe(new IGameEventListener() {
+            @Override
+            public void onAdvantageChanged(Player player, AdvantageType type, boolean gained) {
+                seen.add((player == player1 ? "p1 " : "p2 ") + type + " " + gained);
+            }
+        });
+    }
+
+    @Test
+    public void testPlayersShareOneTracker() {
+        AdvantageTracker t = player1.advantagesAgainst(player2);
+        assertSame(t, player2.advantagesAgainst(player1));
+        assertTrue(t.covers(player2, player1));
+    }
+
+    @Test
+    public void testOwnerChangePublishesLossThenGain() {
+        AdvantageTracker t = player1.advantagesAgainst(player2);
+        player1.commercePoints = 3;
+        assertSame(player1, t.owner(AdvantageType.TRADE));
+        player2.commercePoints = 4;
+        assertSame(player2, t.owner(AdvantageType.TRADE));
+        assertEquals(List.of("p1 TRADE true", "p1 TRADE false", "p2 TRADE true"), seen);
+    }
+
+    @Test
+    public void testNoEventsWithoutPointChanges() {
+        player1.strengthPoints = 5;
+        AdvantageTracker t = player1.advantagesAgainst(player2);
+        for (int i = 0; i < 10; i++)
+            assertEquals(1, t.tokens(player1));
+        // Points changed but the owner did not
+        player1.strengthPoints = 6;
+        player1.skillPoints = 4;
+        assertEquals(1, t.tokens(player1));
+        assertTrue(seen.isEmpty());
+    }
+
+    @Test
+    public void testTieClearsOwner() {
+        player1.strengthPoints = 4;
+        AdvantageTracker t = player1.advantagesAgainst(player2);
+        player2.strengthPoints = 4;
+        assertNull(t.owner(AdvantageType.STRENGTH));
+        assertEquals(List.of("p1 STRENGTH false"), seen);
+    }
+
+    @Test
+    public void testPlacementPublishesOnce() {
+        player1.placeCard(2, 2, settlement());
+        player1.commercePoints = 2;
+        player1.advantagesAgainst(player2);
+        Card ship = new Card();
+        ship.name = "Brick Ship";
+        ship.type = "Unit – Trade Ship";
+        ship.placement = "Settlement/city";
+        ship.CP = "1";
+        ship.cost = "";
+        ship.applyEffect(player1, player2, 1, 2);
+        assertEquals(List.of("p1 TRADE true"), seen);
+        assertEquals(1, player1.currentScoreAgainst(player2));
+    }
+
+    @Test
+    public void testNewOpponentGetsNewTracker() {
+        Player player3 = new Player();
+        player1.commercePoints = 3;
+        player3.commercePoints = 5;
+        assertTrue(player1.hasTradeTokenAgainst(player2));
+        assertFalse(player1.hasTradeTokenAgainst(player3));
+        assertTrue(player1.hasTradeTokenAgainst(null));
+    }
+
+    private static Card settlement() {
+        Card c = new Card();
+        c.name = "Settlement";
+        c.type = "Settlement";
+        return c;
+    }
+}
@@ -0,0 +1,90 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that per-slot booster multipliers follow placements, removals and swaps.
+ */
+public class BoosterMapTest {
+
+    private Player player;
+
+    @BeforeEach
+    public void setUp() {
+        player = new Player();
+        player.isBot = true;
+    }
+
+    private static Card region(String name) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Region";
+        c.diceRoll = 1;
+        return c;
+    }
+
+    private static Card building(String name) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Building";
+        return c;
+    }
+
+    @Test
+    public void testBoosterDoublesMatchingNeighbourOnly() {
+        BoosterMap map = player.getBoosterMap();
+        player.placeCard(1, 1, region("Forest"));
+        player.placeCard(1, 3, region("Field"));
+        assertEquals(1, map.multiplier(1, 1));
+        player.placeCard(1, 2, building("Lumber Camp"));
+        assertEquals(2, map.multiplier(1, 1));
+        assertEquals(1, map.multiplier(1, 3), "Lumber Camp does not boost a Field");
+        assertEquals(0, map.multiplier(1, 2), "Buildings themselves have no multiplier");
+        assertEquals(0, map.multiplier(9, 9));
+    }
+
+    @Test
+    public void testRemovalClearsBoost() {
+        player.placeCard(3, 1, region("Mountain"));
+        player.placeCard(3, 2, building("Iron Foundry"));
+        assertEquals(2, player.getBoosterMap().multiplier(3, 1));
+        player.removeCard(3, 2); // e.g. Feud
+        assertEquals(1, player.getBoosterMap().multiplier(3, 1));
+        player.removeCard(3, 1);
+        assertEquals(0, player.getBoosterMap().multiplier(3, 1));
+    }
+
+    @Test
+    public void testSwapMovesBoost() {
+        Card hill = region("Hill");
+        Card pasture = region("Pasture");
+        player.placeCard(1, 1, hill);
+        player.placeCard(1, 2, building("Brick Factory"));
+        player.placeCard(3, 1, pasture);
+        // Relocation: swap the two regions
+        player.placeCard(1, 1, pasture);
+        player.placeCard(3, 1, hill);
+        assertEquals(1, player.getBoosterMap().multiplier(1, 1));
+        assertEquals(1, player.getBoosterMap().multiplier(3, 1));
+        player.placeCard(3, 2, building("Brick Factory"));
+        assertEquals(2, player.getBoosterMap().multiplier(3, 1));
+    }
+
+    @Test
+    public void testFollowsGridGrowth() {
+        player.placeCard(1, 0, region("Field"));
+        player.placeCard(1, 1, building("Grain Mill"));
+        // Grows the grid to the right and down
+        player.placeCard(6, 7, region("Forest"));
+        assertEquals(2, player.getBoosterMap().multiplier(1, 0));
+        assertEquals(1, player.getBoosterMap().multiplier(6, 7));
+        // A column inserted on the left shifts every slot
+        player.expandAfterEdgeBuild(0);
+        assertEquals(0, player.getBoosterMap().multiplier(1, 0));
+        assertEquals(2, player.getBoosterMap().multiplier(1, 1));
+        assertEquals(1, player.getBoosterMap().multiplier(6, 8));
+    }
+}
@@ -0,0 +1,136 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import util.CardLoader;
+import util.CardSnapshot;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Vector;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the shared card catalogue, the streaming loader and the binary snapshot.
+ */
+public class CardCatalogueTest {
+
+    @Test
+    public void testCatalogueIsParsedOncePerPath() throws IOException {
+        assertSame(CardCatalogue.get("cards.json"), CardCatalogue.get("cards.json"));
+    }
+
+    @Test
+    public void testStreamingLoaderReadsEveryEntry() throws IOException {
+        List<CardDefinition> defs = CardLoader.readDefinitions("cards.json");
+        assertEquals(231, defs.size());
+        CardDefinition first = defs.get(0);
+        assertNotNull(first.name);
+        assertTrue(first.number >= 1);
+        // UTF-8 text survives (type strings use an en dash)
+        assertTrue(defs.stream().anyMatch(d -> "Unit – Hero".equals(d.type)));
+    }
+
+    @Test
+    public void testLoadCardsReturnsFreshInstances() throws IOException {
+        Vector<Card> a = CardLoader.loadCards("cards.json", "basic");
+        Vector<Card> b = CardLoader.loadCards("cards.json", "basic");
+        assertEquals(a.size(), b.size());
+        assertNotSame(a.get(0), b.get(0));
+        a.get(0).regionProduction = 3;
+        assertEquals(0, b.get(0).regionProduction);
+    }
+
+    @Test
+    public void testThemeFilterCountsCopies() throws IOException {
+        int expected = 0;
+        for (CardDefinition d : CardCatalogue.get("cards.json").definitions())
+            if (d.theme != null && d.theme.toLowerCase().contains("basic"))
+                expected += d.number;
+        assertEquals(expected, CardLoader.loadCards("cards.json", "BASIC").size());
+        assertThrows(UnsupportedOperationException.class,
+                () -> CardCatalogue.get("cards.json").definitions().clear());
+    }
+
+    @Test
+    public void testSnapshotRoundTrip(@TempDir Path dir) throws IOException {
+        CardCatalogue original = CardCatalogue.get("cards.json");
+        Path file = dir.resolve("cards.bin");
+        CardSnapshot.write(original, "cards.json", file);
+        CardCatalogue copy = CardSnapshot.read(file);
+
+        assertEquals(original.size(), copy.size());
+        for (int i = 0; i < original.size(); i++) {
+            CardDefinition x = original.definitions().get(i), y = copy.definitions().get(i);
+            assertEquals(x.name, y.name);
+            assertEquals(x.type, y.type);
+            assertEquals(x.cost, y.cost);
+            assertEquals(x.KP, y.KP);
+            assertEquals(x.cardText, y.cardText);
+            assertEquals(x.protectionOrRemoval, y.protectionOrRemoval);
+            assertEquals(x.number, y.number);
+        }
+    }
+
+    @Test
+    public void testSnapshotOnlyServesItsSource(@TempDir Path dir) throws IOException {
+        Path json = dir.resolve("mod.json");
+        Files.write(json, "[{\"name\":\"Road\",\"type\":\"Center\"}]".getBytes(StandardCharsets.UTF_8));
+        Path file = dir.resolve("mod.bin");
+        CardSnapshot.write(new CardCatalogue(CardLoader.readDefinitions(json.toString())), json.toString(), file);
+
+        assertNotNull(CardSnapshot.readIfCurrent(file, json.toString()));
+        assertNull(CardSnapshot.readIfCurrent(file, "cards.json"), "other card files parse their own JSON");
+        Files.write(json, "[]".getBytes(StandardCharsets.UTF_8));
+        assertNull(CardSnapshot.readIfCurrent(file, json.toString()), "stale after the JSON changed");
+    }
+
+    @Test
+    public void testSnapshotRejectsOtherFiles(@TempDir Path dir) throws IOException {
+        Path file = dir.resolve("junk.bin");
+        Files.write(file, new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 });
+        assertThrows(IOException.class, () -> CardSnapshot.read(file));
+    }
+
+    @Test
+    public void testIndexesAreCaseInsensitive() throws IOException {
+        CardCatalogue all = CardCatalogue.get("cards.json");
+        assertFalse(all.named("road").isEmpty());
+        assertEquals(all.named("Road"), all.named(" ROAD "));
+        assertTrue(all.ofType("region").stream().allMatch(d -> "Region".equals(d.type)));
+        assertTrue(all.withPlacement("event").stream().allMatch(d -> "Event".equals(d.placement)));
+        assertTrue(all.named("No Such Card").isEmpty());
+    }
+
+    @Test
+    public void testThemeTokensSplitCombinedThemes() throws IOException {
+        CardCatalogue all = CardCatalogue.get("cards.json");
+        List<CardDefinition> gold = all.inTheme("Gold");
+        assertTrue(gold.stream().anyMatch(d -> "Basic + Gold".equals(d.theme)));
+        assertTrue(all.inTheme("Turmoil").stream().anyMatch(d -> "Basic ÷ Turmoil".equals(d.theme)));
+        // Same cards as the old substring filter
+        int substring = 0;
+        for (CardDefinition d : all.definitions())
+            if (d.theme.toLowerCase().contains("basic"))
+                substring++;
+        assertEquals(substring, all.inTheme("basic").size());
+        assertSame(all.theme("Basic"), all.theme("basic"));
+    }
+
+    @Test
+    public void testBasicPilesPartitionTheBasicSet() throws IOException {
+        Card.loadBasicCards("cards.json");
+        int piles = Card.roads.size() + Card.settlements.size() + Card.cities.size() + Card.regions.size()
+                + Card.events.size() + Card.drawStack1.size() + Card.drawStack2.size() + Card.drawStack3.size()
+                + Card.drawStack4.size();
+        assertEquals(CardLoader.loadCards("cards.json", "basic").size(), piles);
+        assertTrue(Card.roads.stream().allMatch(c -> "Road".equals(c.name)));
+        assertTrue(Card.regions.stream().allMatch(c -> "Region".equals(c.type)));
+        assertTrue(Card.events.stream().allMatch(c -> "Event".equals(c.placement)));
+        assertEquals("Yule", Card.events.get(Card.events.size() - 4).name);
+    }
+}
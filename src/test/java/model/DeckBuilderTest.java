@@ -0,0 +1,123 @@
+package model;
+
+import bot.BotGames;
+import controller.GameEngine;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-game deck building from the shared catalogue.
+ */
+public class DeckBuilderTest {
+
+    private static List<Card> allCards(GameDecks d) {
+        List<Card> all = new ArrayList<>();
+        all.addAll(d.regions);
+        all.addAll(d.roads);
+        all.addAll(d.settlements);
+        all.addAll(d.cities);
+        all.addAll(d.events);
+        for (int i = 1; i <= GameDecks.DRAW_STACKS; i++)
+            all.addAll(d.drawStack(i));
+        return all;
+    }
+
+    private static List<String> names(List<Card> cards) {
+        return cards.stream().map(c -> c.name).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testIntroMatchesBasicRules() throws IOException {
+        GameDecks d = CardCatalogue.get("cards.json").deckBuilder(Era.INTRO).build(new Random(1));
+        for (int i = 1; i <= GameDecks.DRAW_STACKS; i++)
+            assertEquals(DeckBuilder.INTRO_STACK_SIZE, d.drawStack(i).size());
+        assertTrue(d.roads.stream().allMatch(c -> "Road".equals(c.name)));
+        assertTrue(d.regions.stream().allMatch(c -> "Region".equals(c.type)));
+        assertEquals("Yule", d.events.get(d.events.size() - 4).name);
+    }
+
+    @Test
+    public void testEraDealsItsThemeCards() throws IOException {
+        CardCatalogue catalogue = CardCatalogue.get("cards.json");
+        GameDecks d = catalogue.deckBuilder(Era.DARKNESS).build(new Random(1));
+        List<Card> all = allCards(d);
+        assertTrue(all.stream().anyMatch(c -> c.theme.contains("Intrigue")));
+        assertTrue(all.stream().anyMatch(c -> c.theme.contains("Barbarians")));
+        assertFalse(all.stream().anyMatch(c -> c.theme.contains("Sages")));
+        // Markers and Metropolis cards are set aside, never drawn into a hand
+        for (int i = 1; i <= GameDecks.DRAW_STACKS; i++) {
+            for (Card c : d.drawStack(i)) {
+                assertNotEquals("Marker Card", c.placement, c.name);
+                assertNotEquals("Metropolis", c.type, c.name);
+            }
+        }
+        assertFalse(all.stream().anyMatch(c -> "Triumph Card".equals(c.name)));
+        assertFalse(all.stream().anyMatch(c -> "Commercial Metropolis".equals(c.name)));
+        // Every other card of the era is dealt somewhere
+        int expected = 0;
+        for (CardDefinition def : catalogue.definitions())
+            for (String theme : Era.DARKNESS.themes())
+                if (def.matchesTheme(theme)) {
+                    if (!"Marker Card".equals(def.placement) && !"Metropolis".equals(def.type))
+                        expected += def.number;
+                    break;
+                }
+        assertEquals(expected, all.size());
+    }
+
+    @Test
+    public void testSameSeedSameDeal() throws IOException {
+        DeckBuilder builder = CardCatalogue.get("cards.json").deckBuilder(Era.GOLD);
+        GameDecks a = builder.build(new Random(5));
+        GameDecks b = builder.build(new Random(5));
+        assertEquals(names(allCards(a)), names(allCards(b)));
+        for (int i = 1; i <= GameDecks.DRAW_STACKS; i++)
+            assertEquals(names(a.drawStack(i)), names(b.drawStack(i)));
+    }
+
+    @Test
+    public void testBuildsShareNoCards() throws IOException {
+        DeckBuilder builder = CardCatalogue.get("cards.json").deckBuilder(Era.TURMOIL);
+        Set<Card> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        seen.addAll(allCards(builder.build(new Random(1))));
+        for (Card c : allCards(builder.build(new Random(1))))
+            assertFalse(seen.contains(c), "Card instance reused across games: " + c.name);
+    }
+
+    @Test
+    public void testParallelGamesUseTheirOwnDecks() throws Exception {
+        DeckBuilder builder = CardCatalogue.get("cards.json").deckBuilder(Era.INTRO);
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            List<Future<GameDecks>> games = new ArrayList<>();
+            for (int g = 0; g < 2; g++) {
+                long seed = g;
+                games.add(pool.submit(() -> {
+                    List<Player> players = BotGames.newGame(builder, new Random(seed));
+                    new GameEngine(new Random(seed)).runHeadless(players, 60);
+                    return players.get(0).getDecks();
+                }));
+            }
+            GameDecks first = games.get(0).get(60, TimeUnit.SECONDS);
+            GameDecks second = games.get(1).get(60, TimeUnit.SECONDS);
+            assertNotSame(first, second);
+            assertNotSame(GameDecks.global(), first);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+}
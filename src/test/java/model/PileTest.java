@@ -0,0 +1,97 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the ring-buffer card pile.
+ */
+public class PileTest {
+
+    private static Card card(String name) {
+        Card c = new Card();
+        c.name = name;
+        return c;
+    }
+
+    private static Pile pileOf(String... names) {
+        Pile p = new Pile();
+        for (String n : names)
+            p.putBottom(card(n));
+        return p;
+    }
+
+    private static List<String> names(Pile p) {
+        return p.stream().map(c -> c.name).collect(Collectors.toList());
+    }
+
+    @Test
+    public void testDrawTopAndPutBottom() {
+        Pile p = pileOf("A", "B", "C");
+        assertEquals("A", p.peek().name);
+        assertEquals("A", p.drawTop().name);
+        p.putBottom(card("D"));
+        assertEquals(List.of("B", "C", "D"), names(p));
+        p.drawTop();
+        p.drawTop();
+        p.drawTop();
+        assertNull(p.drawTop());
+        assertNull(p.peek());
+        assertTrue(p.isEmpty());
+    }
+
+    @Test
+    public void testWrapsAroundAndGrows() {
+        Pile p = new Pile();
+        List<String> expected = new ArrayList<>();
+        // Cycle cards through the buffer so head wraps, then grow past the capacity
+        for (int i = 0; i < 100; i++) {
+            p.putBottom(card("c" + i));
+            expected.add("c" + i);
+            if (i % 3 == 0) {
+                assertEquals(expected.remove(0), p.drawTop().name);
+            }
+        }
+        assertEquals(expected, names(p));
+    }
+
+    @Test
+    public void testRemoveFromMiddleKeepsOrder() {
+        Pile p = pileOf("A", "B", "C", "D", "E", "F");
+        p.drawTop();
+        p.putBottom(card("G"));
+        assertEquals("C", p.remove(1).name); // shifts the top side
+        assertEquals("F", p.remove(3).name); // shifts the bottom side
+        assertEquals(List.of("B", "D", "E", "G"), names(p));
+        p.add(1, card("X"));
+        p.add(4, card("Y"));
+        assertEquals(List.of("B", "X", "D", "E", "Y", "G"), names(p));
+    }
+
+    @Test
+    public void testRemoveByName() {
+        Pile p = pileOf("Road", "Forest", "Hill", "Forest");
+        assertEquals(1, p.indexOfName(" forest "));
+        assertEquals("Forest", p.removeByName("FOREST").name);
+        assertEquals(List.of("Road", "Hill", "Forest"), names(p));
+        assertNull(p.removeByName("Mountain"));
+        assertEquals(-1, p.indexOfName(null));
+    }
+
+    @Test
+    public void testSeededShuffleIsReproducible() {
+        Pile a = pileOf("1", "2", "3", "4", "5", "6", "7", "8");
+        Pile b = pileOf("1", "2", "3", "4", "5", "6", "7", "8");
+        a.shuffle(new Random(3));
+        b.shuffle(new Random(3));
+        assertEquals(names(a), names(b));
+        assertEquals(8, a.size());
+        assertTrue(names(a).containsAll(List.of("1", "2", "3", "4", "5", "6", "7", "8")));
+    }
+}
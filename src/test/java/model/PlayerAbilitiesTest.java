@@ -0,0 +1,106 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the typed ability registry that replaced the string flags.
+ */
+public class PlayerAbilitiesTest {
+
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        Card.loadBasicCards("cards.json");
+        player1 = new Player();
+        player1.isBot = true;
+        player2 = new Player();
+        player2.isBot = true;
+
+        Card settlement = new Card();
+        settlement.name = "Settlement";
+        settlement.type = "Settlement";
+        player1.placeCard(2, 2, settlement);
+    }
+
+    private static Card unit(String name) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Unit – Trade Ship";
+        c.placement = "Settlement/city";
+        c.cost = "";
+        return c;
+    }
+
+    @Test
+    public void testBooleanAbilities() {
+        PlayerAbilities a = new PlayerAbilities();
+        assertFalse(a.has(Ability.MARKETPLACE));
+        a.add(Ability.MARKETPLACE);
+        a.add(Ability.BRIGITTA);
+        assertTrue(a.has(Ability.MARKETPLACE));
+        assertTrue(a.remove(Ability.BRIGITTA), "remove reports the ability was set");
+        assertFalse(a.remove(Ability.BRIGITTA), "second remove finds nothing");
+        assertTrue(a.has(Ability.MARKETPLACE));
+    }
+
+    @Test
+    public void testTradeShipGrantsTwoForOne() {
+        assertTrue(unit("Ore Ship").applyEffect(player1, player2, 1, 2));
+        assertTrue(player1.abilities.hasTwoForOne(ResourceType.indexOf("ORE")));
+        assertFalse(player1.abilities.hasTwoForOne(ResourceType.indexOf("Wool")));
+        assertFalse(player1.abilities.hasTwoForOne(-1));
+    }
+
+    @Test
+    public void testLargeTradeShipPositionTracksBoard() {
+        assertTrue(unit("Large Trade Ship").applyEffect(player1, player2, 1, 2));
+        assertEquals(new BoardPosition(1, 2), player1.abilities.firstLargeTradeShip());
+
+        // Growing the grid on the left shifts every card one column right
+        player1.expandAfterEdgeBuild(0);
+        assertEquals(new BoardPosition(1, 3), player1.abilities.firstLargeTradeShip());
+
+        player1.removeCard(1, 3);
+        assertNull(player1.abilities.firstLargeTradeShip());
+    }
+
+    @Test
+    public void testStorehouseFollowsSwap() {
+        Card storehouse = new Card();
+        storehouse.name = "Storehouse";
+        storehouse.type = "Building";
+        Card abbey = new Card();
+        abbey.name = "Abbey";
+        abbey.type = "Building";
+        player1.placeCard(1, 2, storehouse);
+        player1.placeCard(3, 2, abbey);
+
+        // Relocation swaps with two placeCard calls
+        player1.placeCard(1, 2, abbey);
+        player1.placeCard(3, 2, storehouse);
+
+        assertEquals(1, player1.abilities.getStorehouses().size());
+        assertEquals(new BoardPosition(3, 2), player1.abilities.getStorehouses().get(0));
+    }
+
+    @Test
+    public void testCopyIsIndependent() {
+        PlayerAbilities a = new PlayerAbilities();
+        a.add(Ability.PARISH);
+        a.addStorehouse(1, 1);
+        PlayerAbilities b = new PlayerAbilities(a);
+        b.remove(Ability.PARISH);
+        b.addStorehouse(3, 3);
+        assertTrue(a.has(Ability.PARISH));
+        assertEquals(1, a.getStorehouses().size());
+        assertEquals(2, b.getStorehouses().size());
+        assertFalse(b.has(Ability.PARISH));
+    }
+}
@@ -0,0 +1,79 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the cached principality rendering picks up every kind of change.
+ */
+public class PrincipalityRendererTest {
+
+    private Player player1;
+    private Player player2;
+
+    @BeforeEach
+    public void setUp() {
+        player1 = new Player();
+        player1.isBot = true;
+        player2 = new Player();
+        player2.isBot = true;
+    }
+
+    private static Card region(String name, int face, int stored) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Region";
+        c.diceRoll = face;
+        c.regionProduction = stored;
+        return c;
+    }
+
+    @Test
+    public void testUnchangedBoardRendersIdentically() {
+        player1.placeCard(1, 0, region("Forest", 2, 1));
+        String first = player1.printPrincipality(player2);
+        assertEquals(first, player1.printPrincipality(player2));
+        assertTrue(first.contains("Forest (L):Lumber"));
+        assertTrue(first.contains("d2  1/3"));
+        assertTrue(first.contains("Lumber=1"));
+    }
+
+    @Test
+    public void testStoredChangeWithoutPlacementIsPickedUp() {
+        Card forest = region("Forest", 2, 1);
+        player1.placeCard(1, 0, forest);
+        player1.printPrincipality(player2);
+
+        // Production edits the card directly, without touching the board version
+        forest.regionProduction = 3;
+        String after = player1.printPrincipality(player2);
+        assertTrue(after.contains("d2  3/3"), after);
+        assertTrue(after.contains("Lumber=3"), after);
+    }
+
+    @Test
+    public void testPlacementAndGrowthArePickedUp() {
+        player1.printPrincipality(player2);
+        player1.placeCard(3, 4, region("Hill", 5, 2));
+        player1.expandAfterEdgeBuild(0);
+        String after = player1.printPrincipality(player2);
+        assertTrue(after.contains("Col 5"), "grid grew by one column");
+        assertTrue(after.contains("Hill (B):Brick"));
+        assertTrue(after.contains("Brick=2"));
+
+        player1.removeCard(3, 5);
+        assertFalse(player1.printPrincipality(player2).contains("Hill"));
+    }
+
+    @Test
+    public void testPointsLineFollowsViewer() {
+        player1.commercePoints = 3;
+        Player rich = new Player();
+        rich.isBot = true;
+        rich.commercePoints = 5;
+        assertTrue(player1.printPrincipality(player2).contains("Trade+1"));
+        assertFalse(player1.printPrincipality(rich).contains("Trade+1"));
+    }
+}
@@ -0,0 +1,118 @@
+package model;
+
+import bot.BotPlayer;
+import org.junit.jupiter.api.Test;
+import util.PlacementValidator;
+import util.PrincipalityGenerator;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the flattened production kernel matches a plain walk over the board.
+ */
+public class ProductionKernelTest {
+
+    private static Card region(String name, int face) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Region";
+        c.diceRoll = face;
+        return c;
+    }
+
+    private static Card building(String name) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Building";
+        return c;
+    }
+
+    // Reference: the nested-list loop the kernel replaces
+    private static void produceByWalking(Player p, int face) {
+        for (int r = 0; r < p.principality.size(); r++) {
+            List<Card> row = p.principality.get(r);
+            for (int c = 0; c < row.size(); c++) {
+                Card card = row.get(c);
+                if (card == null || !"Region".equalsIgnoreCase(card.type) || card.diceRoll != face)
+                    continue;
+                int inc = 1;
+                if (boosts(p.getCard(r, c - 1), card) || boosts(p.getCard(r, c + 1), card))
+                    inc += 1;
+                card.regionProduction = Math.min(3, card.regionProduction + inc);
+            }
+        }
+    }
+
+    private static boolean boosts(Card b, Card region) {
+        return b != null && "Building".equalsIgnoreCase(b.type)
+                && PlacementValidator.buildingBoostsRegion(b.name, region.name);
+    }
+
+    private static List<Integer> stores(Player p) {
+        List<Integer> out = new ArrayList<>();
+        for (List<Card> row : p.principality)
+            for (Card c : row)
+                if (PlacementValidator.isRegionCard(c))
+                    out.add(c.regionProduction);
+        return out;
+    }
+
+    @Test
+    public void testMatchesBoardWalkOnGeneratedBoards() throws IOException {
+        PrincipalityGenerator gen = PrincipalityGenerator.fromCards("cards.json");
+        for (long seed = 0; seed < 5; seed++) {
+            Player kernelSide = gen.generateGame(31, 0.7, seed, BotPlayer::new).get(0);
+            Player walkSide = gen.generateGame(31, 0.7, seed, BotPlayer::new).get(0);
+            assertEquals(stores(walkSide), stores(kernelSide));
+            for (int roll = 0; roll < 30; roll++) {
+                int face = 1 + (int) ((seed * 7 + roll * 5) % 6);
+                kernelSide.getProductionKernel().produce(face);
+                produceByWalking(walkSide, face);
+                assertEquals(stores(walkSide), stores(kernelSide), "seed " + seed + " roll " + roll);
+                // Drain now and then so production keeps changing stores
+                if (roll % 4 == 3)
+                    for (String res : ResourceType.RESOURCES) {
+                        kernelSide.setResourceCount(res, 0);
+                        walkSide.setResourceCount(res, 0);
+                    }
+            }
+        }
+    }
+
+    @Test
+    public void testBoosterDoublesAndStoreCaps() {
+        Player p = new Player();
+        Card field = region("Field", 3);
+        p.placeCard(1, 1, field);
+        p.placeCard(1, 2, building("Grain Mill"));
+        ProductionKernel kernel = p.getProductionKernel();
+        kernel.produce(3);
+        assertEquals(2, field.regionProduction);
+        kernel.produce(3);
+        assertEquals(3, field.regionProduction);
+        kernel.produce(4);
+        assertEquals(3, field.regionProduction);
+    }
+
+    @Test
+    public void testRebuildsAfterBoardChange() {
+        Player p = new Player();
+        Card hill = region("Hill", 5);
+        p.placeCard(1, 0, hill);
+        ProductionKernel kernel = p.getProductionKernel();
+        assertEquals(1, kernel.regionsOnFace(5));
+        p.placeCard(3, 0, region("Hill", 5));
+        assertEquals(2, kernel.regionsOnFace(5));
+        // Booster placed after the first build still counts
+        p.placeCard(1, 1, building("Brick Factory"));
+        kernel.produce(5);
+        assertEquals(2, hill.regionProduction);
+        p.removeCard(1, 0);
+        assertEquals(1, kernel.regionsOnFace(5));
+        assertEquals(0, kernel.regionsOnFace(7));
+    }
+}
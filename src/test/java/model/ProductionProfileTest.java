@@ -0,0 +1,124 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that the per-player ProductionProfile follows region and booster
+ * placements without a full re-simulation.
+ */
+public class ProductionProfileTest {
+
+    private static final int ORE = 4;
+    private static final int GRAIN = 1;
+
+    private Player player;
+
+    @BeforeEach
+    public void setUp() {
+        player = new Player();
+        player.isBot = true;
+    }
+
+    private static Card region(String name, int face) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Region";
+        c.diceRoll = face;
+        return c;
+    }
+
+    private static Card building(String name) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Building";
+        return c;
+    }
+
+    @Test
+    public void testRegionPlacementUpdatesTable() {
+        player.placeCard(1, 0, region("Mountain", 4));
+        player.placeCard(3, 0, region("Field", 4));
+
+        ProductionProfile profile = player.getProductionProfile();
+        assertEquals(1, profile.yield(4, ORE));
+        assertEquals(1, profile.yield(4, GRAIN));
+        assertEquals(2, profile.regionsOnFace(4));
+        assertEquals(0, profile.regionsOnFace(3));
+        assertEquals(3, profile.capacity(ORE));
+        assertEquals(1.0 / 6.0, profile.expectedYield(ORE), 1e-9);
+    }
+
+    @Test
+    public void testBoosterDoublesAndRemovalRestores() {
+        player.placeCard(1, 0, region("Mountain", 4));
+        player.placeCard(1, 1, building("Iron Foundry"));
+        ProductionProfile profile = player.getProductionProfile();
+        assertEquals(2, profile.yield(4, ORE), "Iron Foundry doubles the adjacent Mountain");
+        assertEquals(3, profile.capacity(ORE), "Boosting does not add storage");
+
+        // A non-matching booster has no effect
+        player.placeCard(1, 1, building("Grain Mill"));
+        assertEquals(1, profile.yield(4, ORE));
+
+        player.placeCard(1, 1, building("Iron Foundry"));
+        player.removeCard(1, 1);
+        assertEquals(1, profile.yield(4, ORE), "Removing the booster (Feud) drops the bonus");
+    }
+
+    @Test
+    public void testSwapKeepsTableConsistent() {
+        Card mountain = region("Mountain", 4);
+        Card field = region("Field", 2);
+        player.placeCard(1, 0, mountain);
+        player.placeCard(3, 0, field);
+        player.placeCard(1, 1, building("Grain Mill"));
+
+        // Relocation swaps with two placeCard calls
+        player.placeCard(1, 0, field);
+        player.placeCard(3, 0, mountain);
+
+        ProductionProfile profile = player.getProductionProfile();
+        assertEquals(2, profile.yield(2, GRAIN), "Field is now next to the Grain Mill");
+        assertEquals(1, profile.yield(4, ORE));
+        assertEquals(1, profile.regionsOnFace(2));
+        assertEquals(1, profile.regionsOnFace(4));
+    }
+
+    @Test
+    public void testExpectedGainRespectsCap() {
+        player.placeCard(1, 0, region("Mountain", 4));
+        player.placeCard(1, 1, building("Iron Foundry"));
+        Card mountain = player.getCard(1, 0);
+        mountain.regionProduction = 2;
+        assertEquals(1.0 / 6.0, player.getProductionProfile().expectedGain(), 1e-9,
+                "Only one free slot left on the Mountain");
+    }
+
+    @Test
+    public void testExpectedGainCapsEachRegion() {
+        Card full = region("Forest", 2);
+        Card empty = region("Forest", 5);
+        player.placeCard(1, 0, full);
+        player.placeCard(3, 0, empty);
+        full.regionProduction = 3;
+        // Three free Lumber slots in total, but a roll of 2 hits the full Forest
+        assertEquals(1.0 / 6.0, player.getProductionProfile().expectedGain(), 1e-9);
+        full.regionProduction = 1;
+        assertEquals(2.0 / 6.0, player.getProductionProfile().expectedGain(), 1e-9);
+    }
+
+    @Test
+    public void testMarketplaceBonus() {
+        Player opp = new Player();
+        opp.isBot = true;
+        opp.placeCard(1, 0, region("Field", 3));
+        opp.placeCard(1, 2, region("Hill", 5));
+        player.placeCard(1, 0, region("Forest", 3));
+
+        assertEquals(1.0 / 6.0, player.getProductionProfile().expectedMarketplaceBonus(opp.getProductionProfile()), 1e-9,
+                "Opponent only has more regions on face 5");
+    }
+}
@@ -0,0 +1,110 @@
+package model.events;
+
+import model.AdvantageType;
+import model.Card;
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that state changes are published on the shared GameEventBus.
+ */
+public class GameEventBusTest {
+
+    private Player player1;
+    private Player player2;
+    private GameEventBus bus;
+    private List<String> seen;
+
+    @BeforeEach
+    public void setUp() {
+        player1 = new Player();
+        player1.isBot = true;
+        player2 = new Player();
+        player2.isBot = true;
+        bus = new GameEventBus();
+        player1.setEventBus(bus);
+        player2.setEventBus(bus);
+
+        seen = new ArrayList<>();
+        bus.subscribe(new IGameEventListener() {
+            @Override
+            public void onCardPlaced(Player player, Card card, int row, int col) {
+                seen.add("placed " + (card == null ? "null" : card.name) + " " + row + "," + col);
+            }
+
+            @Override
+            public void onResourcesChanged(Player player, int resource, int delta) {
+                seen.add("res " + resource + " " + delta);
+            }
+
+            @Override
+            public void onAdvantageChanged(Player player, AdvantageType type, boolean gained) {
+                seen.add((player == player1 ? "p1 " : "p2 ") + type + " " + gained);
+            }
+        });
+    }
+
+    private static Card region(String name) {
+        Card c = new Card();
+        c.name = name;
+        c.type = "Region";
+        c.diceRoll = 1;
+        return c;
+    }
+
+    @Test
+    public void testCardPlacedAndRemoved() {
+        player1.placeCard(1, 0, region("Forest"));
+        player1.removeCard(1, 0);
+        assertEquals(List.of("placed Forest 1,0", "placed null 1,0"), seen);
+    }
+
+    @Test
+    public void testResourcesChanged() {
+        player1.placeCard(1, 0, region("Forest"));
+        seen.clear();
+        player1.gainResource("Lumber");
+        player1.setResourceCount("Lumber", 3);
+        player1.removeResource("Lumber", 2);
+        player1.setResourceCount("Lumber", 0);
+        assertEquals(List.of("res 2 1", "res 2 2", "res 2 -2", "res 2 -1"), seen);
+    }
+
+    @Test
+    public void testAdvantageChanged() {
+        Card settlement = new Card();
+        settlement.name = "Settlement";
+        player2.placeCard(2, 2, settlement);
+        player1.commercePoints = 3;
+        player2.commercePoints = 2;
+        seen.clear();
+
+        Card ship = new Card();
+        ship.name = "Test Trade Ship";
+        ship.type = "Unit – Trade Ship";
+        ship.placement = "Settlement/city";
+        ship.CP = "2";
+        ship.applyEffect(player2, player1, 1, 2);
+
+        assertTrue(seen.contains("p2 TRADE true"), seen.toString());
+        assertTrue(seen.contains("p1 TRADE false"), seen.toString());
+    }
+
+    @Test
+    public void testUnsubscribe() {
+        GameEventBus other = new GameEventBus();
+        IGameEventListener l = new IGameEventListener() {
+        };
+        assertFalse(other.hasSubscribers());
+        other.subscribe(l);
+        assertTrue(other.hasSubscribers());
+        other.unsubscribe(l);
+        assertFalse(other.hasSubscribers());
+    }
+}
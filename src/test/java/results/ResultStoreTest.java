@@ -0,0 +1,148 @@
+package results;
+
+import bot.BotGames;
+import controller.GameEngine;
+import model.CardCatalogue;
+import model.Era;
+import model.Player;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the columnar result store, its collector and the queries.
+ */
+public class ResultStoreTest {
+
+    @TempDir
+    Path dir;
+
+    private static GameResult result(int winner, int first, int turns) {
+        GameResult r = new GameResult();
+        r.winner = winner;
+        r.first = first;
+        r.turns = turns;
+        return r;
+    }
+
+    @Test
+    public void testRowsRoundTrip() throws IOException {
+        Path store = dir.resolve("rt");
+        try (ResultStore s = ResultStore.create(store, List.of("Road", "Settlement", "City"))) {
+            GameResult r = result(1, 0, 31);
+            r.vp[1] = 7;
+            r.cp[0] = 3;
+            r.fp[1] = 2;
+            r.events[6] = 9;
+            r.markPlayed(1, 2);
+            s.append(r);
+            s.append(result(-1, 1, 300));
+        }
+        try (ResultStore s = ResultStore.open(store)) {
+            assertEquals(2, s.rows());
+            assertEquals(2, s.cardId("City"));
+            GameResult r = s.get(0);
+            assertEquals(1, r.winner);
+            assertEquals(31, r.turns);
+            assertEquals(7, r.vp[1]);
+            assertEquals(3, r.cp[0]);
+            assertEquals(2, r.fp[1]);
+            assertEquals(9, r.events[6]);
+            assertTrue(r.hasPlayed(1, 2));
+            assertFalse(r.hasPlayed(0, 2));
+            assertEquals(-1, s.get(1).winner);
+            assertEquals(300, s.get(1).turns);
+            assertThrows(IllegalStateException.class, () -> s.append(r));
+        }
+    }
+
+    @Test
+    public void testColumnCrossesChunks() throws IOException {
+        long rows = ColumnFile.CHUNK_ROWS + 10L;
+        try (ColumnFile c = ColumnFile.create(dir, "big", 1)) {
+            for (long row = 0; row < rows; row++)
+                c.put(row, row % 100);
+            c.finish();
+        }
+        try (ColumnFile c = ColumnFile.openReadOnly(dir, "big", 1)) {
+            assertEquals(5, c.get(5));
+            assertEquals(ColumnFile.CHUNK_ROWS % 100, c.get(ColumnFile.CHUNK_ROWS));
+            assertEquals((rows - 1) % 100, c.get(rows - 1));
+        }
+        // Never truncated: the file ends on a chunk boundary, the store header holds the row count
+        assertEquals(2L * ColumnFile.CHUNK_ROWS, java.nio.file.Files.size(dir.resolve("big.col")));
+    }
+
+    @Test
+    public void testOpenRejectsShortColumn() throws IOException {
+        Path store = dir.resolve("short");
+        try (ResultStore s = ResultStore.create(store, List.of("Road"))) {
+            s.append(result(0, 0, 10));
+        }
+        try (java.nio.channels.FileChannel ch = java.nio.channels.FileChannel.open(store.resolve("turns.col"),
+                java.nio.file.StandardOpenOption.WRITE)) {
+            ch.truncate(1);
+        }
+        assertThrows(IOException.class, () -> ResultStore.open(store));
+    }
+
+    @Test
+    public void testQueries() throws IOException {
+        Path store = dir.resolve("q");
+        try (ResultStore s = ResultStore.create(store, List.of("Road", "Settlement", "City"))) {
+            GameResult a = result(0, 0, 20); // first player wins, placed a City
+            a.markPlayed(0, 2);
+            a.markPlayed(1, 2);
+            s.append(a);
+            s.append(result(0, 1, 30)); // second player wins
+            s.append(result(1, 1, 40)); // first player wins
+            s.append(result(-1, 0, 60)); // undecided
+        }
+        try (ResultStore s = ResultStore.open(store)) {
+            ResultQuery q = new ResultQuery(s);
+            assertArrayEquals(new long[] { 4, 3, 150 }, q.summary());
+            assertArrayEquals(new long[] { 2, 1 }, q.winsByFirstPlayer());
+            assertArrayEquals(new long[] { 2, 1 }, q.winsBySeat());
+            long[][] cards = q.winsByCard();
+            assertArrayEquals(new long[] { 2, 1 }, cards[2]);
+            assertArrayEquals(new long[] { 0, 0 }, cards[0]);
+        }
+    }
+
+    @Test
+    public void testCollectorRecordsBotGames() throws IOException {
+        CardCatalogue catalogue = CardCatalogue.get("cards.json");
+        Path store = dir.resolve("bots");
+        List<Integer> winners = new ArrayList<>();
+        try (ResultStore s = ResultStore.create(store, catalogue)) {
+            for (long seed = 0; seed < 3; seed++) {
+                List<Player> players = BotGames.newGame(catalogue.deckBuilder(Era.INTRO), new Random(seed));
+                ResultCollector collector = new ResultCollector(s);
+                collector.attach(players);
+                int winner = new GameEngine(seed).runHeadless(players, 80);
+                GameResult r = collector.finish(winner);
+                winners.add(winner);
+                assertEquals(players.get(0).victoryPoints, r.vp[0]);
+            }
+        }
+        try (ResultStore s = ResultStore.open(store)) {
+            assertEquals(3, s.rows());
+            for (int g = 0; g < 3; g++) {
+                GameResult r = s.get(g);
+                assertEquals((int) winners.get(g), r.winner);
+                assertTrue(r.turns > 0);
+                int rolls = 0;
+                for (int face = 1; face <= 6; face++)
+                    rolls += r.events[face];
+                assertEquals(r.turns, rolls, "one event roll per turn");
+            }
+        }
+    }
+}
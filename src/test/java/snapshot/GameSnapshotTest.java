@@ -0,0 +1,169 @@
+package snapshot;
+
+import bot.BotGames;
+import bot.BotPlayer;
+import controller.GameEngine;
+import journal.StateHash;
+import model.Card;
+import model.CardCatalogue;
+import model.Era;
+import model.GameDecks;
+import model.Pile;
+import model.Player;
+import model.events.GameEventBus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for game snapshots: capture, restore and resuming play.
+ */
+public class GameSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    private static List<Player> seats() {
+        GameEventBus bus = new GameEventBus();
+        List<Player> players = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            Player p = new BotPlayer();
+            p.setEventBus(bus);
+            players.add(p);
+        }
+        return players;
+    }
+
+    private static List<Player> newGame(long seed) throws IOException {
+        return BotGames.newGame(CardCatalogue.get("cards.json").deckBuilder(Era.INTRO), new Random(seed));
+    }
+
+    private static List<String> names(Pile pile) {
+        List<String> out = new ArrayList<>();
+        for (Card c : pile)
+            out.add(c.name);
+        return out;
+    }
+
+    @Test
+    public void testRestoreReproducesState() throws IOException {
+        List<Player> players = newGame(3);
+        players.get(0).victoryPoints = 4;
+        players.get(1).abilities.setBits(0b1010);
+        Random dice = new Random(11);
+        byte[] data = GameSnapshot.capture(players, dice, 1, 9);
+
+        GameSnapshot.Restored r = GameSnapshot.restore(data, seats());
+        assertEquals(StateHash.of(players), StateHash.of(r.players));
+        assertEquals(1, r.current);
+        assertEquals(9, r.turn);
+        assertEquals(4, r.players.get(0).victoryPoints);
+        assertEquals(0b1010, r.players.get(1).abilities.bits());
+        assertEquals(players.get(0).resources, r.players.get(0).resources);
+        assertSame(r.decks, r.players.get(1).getDecks());
+        GameDecks original = players.get(0).getDecks();
+        for (int i = 0; i < original.piles().size(); i++)
+            assertEquals(names(original.piles().get(i)), names(r.decks.piles().get(i)));
+        // Random sources continue where they were
+        assertEquals(dice.nextLong(), r.engineRandom.nextLong());
+        assertEquals(original.getRandom().nextLong(), r.decks.getRandom().nextLong());
+    }
+
+    @Test
+    public void testResumedGameMatchesUninterruptedGame() throws IOException {
+        Path file = dir.resolve("game.snap");
+        List<Player> players = newGame(5);
+        GameEngine engine = new GameEngine(21L);
+        int winner;
+        try (Snapshotter snapshots = new Snapshotter(file, engine)) {
+            snapshots.attach(players, 0);
+            winner = engine.runHeadless(players, 6);
+        }
+        assertEquals(-1, winner, "game should still be running after 6 turns");
+
+        GameSnapshot.Restored r = GameSnapshot.read(file, seats());
+        assertEquals(6, r.turn);
+        assertEquals(StateHash.of(players), StateHash.of(r.players));
+
+        // Both copies play on from the same turn boundary
+        int expected = engine.runHeadless(players, 30, r.current);
+        int resumed = new GameEngine(r.engineRandom).runHeadless(r.players, 30, r.current);
+        assertEquals(expected, resumed);
+        assertEquals(StateHash.of(players), StateHash.of(r.players));
+    }
+
+    @Test
+    public void testRejectsWrongSeatCountAndGarbage() throws IOException {
+        byte[] data = GameSnapshot.capture(newGame(1), new Random(), 0, 0);
+        List<Player> three = seats();
+        three.add(new BotPlayer());
+        assertThrows(IOException.class, () -> GameSnapshot.restore(data, three));
+        assertThrows(IOException.class, () -> GameSnapshot.restore(new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }, seats()));
+        byte[] cut = java.util.Arrays.copyOf(data, data.length / 2);
+        assertThrows(IOException.class, () -> GameSnapshot.restore(cut, seats()));
+    }
+
+    @Test
+    public void testRandomSourceAcceptsOnlyJavaUtilRandom() throws IOException {
+        assertNotNull(GameSnapshot.readRandom(randomBlob(new Random(7))));
+        assertThrows(IOException.class, () -> GameSnapshot.readRandom(randomBlob(new ArrayList<>(List.of(1, 2)))));
+        assertThrows(IOException.class, () -> GameSnapshot.readRandom(randomBlob(new java.util.Date())));
+        assertThrows(IllegalArgumentException.class,
+                () -> GameSnapshot.capture(newGame(1), new java.security.SecureRandom(), 0, 0));
+    }
+
+    @Test
+    public void testCorruptLengthIsAnIOException() throws IOException {
+        ByteArrayOutputStream b = new ByteArrayOutputStream();
+        java.io.DataOutputStream out = new java.io.DataOutputStream(b);
+        out.writeInt(GameSnapshot.MAGIC);
+        out.writeInt(GameSnapshot.VERSION);
+        out.writeByte(0); // turn
+        out.writeByte(0); // current
+        out.write(framed(new Random(1)));
+        out.write(framed(new Random(2)));
+        out.write(new byte[] { (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07 }); // 2^31 - 1 faces
+        assertThrows(IOException.class, () -> GameSnapshot.restore(b.toByteArray(), seats()));
+    }
+
+    // Length-prefixed serialized object, as the snapshot stores its random sources
+    private static DataInputStream randomBlob(Object o) throws IOException {
+        return new DataInputStream(new ByteArrayInputStream(framed(o)));
+    }
+
+    private static byte[] framed(Object o) throws IOException {
+        ByteArrayOutputStream b = new ByteArrayOutputStream();
+        try (ObjectOutputStream out = new ObjectOutputStream(b)) {
+            out.writeObject(o);
+        }
+        ByteArrayOutputStream framed = new ByteArrayOutputStream();
+        for (int v = b.size(); ; v >>>= 7) {
+            if ((v & ~0x7F) == 0) {
+                framed.write(v);
+                break;
+            }
+            framed.write((v & 0x7F) | 0x80);
+        }
+        b.writeTo(framed);
+        return framed.toByteArray();
+    }
+
+    @Test
+    public void testSnapshotIsCompact() throws IOException {
+        Path file = dir.resolve("small.snap");
+        Files.write(file, GameSnapshot.capture(newGame(2), new Random(), 0, 0));
+        assertTrue(Files.size(file) < 32 * 1024, "snapshot is " + Files.size(file) + " bytes");
+    }
+}
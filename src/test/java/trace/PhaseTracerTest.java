@@ -0,0 +1,94 @@
+package trace;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import model.CardCatalogue;
+import model.Era;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the phase tracer and its exports.
+ */
+public class PhaseTracerTest {
+
+    @Test
+    public void testNestedSpansAndSelfTime() throws IOException {
+        PhaseTracer t = new PhaseTracer(16);
+        int outer = t.phase("Turn");
+        int inner = t.phase("Action");
+        assertEquals(outer, t.phase("Turn"));
+        for (int i = 0; i < 3; i++) {
+            t.begin(outer);
+            t.begin(inner);
+            t.end();
+            t.end();
+        }
+        assertEquals(3, t.count("Turn"));
+        assertEquals(3, t.count("Turn", null));
+        assertEquals(3, t.count("Action", "Turn"));
+        assertEquals(0, t.count("Action", null));
+        assertEquals(t.nanos("Turn"), t.selfNanos("Turn") + t.nanos("Action"));
+        assertEquals(6, t.timelineSize());
+
+        StringWriter folded = new StringWriter();
+        t.writeCollapsed(folded, false);
+        assertTrue(folded.toString().contains("Turn;Action " + t.selfNanos("Action") + "\n"), folded.toString());
+        assertThrows(IllegalStateException.class, t::end);
+    }
+
+    @Test
+    public void testTimelineCapacity() {
+        PhaseTracer t = new PhaseTracer(2);
+        int p = t.phase("Dice");
+        for (int i = 0; i < 5; i++) {
+            t.begin(p);
+            t.end();
+        }
+        assertEquals(5, t.count("Dice"));
+        assertEquals(2, t.timelineSize());
+        assertEquals(3, t.droppedEvents());
+        t.reset();
+        assertEquals(0, t.count("Dice"));
+        assertEquals(0, t.timelineSize());
+    }
+
+    @Test
+    public void testAllocationIsAttributed() {
+        PhaseTracer t = new PhaseTracer();
+        if (!t.measuresAllocation())
+            return;
+        int p = t.phase("Alloc");
+        t.begin(p);
+        byte[] junk = new byte[1 << 20];
+        t.end();
+        assertEquals(1 << 20, junk.length);
+        assertTrue(t.bytes("Alloc") >= 1 << 20, "bytes " + t.bytes("Alloc"));
+    }
+
+    @Test
+    public void testEngineTracesEveryPhaseOfEveryTurn() throws IOException {
+        PhaseTracer t = new PhaseTracer(10_000);
+        PhaseProfile.run(CardCatalogue.get("cards.json").deckBuilder(Era.INTRO), 2, 7, t);
+        long turns = t.count("Turn", null);
+        assertTrue(turns > 0);
+        for (String phase : List.of("Dice", "Production", "Event Resolution", "Action", "Replenish", "Exchange",
+                "Win Check", "Turn End"))
+            assertEquals(turns, t.count(phase, "Turn"), phase);
+
+        StringWriter json = new StringWriter();
+        t.writeChromeTrace(json);
+        JsonArray events = JsonParser.parseString(json.toString()).getAsJsonObject()
+                .getAsJsonArray("traceEvents");
+        assertEquals(t.timelineSize(), events.size());
+        JsonObject first = events.get(0).getAsJsonObject();
+        assertEquals("X", first.get("ph").getAsString());
+        assertTrue(first.get("dur").getAsDouble() >= 0);
+    }
+}
@@ -0,0 +1,84 @@
+package util;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Test helper: bytes allocated per call of an operation, read from the
+ * thread's allocation counter ({@code com.sun.management.ThreadMXBean}).
+ *
+ * The operation is warmed up first so the measured calls run compiled code,
+ * then measured over several rounds; the best round counts, which filters out
+ * one-off allocations (class loading, deoptimisation) from real per-call garbage.
+ */
+public final class AllocationMeter {
+
+    /**
+     * Operation under test; return something derived from the work so the JIT keeps it.
+     */
+    @FunctionalInterface
+    public interface Op {
+        long run();
+    }
+
+    public static final int WARMUP_CALLS = 50_000;
+    public static final int MEASURED_CALLS = 20_000;
+    public static final int ROUNDS = 5;
+
+    private static volatile long sink;
+
+    private AllocationMeter() {
+    }
+
+    private static com.sun.management.ThreadMXBean bean() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean))
+            return null;
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        if (!bean.isThreadAllocatedMemorySupported())
+            return null;
+        bean.setThreadAllocatedMemoryEnabled(true);
+        return bean;
+    }
+
+    /**
+     * Lowest average bytes per call over the measured rounds.
+     */
+    public static double bytesPerCall(Op op) {
+        com.sun.management.ThreadMXBean bean = bean();
+        assumeTrue(bean != null, "JVM does not count allocated bytes per thread");
+        long thread = Thread.currentThread().getId();
+        long acc = 0;
+        for (int i = 0; i < WARMUP_CALLS; i++)
+            acc += op.run();
+
+        // What reading the counter costs on its own
+        long overhead = Long.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long before = bean.getThreadAllocatedBytes(thread);
+            long after = bean.getThreadAllocatedBytes(thread);
+            overhead = Math.min(overhead, after - before);
+        }
+
+        long best = Long.MAX_VALUE;
+        for (int r = 0; r < ROUNDS; r++) {
+            long before = bean.getThreadAllocatedBytes(thread);
+            for (int i = 0; i < MEASURED_CALLS; i++)
+                acc += op.run();
+            long after = bean.getThreadAllocatedBytes(thread);
+            best = Math.min(best, Math.max(0, after - before - overhead));
+        }
+        sink = acc;
+        return (double) best / MEASURED_CALLS;
+    }
+
+    /**
+     * Fail if one call of {@code op} allocates more than {@code budget} bytes on average.
+     */
+    public static void assertWithinBudget(String name, long budget, Op op) {
+        double perCall = bytesPerCall(op);
+        assertTrue(perCall <= budget, String.format("%s allocates %.1f bytes per call (budget %d)",
+                name, perCall, budget));
+    }
+}
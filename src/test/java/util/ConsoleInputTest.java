@@ -0,0 +1,34 @@
+package util;
+
+import model.Player;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that console players share one reader on standard input.
+ */
+public class ConsoleInputTest {
+
+    @AfterEach
+    public void tearDown() {
+        ConsoleInput.setInput(System.in);
+    }
+
+    @Test
+    public void testPlayersReadFromOneSharedReader() {
+        ConsoleInput.setInput(new ByteArrayInputStream("first\nsecond\nthird\n".getBytes(StandardCharsets.UTF_8)));
+        Player a = new Player();
+        Player b = new Player();
+        // A reader per player would buffer ahead and swallow the other player's lines
+        assertEquals("first", a.receiveMessage());
+        assertEquals("second", b.receiveMessage());
+        assertEquals("third", a.receiveMessage());
+        assertThrows(NoSuchElementException.class, b::receiveMessage);
+    }
+}
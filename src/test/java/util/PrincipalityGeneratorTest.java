@@ -0,0 +1,112 @@
+package util;
+
+import model.Card;
+import model.Player;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests that generated boards have the requested size and obey the placement rules.
+ */
+public class PrincipalityGeneratorTest {
+
+    private static PrincipalityGenerator generator;
+
+    @BeforeAll
+    public static void setUp() throws IOException {
+        generator = PrincipalityGenerator.fromCards("cards.json");
+    }
+
+    @Test
+    public void testWidthRoundsUpToOdd() {
+        List<Player> players = generator.generateGame(200, 0.5, 1, PrincipalityGeneratorTest::newBot);
+        assertEquals(201, players.get(0).principality.get(0).size());
+        assertEquals(5, generator.generateGame(1, 0.5, 1, PrincipalityGeneratorTest::newBot).get(0).principality.get(0).size());
+    }
+
+    @Test
+    public void testBoardsFollowPlacementRules() {
+        for (Player p : generator.generateGame(101, 0.8, 7, PrincipalityGeneratorTest::newBot)) {
+            int cols = p.principality.get(0).size();
+            for (int c = 0; c < cols; c++) {
+                Card center = p.getCard(2, c);
+                if (PlacementValidator.nameMatches(center, "Road"))
+                    assertFalse(PlacementValidator.nameMatches(p.getCard(2, c + 1), "Road"), "Adjacent roads at " + c);
+                if (PlacementValidator.isSettlementOrCity(center)) {
+                    assertFalse(PlacementValidator.isSettlementOrCity(p.getCard(2, c + 1)), "Adjacent settlements at " + c);
+                    assertTrue(PlacementValidator.nameMatches(p.getCard(2, c - 1), "Road")
+                            || PlacementValidator.nameMatches(p.getCard(2, c + 1), "Road"), "Settlement without road at " + c);
+                }
+                for (int r = 0; r < p.principality.size(); r++) {
+                    Card card = p.getCard(r, c);
+                    if (PlacementValidator.isRegionCard(card))
+                        assertFalse(PlacementValidator.isCenterSlot(r), "Region in center row");
+                    if (isSettlementExpansion(card))
+                        assertTrue(PlacementValidator.isAboveOrBelowSettlementOrCity(p, r, c),
+                                "Expansion not next to settlement at (" + r + "," + c + ")");
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testOneOfCardsAppearOnce() {
+        Player p = generator.generateGame(301, 1.0, 3, PrincipalityGeneratorTest::newBot).get(0);
+        for (String name : new String[] { "Marketplace", "Parish Hall", "Abbey" }) {
+            int count = 0;
+            for (List<Card> row : p.principality)
+                for (Card c : row)
+                    if (PlacementValidator.nameMatches(c, name))
+                        count++;
+            assertTrue(count <= 1, name + " placed " + count + " times");
+        }
+    }
+
+    @Test
+    public void testSameSeedSameBoard() {
+        Player a = generator.generateGame(51, 0.5, 11, PrincipalityGeneratorTest::newBot).get(0);
+        Player b = generator.generateGame(51, 0.5, 11, PrincipalityGeneratorTest::newBot).get(0);
+        for (int r = 0; r < a.principality.size(); r++)
+            for (int c = 0; c < a.principality.get(r).size(); c++) {
+                Card x = a.getCard(r, c), y = b.getCard(r, c);
+                assertEquals(x == null ? null : x.name, y == null ? null : y.name);
+                if (x != null) {
+                    assertEquals(x.diceRoll, y.diceRoll);
+                    assertEquals(x.regionProduction, y.regionProduction);
+                }
+            }
+        assertEquals(a.victoryPoints, b.victoryPoints);
+    }
+
+    @Test
+    public void testDensityFillsExpansionSlots() {
+        Player sparse = generator.generateGame(101, 0.0, 5, PrincipalityGeneratorTest::newBot).get(0);
+        Player dense = generator.generateGame(101, 1.0, 5, PrincipalityGeneratorTest::newBot).get(0);
+        assertEquals(0, countExpansions(sparse));
+        assertTrue(countExpansions(dense) > 50, "Dense board should have many expansions");
+    }
+
+    private static Player newBot() {
+        Player p = new Player();
+        p.isBot = true;
+        return p;
+    }
+
+    private static boolean isSettlementExpansion(Card c) {
+        return c != null && "Settlement/city".equalsIgnoreCase(c.placement);
+    }
+
+    private static int countExpansions(Player p) {
+        int n = 0;
+        for (List<Card> row : p.principality)
+            for (Card c : row)
+                if (isSettlementExpansion(c))
+                    n++;
+        return n;
+    }
+}